@@ -130,7 +130,7 @@ public class ActionTimelineState extends TimelineState {
             if (this._frameCount > 1) {
                 TimelineData timelineData = this._timelineData;
                 int timelineFrameIndex = (int) Math.floor(this.currentTime * this._frameRate); // uint
-                int frameIndex = this._frameIndices.get(timelineData.frameIndicesOffset + timelineFrameIndex);
+                int frameIndex = this._getFrameIndex(timelineFrameIndex);
                 if (this._frameIndex != frameIndex) { // Arrive at frame.
                     int crossedFrameIndex = this._frameIndex;
                     this._frameIndex = frameIndex;
@@ -139,7 +139,7 @@ public class ActionTimelineState extends TimelineState {
                         if (isReverse) {
                             if (crossedFrameIndex < 0) {
                                 int prevFrameIndex = (int) Math.floor(prevTime * this._frameRate);
-                                crossedFrameIndex = this._frameIndices.get(timelineData.frameIndicesOffset + prevFrameIndex);
+                                crossedFrameIndex = this._getFrameIndex(prevFrameIndex);
                                 if (this.currentPlayTimes == prevPlayTimes) { // Start.
                                     if (crossedFrameIndex == frameIndex) { // Uncrossed.
                                         crossedFrameIndex = -1;
@@ -176,7 +176,7 @@ public class ActionTimelineState extends TimelineState {
                         } else {
                             if (crossedFrameIndex < 0) {
                                 int prevFrameIndex = (int) Math.floor(prevTime * this._frameRate);
-                                crossedFrameIndex = this._frameIndices.get(timelineData.frameIndicesOffset + prevFrameIndex);
+                                crossedFrameIndex = this._getFrameIndex(prevFrameIndex);
                                 int frameOffset = this._animationData.frameOffset + this._timelineArray.get(timelineData.offset + BinaryOffset.TimelineFrameOffset.v + crossedFrameIndex);
                                 // const framePosition = this._frameArray[frameOffset] * this._frameRateR; // Precision problem
                                 float framePosition = this._frameArray.get(frameOffset) / this._frameRate;
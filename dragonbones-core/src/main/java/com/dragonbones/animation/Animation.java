@@ -5,10 +5,15 @@ import com.dragonbones.armature.Bone;
 import com.dragonbones.armature.Slot;
 import com.dragonbones.core.AnimationFadeOutMode;
 import com.dragonbones.core.BaseObject;
+import com.dragonbones.core.DragonBones;
+import com.dragonbones.geom.Transform;
 import com.dragonbones.model.AnimationConfig;
 import com.dragonbones.model.AnimationData;
+import com.dragonbones.model.BlendPoseCacheData;
+import com.dragonbones.model.FrameCacheData;
 import com.dragonbones.util.Array;
 import com.dragonbones.util.Console;
+import com.dragonbones.util.FloatArray;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
@@ -33,6 +38,8 @@ public class Animation extends BaseObject {
     public float timeScale;
 
     private boolean _animationDirty; // Update bones and slots cachedFrameIndices.
+    @Nullable
+    private FrameCacheData _frameCache; // Compare with AnimationData#frameCache to catch cleared caches.
     /**
      * @internal
      * @private
@@ -41,6 +48,19 @@ public class Animation extends BaseObject {
     private final Array<String> _animationNames = new Array<>();
     private final Array<AnimationState> _animationStates = new Array<>();
     private final Map<String, AnimationData> _animations = new HashMap<>();
+    private final Array<AnimationData> _animationList = new Array<>(); // Same order as animation names.
+    private final Array<BoneTimelineState> _spareBoneTimelines = new Array<>(); // Index is bone index.
+    private final Array<BonePose> _spareBonePoses = new Array<>(); // Index is bone index.
+    private final Array<SlotTimelineState> _spareSlotTimelines = new Array<>(); // Index is slot index * 3 + timeline kind.
+    private final Array<AnimationState> _blendStates = new Array<>(); // Blended animation states of last update.
+    private final Array<AnimationData> _blendAnimations = new Array<>();
+    private final FloatArray _blendWeights = new FloatArray(); // Weight and layer of each blended animation state.
+    private final StringBuilder _blendPoseKey = new StringBuilder();
+    private int _blendPoseFrameCount = 0;
+    @Nullable
+    private BlendPoseCacheData _blendPoseCache = null; // Compare with ArmatureData#getBlendPoseCache() to catch cleared caches.
+    @Nullable
+    private BlendPoseCacheData.Poses _blendPoses = null; // Index is blended cache frame index.
     private Armature _armature;
     @Nullable
     private AnimationConfig _animationConfig = null; // Initial value.
@@ -55,9 +75,14 @@ public class Animation extends BaseObject {
             animationState.returnToPool();
         }
 
-        for (String k : this._animations.keySet()) {
-            this._animations.remove(k);
-        }
+        this._animations.clear();
+        Animation._returnSpares(this._spareBoneTimelines);
+        Animation._returnSpares(this._spareBonePoses);
+        Animation._returnSpares(this._spareSlotTimelines);
+        this._blendStates.clear();
+        this._blendAnimations.clear();
+        this._blendWeights.clear();
+        this._blendPoseKey.setLength(0);
 
         if (this._animationConfig != null) {
             this._animationConfig.returnToPool();
@@ -67,15 +92,283 @@ public class Animation extends BaseObject {
 
         this._animationDirty = false;
         this._timelineDirty = false;
+        this._frameCache = null;
+        this._blendPoseFrameCount = 0;
+        this._blendPoseCache = null;
+        this._blendPoses = null;
         this._animationNames.clear();
+        this._animationList.clear();
         this._animationStates.clear();
-        //this._animations.clear();
         this._armature = null; //
         this._animationConfig = null; //
         this._lastAnimationState = null;
     }
 
-    private void _fadeOut(AnimationConfig animationConfig) {
+    private static void _returnSpares(Array<? extends BaseObject> spares) {
+        for (int i = 0, l = spares.size(); i < l; ++i) {
+            BaseObject object = spares.get(i);
+            if (object != null) {
+                object.returnToPool();
+            }
+        }
+
+        spares.clear();
+    }
+
+    private static <T extends BaseObject> void _addSpare(Array<T> spares, int index, T object) {
+        if (index >= spares.size()) {
+            spares.setLength(index + 1);
+        }
+
+        if (spares.get(index) == null) {
+            spares.set(index, object);
+        } else { // Keep one spare object per bone or slot timeline.
+            object.returnToPool();
+        }
+    }
+
+    @Nullable
+    private static <T extends BaseObject> T _getSpare(Array<T> spares, int index) {
+        if (index >= spares.size()) {
+            return null;
+        }
+
+        T object = spares.get(index);
+        if (object != null) {
+            spares.set(index, null);
+        }
+
+        return object;
+    }
+
+    /**
+     * @private
+     */
+    void _addSpareBoneTimeline(BoneTimelineState timeline, int boneIndex) {
+        Animation._addSpare(this._spareBoneTimelines, boneIndex, timeline);
+    }
+
+    /**
+     * @private
+     */
+    void _addSpareSlotTimeline(SlotTimelineState timeline, int slotIndex, int kind) {
+        Animation._addSpare(this._spareSlotTimelines, slotIndex * 3 + kind, timeline);
+    }
+
+    /**
+     * @private
+     */
+    void _addSpareBonePose(BonePose bonePose, int boneIndex) {
+        Animation._addSpare(this._spareBonePoses, boneIndex, bonePose);
+    }
+
+    /**
+     * @private
+     */
+    void _retargetTimelines(AnimationState animationState) {
+        for (int i = 0, l = this._animationStates.size(); i < l; ++i) {
+            AnimationState eachState = this._animationStates.get(i);
+            if (eachState != animationState && eachState._fadeState > 0) {
+                eachState._retargetTimelines(this, animationState);
+            }
+        }
+    }
+
+    /**
+     * @private
+     */
+    <T extends BoneTimelineState> T _borrowBoneTimeline(Class<T> clazz, int boneIndex) {
+        BoneTimelineState timeline = Animation._getSpare(this._spareBoneTimelines, boneIndex);
+        if (timeline != null) {
+            if (clazz.isInstance(timeline)) {
+                return clazz.cast(timeline);
+            }
+
+            timeline.returnToPool();
+        }
+
+        return BaseObject.borrowObject(clazz);
+    }
+
+    /**
+     * @private
+     */
+    <T extends SlotTimelineState> T _borrowSlotTimeline(Class<T> clazz, int slotIndex, int kind) {
+        SlotTimelineState timeline = Animation._getSpare(this._spareSlotTimelines, slotIndex * 3 + kind);
+        if (timeline != null) {
+            return clazz.cast(timeline);
+        }
+
+        return BaseObject.borrowObject(clazz);
+    }
+
+    /**
+     * @private
+     */
+    BonePose _borrowBonePose(int boneIndex) {
+        BonePose bonePose = Animation._getSpare(this._spareBonePoses, boneIndex);
+        return bonePose != null ? bonePose : BaseObject.borrowObject(BonePose.class);
+    }
+
+    /**
+     * 多个动画状态稳定混合时 (动画状态、权重和层级不变，没有淡入淡出，都开启了动画缓存)，
+     * 以各动画状态的缓存帧索引作为键缓存骨骼的混合姿势，之后采样到相同的缓存帧时直接重用。
+     * 混合姿势缓存由同一个骨架数据创建的骨架共享，以混合的动画、权重、层级和骨骼遮罩区分。
+     */
+    private boolean _checkBlendPose() {
+        int maxCount = DragonBones.blendPoseCacheSize;
+        boolean isSteady = maxCount > 0 && !this._timelineDirty;
+        int frameCount = 1;
+        for (int i = 0, l = this._animationStates.size(); i < l && isSteady; ++i) {
+            AnimationState animationState = this._animationStates.get(i);
+            FrameCacheData frameCache = animationState.animationData.frameCache;
+            if (
+                    animationState._fadeState != 0 || animationState._subFadeState != 0 ||
+                            animationState._timelineDirty || frameCache == null
+                    ) {
+                isSteady = false;
+            } else {
+                frameCount *= frameCache.frameCount;
+                isSteady = frameCount <= maxCount;
+            }
+        }
+
+        if (!isSteady) {
+            this._blendStates.clear();
+            return false;
+        }
+
+        int stateCount = this._animationStates.size();
+        boolean isSame = this._blendStates.size() == stateCount;
+        for (int i = 0; i < stateCount && isSame; ++i) {
+            AnimationState animationState = this._animationStates.get(i);
+            isSame = this._blendStates.get(i) == animationState &&
+                    this._blendAnimations.get(i) == animationState.animationData &&
+                    this._blendWeights.get(i * 2) == animationState.weight &&
+                    this._blendWeights.get(i * 2 + 1) == animationState.layer;
+        }
+
+        if (isSame) {
+            return true;
+        }
+
+        // Blended poses are only cached after the animation states stay the same for one update.
+        this._blendStates.setLength(stateCount);
+        this._blendAnimations.setLength(stateCount);
+        this._blendWeights.setLength(stateCount * 2);
+        this._blendPoseKey.setLength(0);
+        this._blendPoseKey.append(frameCount);
+        for (int i = 0; i < stateCount; ++i) {
+            AnimationState animationState = this._animationStates.get(i);
+            this._blendStates.set(i, animationState);
+            this._blendAnimations.set(i, animationState.animationData);
+            this._blendWeights.set(i * 2, animationState.weight);
+            this._blendWeights.set(i * 2 + 1, animationState.layer);
+            animationState._appendBlendPoseKey(this._blendPoseKey);
+        }
+
+        this._blendPoseFrameCount = frameCount;
+        this._blendPoseCache = null; // Get poses of the new key.
+        this._blendPoses = null;
+
+        return false;
+    }
+
+    private void _updateBlendPose() {
+        int cacheIndex = 0;
+        int stride = 1;
+        for (int i = 0, l = this._animationStates.size(); i < l; ++i) {
+            AnimationState animationState = this._animationStates.get(i);
+            FrameCacheData frameCache = animationState.animationData.frameCache;
+            if (animationState._fadeState != 0 || animationState._subFadeState != 0 || frameCache == null) { // Fade out during update.
+                stride = -1;
+                break;
+            }
+
+            int frameIndex = (int) Math.floor(animationState._actionTimeline.currentTime * frameCache.frameRate);
+            frameIndex = Math.max(0, Math.min(frameIndex, frameCache.frameCount - 1));
+            cacheIndex += frameIndex * stride;
+            stride *= frameCache.frameCount;
+        }
+
+        if (stride != this._blendPoseFrameCount) { // Fade out or cache frame rate changed during update.
+            for (AnimationState eachState : this._animationStates) {
+                eachState._blendBoneTimelines();
+            }
+
+            this._blendStates.clear();
+            return;
+        }
+
+        BlendPoseCacheData blendPoseCache = this._armature.armatureData.getBlendPoseCache();
+        if (this._blendPoseCache != blendPoseCache || this._blendPoses == null) {
+            this._blendPoseCache = blendPoseCache;
+            this._blendPoses = blendPoseCache.getPoses(this._blendPoseKey.toString(), this._blendPoseFrameCount);
+        }
+
+        blendPoseCache._stampCache();
+
+        Array<Bone> bones = this._armature.getBones();
+        float[] pose = this._blendPoses.get(cacheIndex);
+        if (pose != null) { // Cached.
+            for (int i = 0, l = bones.size(); i < l; ++i) {
+                Bone bone = bones.get(i);
+                int offset = bone.boneData.index * BlendPoseCacheData.VALUE_COUNT;
+                if (offset + BlendPoseCacheData.VALUE_COUNT > pose.length || Float.isNaN(pose[offset])) { // Not blended.
+                    continue;
+                }
+
+                Transform animationPose = bone.animationPose;
+                if (
+                        animationPose.x != pose[offset] ||
+                                animationPose.y != pose[offset + 1] ||
+                                animationPose.rotation != pose[offset + 2] ||
+                                animationPose.skew != pose[offset + 3] ||
+                                animationPose.scaleX != pose[offset + 4] ||
+                                animationPose.scaleY != pose[offset + 5]
+                        ) {
+                    animationPose.x = pose[offset];
+                    animationPose.y = pose[offset + 1];
+                    animationPose.rotation = pose[offset + 2];
+                    animationPose.skew = pose[offset + 3];
+                    animationPose.scaleX = pose[offset + 4];
+                    animationPose.scaleY = pose[offset + 5];
+                    bone._transformDirty = true;
+                }
+            }
+
+            return;
+        }
+
+        for (int i = 0, l = this._animationStates.size(); i < l; ++i) {
+            this._animationStates.get(i)._blendBoneTimelines();
+        }
+
+        pose = new float[blendPoseCache.boneCount * BlendPoseCacheData.VALUE_COUNT];
+        for (int i = 0, l = bones.size(); i < l; ++i) {
+            Bone bone = bones.get(i);
+            int offset = bone.boneData.index * BlendPoseCacheData.VALUE_COUNT;
+            if (offset + BlendPoseCacheData.VALUE_COUNT > pose.length) {
+                continue;
+            }
+
+            if (bone._blendDirty) {
+                Transform animationPose = bone.animationPose;
+                pose[offset] = animationPose.x;
+                pose[offset + 1] = animationPose.y;
+                pose[offset + 2] = animationPose.rotation;
+                pose[offset + 3] = animationPose.skew;
+                pose[offset + 4] = animationPose.scaleX;
+                pose[offset + 5] = animationPose.scaleY;
+            } else {
+                pose[offset] = Float.NaN;
+            }
+        }
+
+        this._blendPoses.set(cacheIndex, pose); // Published once, other armatures may have published first.
+    }
+
+    private void _fadeOut(AnimationConfig animationConfig, int groupId) {
         switch (animationConfig.fadeOutMode) {
             case SameLayer:
                 for (AnimationState animationState : this._animationStates) {
@@ -87,7 +380,7 @@ public class Animation extends BaseObject {
 
             case SameGroup:
                 for (AnimationState animationState : this._animationStates) {
-                    if (Objects.equals(animationState.group, animationConfig.group)) {
+                    if (animationState.groupId == groupId) {
                         animationState.fadeOut(animationConfig.fadeOutTime, animationConfig.pauseFadeOut);
                     }
                 }
@@ -97,7 +390,7 @@ public class Animation extends BaseObject {
                 for (AnimationState animationState : this._animationStates) {
                     if (
                             animationState.layer == animationConfig.layer &&
-                                    Objects.equals(animationState.group, animationConfig.group)
+                                    animationState.groupId == groupId
                             ) {
                         animationState.fadeOut(animationConfig.fadeOutTime, animationConfig.pauseFadeOut);
                     }
@@ -151,34 +444,48 @@ public class Animation extends BaseObject {
         if (animationStateCount == 1) {
             AnimationState animationState = this._animationStates.get(0);
             if (animationState._fadeState > 0 && animationState._subFadeState > 0) {
+                animationState._recycleTimelines(this);
                 this._armature._dragonBones.bufferObject(animationState);
                 this._animationStates.clear();
                 this._lastAnimationState = null;
             } else {
                 AnimationData animationData = animationState.animationData;
-                float cacheFrameRate = animationData.cacheFrameRate;
-                if (this._animationDirty && cacheFrameRate > 0f) { // Update cachedFrameIndices.
-                    this._animationDirty = false;
-                    for (Bone bone : this._armature.getBones()) {
-                        bone._cachedFrameIndices = animationData.getBoneCachedFrameIndices(bone.name);
+                FrameCacheData frameCache = animationData.frameCache;
+                if (this._animationDirty || this._frameCache != frameCache) { // Update bones and slots frame cache.
+                    if (frameCache != null) {
+                        this._animationDirty = false;
+                        for (Bone bone : this._armature.getBones()) {
+                            bone._setFrameCache(frameCache, animationData.parent);
+                        }
+
+                        for (Slot slot : this._armature.getSlots()) {
+                            slot._setFrameCache(frameCache, animationData.parent);
+                        }
                     }
 
-                    for (Slot slot : this._armature.getSlots()) {
-                        slot._cachedFrameIndices = animationData.getSlotCachedFrameIndices(slot.name);
-                    }
+                    this._frameCache = frameCache;
+                    this._armature._cacheFrameIndex = -1; // Cache has been cleared or rebuilt.
                 }
 
                 if (this._timelineDirty) {
                     animationState.updateTimelines();
                 }
 
-                animationState.advanceTime(passedTime, cacheFrameRate);
+                Crowd crowd = frameCache == null ? this._armature._crowd : null;
+                if (crowd != null) { // Pose is evaluated once for the instances in the same frame.
+                    animationState._advanceTime(passedTime, null, false);
+                    crowd._updatePose(this._armature, animationState);
+                } else {
+                    animationState.advanceTime(passedTime, frameCache);
+                }
             }
         } else if (animationStateCount > 1) {
+            boolean isBlendPoseCached = this._checkBlendPose();
             for (int i = 0, r = 0; i < animationStateCount; ++i) {
                 AnimationState animationState = this._animationStates.get(i);
                 if (animationState._fadeState > 0 && animationState._subFadeState > 0) {
                     r++;
+                    animationState._recycleTimelines(this);
                     this._armature._dragonBones.bufferObject(animationState);
                     this._animationDirty = true;
                     if (this._lastAnimationState == animationState) { // Update last animation state.
@@ -193,7 +500,7 @@ public class Animation extends BaseObject {
                         animationState.updateTimelines();
                     }
 
-                    animationState.advanceTime(passedTime, 0f);
+                    animationState._advanceTime(passedTime, null, !isBlendPoseCached);
                 }
 
                 if (i == animationStateCount - 1 && r > 0) { // Modify animation states size.
@@ -204,6 +511,10 @@ public class Animation extends BaseObject {
                 }
             }
 
+            if (isBlendPoseCached) {
+                this._updateBlendPose();
+            }
+
             this._armature._cacheFrameIndex = -1;
         } else {
             this._armature._cacheFrameIndex = -1;
@@ -269,7 +580,8 @@ public class Animation extends BaseObject {
      */
     public AnimationState playConfig(AnimationConfig animationConfig) {
         String animationName = animationConfig.animation;
-        if (!(this._animations.containsKey(animationName))) {
+        AnimationData animationData = this._animations.get(animationName);
+        if (animationData == null) {
             Console.warn(
                     "Non-existent animation.\n" +
                             "DragonBones name: " + this._armature.armatureData.parent.name +
@@ -280,7 +592,12 @@ public class Animation extends BaseObject {
             return null;
         }
 
-        AnimationData animationData = this._animations.get(animationName);
+        return this._playConfig(animationData, animationConfig);
+    }
+
+    private AnimationState _playConfig(AnimationData animationData, AnimationConfig animationConfig) {
+        String animationName = animationData.name;
+        int groupId = animationConfig.groupId >= 0 ? animationConfig.groupId : AnimationConfig.getGroupId(animationConfig.group); // Caller's config keeps its group.
 
         if (animationConfig.fadeOutMode == AnimationFadeOutMode.Single) {
             for (AnimationState animationState : this._animationStates) {
@@ -333,10 +650,13 @@ public class Animation extends BaseObject {
             animationConfig.duration = -1f;
         }
 
-        this._fadeOut(animationConfig);
+        this._fadeOut(animationConfig, groupId);
+
+        animationData.preload(); // Parse lazy timelines.
 
         AnimationState animationState = BaseObject.borrowObject(AnimationState.class);
         animationState.init(this._armature, animationData, animationConfig);
+        animationState.groupId = groupId;
         this._animationDirty = true;
         this._armature._cacheFrameIndex = -1;
 
@@ -379,6 +699,163 @@ public class Animation extends BaseObject {
         return animationState;
     }
 
+    @Nullable
+    private AnimationData _getAnimationData(int animationIndex) {
+        if (animationIndex < 0 || animationIndex >= this._animationList.size()) {
+            Console.warn(
+                    "Non-existent animation.\n" +
+                            "DragonBones name: " + this._armature.armatureData.parent.name +
+                            "Armature name: " + this._armature.getName() +
+                            "Animation index: " + animationIndex
+            );
+
+            return null;
+        }
+
+        return this._animationList.get(animationIndex);
+    }
+
+    /**
+     * 获取动画数据的索引，用于以索引播放动画，避免每次播放时按名称查找。 (-1 表示不存在)
+     *
+     * @param animationName 动画数据名称。
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see #play(int, int)
+     * @see #fadeIn(int, float, int, int, int, AnimationFadeOutMode)
+     */
+    public int getAnimationIndex(String animationName) {
+        return this._animationNames.indexOf(animationName);
+    }
+
+    /**
+     * 以索引播放动画。
+     *
+     * @param animationIndex 动画数据索引。
+     * @param playTimes      播放次数。 [-1: 使用动画数据默认值, 0: 无限循环播放, [1~N]: 循环播放 N 次]
+     * @returns 对应的动画状态。
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see #getAnimationIndex(String)
+     * @see #play(String, int)
+     */
+    @Nullable
+    public AnimationState play(int animationIndex, int playTimes) {
+        AnimationData animationData = this._getAnimationData(animationIndex);
+        if (animationData == null) {
+            return null;
+        }
+
+        this._animationConfig.clear();
+        this._animationConfig.resetToPose = true;
+        this._animationConfig.playTimes = playTimes;
+        this._animationConfig.fadeInTime = 0f;
+        this._animationConfig.animation = animationData.name;
+
+        return this._playConfig(animationData, this._animationConfig);
+    }
+
+    /**
+     * 以索引淡入播放动画。
+     *
+     * @param animationIndex 动画数据索引。
+     * @param groupId        混合组的整数标识。
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see #getAnimationIndex(String)
+     * @see AnimationConfig#getGroupId(String)
+     * @see #fadeIn(String, float, int, int, String, AnimationFadeOutMode)
+     */
+    @Nullable
+    public AnimationState fadeIn(
+            int animationIndex, float fadeInTime, int playTimes,
+            int layer, int groupId, AnimationFadeOutMode fadeOutMode
+    ) {
+        AnimationData animationData = this._getAnimationData(animationIndex);
+        if (animationData == null) {
+            return null;
+        }
+
+        this._animationConfig.clear();
+        this._animationConfig.fadeOutMode = fadeOutMode;
+        this._animationConfig.playTimes = playTimes;
+        this._animationConfig.layer = layer;
+        this._animationConfig.fadeInTime = fadeInTime;
+        this._animationConfig.animation = animationData.name;
+        this._animationConfig.group = AnimationConfig.getGroupName(groupId);
+        this._animationConfig.groupId = groupId;
+
+        return this._playConfig(animationData, this._animationConfig);
+    }
+
+    /**
+     * 以索引从指定时间开始播放动画。
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see #getAnimationIndex(String)
+     * @see #gotoAndPlayByTime(String, float, int)
+     */
+    @Nullable
+    public AnimationState gotoAndPlayByTime(int animationIndex, float time, int playTimes) {
+        AnimationData animationData = this._getAnimationData(animationIndex);
+        if (animationData == null) {
+            return null;
+        }
+
+        this._animationConfig.clear();
+        this._animationConfig.resetToPose = true;
+        this._animationConfig.playTimes = playTimes;
+        this._animationConfig.position = time;
+        this._animationConfig.fadeInTime = 0f;
+        this._animationConfig.animation = animationData.name;
+
+        return this._playConfig(animationData, this._animationConfig);
+    }
+
+    /**
+     * 以索引从指定进度开始播放动画。
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see #getAnimationIndex(String)
+     * @see #gotoAndPlayByProgress(String, float, int)
+     */
+    @Nullable
+    public AnimationState gotoAndPlayByProgress(int animationIndex, float progress, int playTimes) {
+        AnimationData animationData = this._getAnimationData(animationIndex);
+        if (animationData == null) {
+            return null;
+        }
+
+        this._animationConfig.clear();
+        this._animationConfig.resetToPose = true;
+        this._animationConfig.playTimes = playTimes;
+        this._animationConfig.fadeInTime = 0f;
+        this._animationConfig.animation = animationData.name;
+        this._animationConfig.position = animationData.duration * (progress > 0f ? progress : 0f);
+
+        return this._playConfig(animationData, this._animationConfig);
+    }
+
+    /**
+     * 以索引将动画停止到指定的时间。
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see #getAnimationIndex(String)
+     * @see #gotoAndStopByTime(String, float)
+     */
+    @Nullable
+    public AnimationState gotoAndStopByTime(int animationIndex, float time) {
+        AnimationState animationState = this.gotoAndPlayByTime(animationIndex, time, 1);
+        if (animationState != null) {
+            animationState.stop();
+        }
+
+        return animationState;
+    }
+
     public AnimationState play() {
         return play(null, -1);
     }
@@ -740,11 +1217,13 @@ public class Animation extends BaseObject {
         }
 
         this._animationNames.clear();
+        this._animationList.clear();
         this._animations.clear();
 
         for (String k : value.keySet()) {
             this._animations.put(k, value.get(k));
             this._animationNames.add(k);
+            this._animationList.add(value.get(k));
         }
     }
 
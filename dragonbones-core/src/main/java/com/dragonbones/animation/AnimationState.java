@@ -10,11 +10,9 @@ import com.dragonbones.event.EventStringType;
 import com.dragonbones.geom.Transform;
 import com.dragonbones.model.*;
 import com.dragonbones.util.Array;
-import com.dragonbones.util.IntArray;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.BitSet;
 import java.util.Objects;
 
 /**
@@ -111,6 +109,15 @@ public class AnimationState extends BaseObject {
      * @language zh_CN
      */
     public String group;
+    /**
+     * 混合组的整数标识。
+     *
+     * @version DragonBones 5.1
+     * @readonly
+     * @language zh_CN
+     * @see AnimationConfig#getGroupId(String)
+     */
+    public int groupId;
     /**
      * 动画数据。
      *
@@ -121,7 +128,11 @@ public class AnimationState extends BaseObject {
      */
     public AnimationData animationData;
 
-    private boolean _timelineDirty;
+    /**
+     * @internal
+     * @private
+     */
+    public boolean _timelineDirty;
     /**
      * @internal
      * @private xx: Play Enabled, Fade Play Enabled
@@ -155,10 +166,14 @@ public class AnimationState extends BaseObject {
      */
     public float _fadeProgress;
     private float _weightResult;
+    private boolean _staticResolved;
+    private float _staticWeight;
     private Array<String> _boneMask = new Array<>();
+    private final BitSet _boneMaskBits = new BitSet(); // Compiled bone mask. (BoneData#index)
     private Array<BoneTimelineState> _boneTimelines = new Array<>();
     private Array<SlotTimelineState> _slotTimelines = new Array<>();
-    private Map<String, BonePose> _bonePoses = new HashMap<>();
+    private final Array<BonePose> _bonePoses = new Array<>(); // BoneData#index.
+    private final BitSet _bindedBits = new BitSet();
     private Armature _armature;
     /**
      * @internal
@@ -180,9 +195,12 @@ public class AnimationState extends BaseObject {
             timeline.returnToPool();
         }
 
-        for (String k : this._bonePoses.keySet()) {
-            this._bonePoses.get(k).returnToPool();
-            this._bonePoses.remove(k);
+        for (int i = 0, l = this._bonePoses.size(); i < l; ++i) {
+            BonePose bonePose = this._bonePoses.get(i);
+            if (bonePose != null) {
+                bonePose.returnToPool();
+                this._bonePoses.set(i, null);
+            }
         }
 
         if (this._actionTimeline != null) {
@@ -205,6 +223,7 @@ public class AnimationState extends BaseObject {
         this.fadeTotalTime = 0f;
         this.name = "";
         this.group = "";
+        this.groupId = 0;
         this.animationData = null; //
 
         this._timelineDirty = true;
@@ -217,30 +236,173 @@ public class AnimationState extends BaseObject {
         this._time = 0f;
         this._fadeProgress = 0f;
         this._weightResult = 0f;
+        this._staticResolved = false;
+        this._staticWeight = 0f;
         this._boneMask.clear();
+        this._boneMaskBits.clear();
+        this._bindedBits.clear();
         this._boneTimelines.clear();
         this._slotTimelines.clear();
-        // this._bonePoses.clear();
+        this._bonePoses.clear();
         this._armature = null; //
         this._actionTimeline = null; //
         this._zOrderTimeline = null;
     }
 
-    private boolean _isDisabled(Slot slot) {
+    private static int _getSlotTimelineKind(SlotTimelineState timeline) {
+        if (timeline instanceof SlotDislayIndexTimelineState) {
+            return 0;
+        }
+
+        if (timeline instanceof SlotColorTimelineState) {
+            return 1;
+        }
+
+        return 2;
+    }
+
+    /**
+     * 淡出完成后不再更新，将时间轴状态和骨骼姿势交给动画控制器，之后绑定相同骨骼和插槽的动画状态可以直接重用。
+     *
+     * @private
+     */
+    void _recycleTimelines(Animation animation) {
+        for (BoneTimelineState timeline : this._boneTimelines) {
+            int boneIndex = timeline.bone.boneData.index;
+            timeline._onClear();
+            animation._addSpareBoneTimeline(timeline, boneIndex);
+        }
+
+        for (SlotTimelineState timeline : this._slotTimelines) {
+            int slotIndex = timeline.slot.slotData.index;
+            int kind = AnimationState._getSlotTimelineKind(timeline);
+            timeline._onClear();
+            animation._addSpareSlotTimeline(timeline, slotIndex, kind);
+        }
+
+        for (int i = 0, l = this._bonePoses.size(); i < l; ++i) {
+            BonePose bonePose = this._bonePoses.get(i);
+            if (bonePose != null) { // Keep values, overwritten by the next bone timeline.
+                animation._addSpareBonePose(bonePose, i);
+            }
+        }
+
+        this._boneTimelines.clear();
+        this._slotTimelines.clear();
+        this._bonePoses.clear();
+    }
+
+    /**
+     * 淡出时不再控制插槽，瞬间淡出时也不再影响骨骼，将指定动画状态将要绑定的骨骼和插槽的时间轴状态提前交给动画控制器，不必等待淡出完成。
+     *
+     * @private
+     */
+    void _retargetTimelines(Animation animation, AnimationState animationState) {
+        TimelineBindingData timelineBinding = animationState.animationData.getTimelineBinding(this._armature.armatureData);
+        int r = 0;
+        if (this.fadeTotalTime == 0f) { // No weight.
+            for (int i = 0, l = this._boneTimelines.size(); i < l; ++i) {
+                BoneTimelineState timeline = this._boneTimelines.get(i);
+                Bone bone = timeline.bone;
+                if (animationState._isBindingBone(bone, timelineBinding)) {
+                    int boneIndex = bone.boneData.index;
+                    timeline._onClear();
+                    animation._addSpareBoneTimeline(timeline, boneIndex);
+                    if (boneIndex < this._bonePoses.size() && this._bonePoses.get(boneIndex) != null) {
+                        animation._addSpareBonePose(this._bonePoses.get(boneIndex), boneIndex);
+                        this._bonePoses.set(boneIndex, null);
+                    }
+
+                    r++;
+                } else if (r > 0) {
+                    this._boneTimelines.set(i - r, timeline);
+                }
+            }
+
+            this._boneTimelines.setLength(this._boneTimelines.size() - r);
+        }
+
+        r = 0;
+        for (int i = 0, l = this._slotTimelines.size(); i < l; ++i) { // Display control is disabled.
+            SlotTimelineState timeline = this._slotTimelines.get(i);
+            Slot slot = timeline.slot;
+            if (animationState._isBindingSlot(slot, timelineBinding)) {
+                int slotIndex = slot.slotData.index;
+                int kind = AnimationState._getSlotTimelineKind(timeline);
+                timeline._onClear();
+                animation._addSpareSlotTimeline(timeline, slotIndex, kind);
+                r++;
+            } else if (r > 0) {
+                this._slotTimelines.set(i - r, timeline);
+            }
+        }
+
+        this._slotTimelines.setLength(this._slotTimelines.size() - r);
+    }
+
+    private boolean _isBindingBone(Bone bone, TimelineBindingData timelineBinding) {
+        return bone.getArmature() == this._armature && this._containsBoneMask(bone) &&
+                (this.resetToPose || timelineBinding.getBoneTimelines(bone.boneData) != null);
+    }
+
+    private boolean _isBindingSlot(Slot slot, TimelineBindingData timelineBinding) {
+        Bone parent = slot.getParent();
+        return slot.getArmature() == this._armature && parent != null && this._containsBoneMask(parent) &&
+                (this.resetToPose || timelineBinding.getSlotTimelines(slot.slotData) != null);
+    }
+
+    private boolean _isDisabled(SlotTimelineState timeline) {
         if (this.displayControl) {
-            String displayController = slot.displayController;
-            if (
-                    displayController == null ||
-                            Objects.equals(displayController, this.name) ||
-                            Objects.equals(displayController, this.group)
-                    ) {
+            String displayController = timeline.slot.displayController;
+            if (displayController == null) {
                 return false;
             }
+
+            if (displayController != timeline._displayController) { // Compare strings only when displayController changed.
+                timeline._displayController = displayController;
+                timeline._displayControlled =
+                        Objects.equals(displayController, this.name) ||
+                                Objects.equals(displayController, this.group);
+            }
+
+            return !timeline._displayControlled;
         }
 
         return true;
     }
 
+    private BonePose _getBonePose(int boneIndex) {
+        if (boneIndex >= this._bonePoses.size()) {
+            this._bonePoses.setLength(boneIndex + 1);
+        }
+
+        BonePose bonePose = this._bonePoses.get(boneIndex);
+        if (bonePose == null) {
+            bonePose = this._armature.getAnimation()._borrowBonePose(boneIndex);
+            this._bonePoses.set(boneIndex, bonePose);
+        }
+
+        return bonePose;
+    }
+
+    private boolean _hasFFDTimeline(int timelineOffset, int meshOffset) {
+        for (int i = timelineOffset, l = this._slotTimelines.size(); i < l; ++i) {
+            SlotTimelineState timeline = this._slotTimelines.get(i);
+            if (timeline instanceof SlotFFDTimelineState && ((SlotFFDTimelineState) timeline).meshOffset == meshOffset) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * @private
+     */
+    boolean _containsBoneMask(Bone bone) {
+        return this._boneMask.size() == 0 || this._boneMaskBits.get(bone.boneData.index);
+    }
+
     private void _advanceFadeTime(float passedTime) {
         boolean isFadeOut = this._fadeState > 0;
 
@@ -348,6 +510,7 @@ public class AnimationState extends BaseObject {
         this.weight = animationConfig.weight;
         this.name = animationConfig.name.length() > 0 ? animationConfig.name : animationConfig.animation;
         this.group = animationConfig.group;
+        this.groupId = animationConfig.groupId;
 
         if (animationConfig.pauseFadeIn) {
             this._playheadState = 2; // 10
@@ -385,6 +548,11 @@ public class AnimationState extends BaseObject {
             this._boneMask.setLength(animationConfig.boneMask.size());
             for (int i = 0, l = this._boneMask.size(); i < l; ++i) {
                 this._boneMask.set(i, animationConfig.boneMask.get(i));
+
+                BoneData boneData = this._armature.armatureData.getBone(this._boneMask.get(i));
+                if (boneData != null) {
+                    this._boneMaskBits.set(boneData.index);
+                }
             }
         }
 
@@ -406,173 +574,294 @@ public class AnimationState extends BaseObject {
      * @internal
      */
     public void updateTimelines() {
-        Map<String, Array<BoneTimelineState>> boneTimelines = new HashMap<>();
-        for (BoneTimelineState timeline : this._boneTimelines) { // Create bone timelines map.
-            String timelineName = timeline.bone.name;
-            if (!(boneTimelines.containsKey(timelineName))) {
-                boneTimelines.put(timelineName, new Array<>());
-            }
+        this._staticResolved = false;
+
+        TimelineBindingData timelineBinding = this.animationData.getTimelineBinding(this._armature.armatureData);
+        Animation animation = this._armature.getAnimation(); // Reuse timeline states of faded out animation states.
+        BitSet bindedBits = this._bindedBits;
+        if (this._boneTimelines.size() == 0 && this._slotTimelines.size() == 0) { // First binding, take over from fading out animation states.
+            animation._retargetTimelines(this);
+        }
 
-            boneTimelines.get(timelineName).add(timeline);
+        bindedBits.clear();
+        int r = 0;
+        for (int i = 0, l = this._boneTimelines.size(); i < l; ++i) { // Remove bone timelines of removed or masked bones.
+            BoneTimelineState timeline = this._boneTimelines.get(i);
+            Bone bone = timeline.bone;
+            if (bone.getArmature() == this._armature && this._containsBoneMask(bone)) {
+                bindedBits.set(bone.boneData.index);
+                if (r > 0) {
+                    this._boneTimelines.set(i - r, timeline);
+                }
+            } else {
+                timeline.returnToPool();
+                r++;
+            }
         }
 
-        for (Bone bone : this._armature.getBones()) {
-            String timelineName = bone.name;
-            if (!this.containsBoneMask(timelineName)) {
+        this._boneTimelines.setLength(this._boneTimelines.size() - r);
+
+        Array<Bone> bones = this._armature.getBones();
+        for (int i = 0, l = bones.size(); i < l; ++i) {
+            Bone bone = bones.get(i);
+            int boneIndex = bone.boneData.index;
+            if (bindedBits.get(boneIndex) || !this._containsBoneMask(bone)) {
                 continue;
             }
 
-            Array<TimelineData> timelineDatas = this.animationData.getBoneTimelines(timelineName);
-            if (boneTimelines.containsKey(timelineName)) { // Remove bone timeline from map.
-                boneTimelines.remove(timelineName);
-            } else { // Create new bone timeline.
-                if (!this._bonePoses.containsKey(timelineName)) {
-                    this._bonePoses.put(timelineName, BaseObject.borrowObject(BonePose.class));
+            // Create new bone timeline.
+            Array<TimelineData> timelineDatas = timelineBinding.getBoneTimelines(bone.boneData);
+            if (timelineDatas != null) {
+                BonePose bonePose = this._getBonePose(boneIndex);
+                boolean isStatic = true;
+                for (int j = 0, lJ = timelineDatas.size(); j < lJ; ++j) {
+                    isStatic = isStatic && timelineDatas.get(j).isStatic;
                 }
-                BonePose bonePose = this._bonePoses.get(timelineName);
-                if (timelineDatas != null) {
-                    for (TimelineData timelineData : timelineDatas) {
-                        switch (timelineData.type) {
-                            case BoneAll:
-                                BoneAllTimelineState timeline = BaseObject.borrowObject(BoneAllTimelineState.class);
-                                timeline.bone = bone;
-                                timeline.bonePose = bonePose;
-                                timeline.init(this._armature, this, timelineData);
-                                this._boneTimelines.push(timeline);
-                                break;
-
-                            case BoneT:
-                            case BoneR:
-                            case BoneS:
-                                // TODO
-                                break;
-
-                            case BoneX:
-                            case BoneY:
-                            case BoneRotate:
-                            case BoneSkew:
-                            case BoneScaleX:
-                            case BoneScaleY:
-                                // TODO
-                                break;
-                        }
+
+                for (int j = 0, lJ = timelineDatas.size(); j < lJ; ++j) {
+                    TimelineData timelineData = timelineDatas.get(j);
+                    switch (timelineData.type) {
+                        case BoneAll:
+                            BoneAllTimelineState timeline = animation._borrowBoneTimeline(BoneAllTimelineState.class, boneIndex);
+                            timeline.bone = bone;
+                            timeline.bonePose = bonePose;
+                            timeline.isStatic = isStatic;
+                            timeline.init(this._armature, this, timelineData);
+                            this._boneTimelines.push(timeline);
+                            break;
+
+                        case BoneT:
+                        case BoneR:
+                        case BoneS:
+                            // TODO
+                            break;
+
+                        case BoneX:
+                        case BoneY:
+                        case BoneRotate:
+                        case BoneSkew:
+                        case BoneScaleX:
+                        case BoneScaleY:
+                            // TODO
+                            break;
                     }
-                } else if (this.resetToPose) { // Pose timeline.
-                    BoneAllTimelineState timeline = BaseObject.borrowObject(BoneAllTimelineState.class);
-                    timeline.bone = bone;
-                    timeline.bonePose = bonePose;
-                    timeline.init(this._armature, this, null);
-                    this._boneTimelines.push(timeline);
                 }
+            } else if (this.resetToPose) { // Pose timeline.
+                BoneAllTimelineState timeline = animation._borrowBoneTimeline(BoneAllTimelineState.class, boneIndex);
+                timeline.bone = bone;
+                timeline.bonePose = this._getBonePose(boneIndex);
+                timeline.isStatic = true;
+                timeline.init(this._armature, this, null);
+                this._boneTimelines.push(timeline);
             }
         }
 
-        for (String k : boneTimelines.keySet()) { // Remove bone timelines.
-            for (BoneTimelineState timeline : boneTimelines.get(k)) {
-                this._boneTimelines.splice(this._boneTimelines.indexOfObject(timeline), 1);
+        bindedBits.clear();
+        r = 0;
+        for (int i = 0, l = this._slotTimelines.size(); i < l; ++i) { // Remove slot timelines of removed or masked slots.
+            SlotTimelineState timeline = this._slotTimelines.get(i);
+            Slot slot = timeline.slot;
+            if (slot.getArmature() == this._armature && slot.getParent() != null && this._containsBoneMask(slot.getParent())) {
+                bindedBits.set(slot.slotData.index);
+                if (r > 0) {
+                    this._slotTimelines.set(i - r, timeline);
+                }
+            } else {
                 timeline.returnToPool();
+                r++;
             }
         }
 
-        Map<String, Array<SlotTimelineState>> slotTimelines = new HashMap<>();
-        IntArray ffdFlags = new IntArray();
-        for (SlotTimelineState timeline : this._slotTimelines) { // Create slot timelines map.
-            String timelineName = timeline.slot.name;
-            if (!(slotTimelines.containsKey(timelineName))) {
-                slotTimelines.put(timelineName, new Array<>());
-            }
+        this._slotTimelines.setLength(this._slotTimelines.size() - r);
 
-            slotTimelines.get(timelineName).add(timeline);
-        }
-
-        for (Slot slot : this._armature.getSlots()) {
-            String boneName = slot.getParent().name;
-            if (!this.containsBoneMask(boneName)) {
+        Array<Slot> slots = this._armature.getSlots();
+        for (int i = 0, l = slots.size(); i < l; ++i) {
+            Slot slot = slots.get(i);
+            int slotIndex = slot.slotData.index;
+            if (bindedBits.get(slotIndex) || !this._containsBoneMask(slot.getParent())) {
                 continue;
             }
 
-            String timelineName = slot.name;
-            Array<TimelineData> timelineDatas = this.animationData.getSlotTimeline(timelineName);
-            if (slotTimelines.containsKey(timelineName)) {
-                slotTimelines.remove(timelineName);
-            } else { // Create new slot timeline.
-                boolean displayIndexFlag = false;
-                boolean colorFlag = false;
-                ffdFlags.clear();
-
-                if (timelineDatas != null) {
-                    for (TimelineData timelineData : timelineDatas) {
-                        switch (timelineData.type) {
-                            case SlotDisplay: {
-                                SlotDislayIndexTimelineState timeline = BaseObject.borrowObject(SlotDislayIndexTimelineState.class);
-                                timeline.slot = slot;
-                                timeline.init(this._armature, this, timelineData);
-                                this._slotTimelines.push(timeline);
-                                displayIndexFlag = true;
-                                break;
-                            }
+            // Create new slot timeline.
+            Array<TimelineData> timelineDatas = timelineBinding.getSlotTimelines(slot.slotData);
+            int timelineOffset = this._slotTimelines.size();
+            boolean displayIndexFlag = false;
+            boolean colorFlag = false;
+
+            if (timelineDatas != null) {
+                for (int j = 0, lJ = timelineDatas.size(); j < lJ; ++j) {
+                    TimelineData timelineData = timelineDatas.get(j);
+                    switch (timelineData.type) {
+                        case SlotDisplay: {
+                            SlotDislayIndexTimelineState timeline = animation._borrowSlotTimeline(SlotDislayIndexTimelineState.class, slotIndex, 0);
+                            timeline.slot = slot;
+                            timeline.isStatic = timelineData.isStatic;
+                            timeline.init(this._armature, this, timelineData);
+                            this._slotTimelines.push(timeline);
+                            displayIndexFlag = true;
+                            break;
+                        }
 
-                            case SlotColor: {
-                                SlotColorTimelineState timeline = BaseObject.borrowObject(SlotColorTimelineState.class);
-                                timeline.slot = slot;
-                                timeline.init(this._armature, this, timelineData);
-                                this._slotTimelines.push(timeline);
-                                colorFlag = true;
-                                break;
-                            }
+                        case SlotColor: {
+                            SlotColorTimelineState timeline = animation._borrowSlotTimeline(SlotColorTimelineState.class, slotIndex, 1);
+                            timeline.slot = slot;
+                            timeline.isStatic = timelineData.isStatic;
+                            timeline.init(this._armature, this, timelineData);
+                            this._slotTimelines.push(timeline);
+                            colorFlag = true;
+                            break;
+                        }
 
-                            case SlotFFD: {
-                                SlotFFDTimelineState timeline = BaseObject.borrowObject(SlotFFDTimelineState.class);
-                                timeline.slot = slot;
-                                timeline.init(this._armature, this, timelineData);
-                                this._slotTimelines.push(timeline);
-                                ffdFlags.push(timeline.meshOffset);
-                                break;
-                            }
+                        case SlotFFD: {
+                            SlotFFDTimelineState timeline = animation._borrowSlotTimeline(SlotFFDTimelineState.class, slotIndex, 2);
+                            timeline.slot = slot;
+                            timeline.init(this._armature, this, timelineData);
+                            this._slotTimelines.push(timeline);
+                            break;
                         }
                     }
                 }
+            }
 
-                if (this.resetToPose) { // Pose timeline.
-                    if (!displayIndexFlag) {
-                        SlotDislayIndexTimelineState timeline = BaseObject.borrowObject(SlotDislayIndexTimelineState.class);
-                        timeline.slot = slot;
-                        timeline.init(this._armature, this, null);
-                        this._slotTimelines.push(timeline);
-                    }
+            if (this.resetToPose) { // Pose timeline.
+                if (!displayIndexFlag) {
+                    SlotDislayIndexTimelineState timeline = animation._borrowSlotTimeline(SlotDislayIndexTimelineState.class, slotIndex, 0);
+                    timeline.slot = slot;
+                    timeline.isStatic = true;
+                    timeline.init(this._armature, this, null);
+                    this._slotTimelines.push(timeline);
+                }
+
+                if (!colorFlag) {
+                    SlotColorTimelineState timeline = animation._borrowSlotTimeline(SlotColorTimelineState.class, slotIndex, 1);
+                    timeline.slot = slot;
+                    timeline.isStatic = true;
+                    timeline.init(this._armature, this, null);
+                    this._slotTimelines.push(timeline);
+                }
 
-                    if (!colorFlag) {
-                        SlotColorTimelineState timeline = BaseObject.borrowObject(SlotColorTimelineState.class);
+                for (int j = 0, lJ = slot._rawDisplayDatas.size(); j < lJ; ++j) {
+                    DisplayData displayData = slot._rawDisplayDatas.get(j);
+                    if (displayData != null && displayData.type == DisplayType.Mesh && !this._hasFFDTimeline(timelineOffset, ((MeshDisplayData) displayData).offset)) {
+                        SlotFFDTimelineState timeline = animation._borrowSlotTimeline(SlotFFDTimelineState.class, slotIndex, 2);
                         timeline.slot = slot;
                         timeline.init(this._armature, this, null);
                         this._slotTimelines.push(timeline);
                     }
+                }
+            }
+        }
+    }
 
-                    for (DisplayData displayData : slot._rawDisplayDatas) {
-                        if (displayData != null && displayData.type == DisplayType.Mesh && ffdFlags.indexOfObject(((MeshDisplayData) displayData).offset) < 0) {
-                            SlotFFDTimelineState timeline = BaseObject.borrowObject(SlotFFDTimelineState.class);
-                            timeline.slot = slot;
-                            timeline.init(this._armature, this, null);
-                            this._slotTimelines.push(timeline);
+    private void _updateBoneTimelines(float time, boolean isSkipStatic) {
+        Bone bone = null;
+        BoneTimelineState prevTimeline = null; //
+        for (int i = 0, l = this._boneTimelines.size(); i < l; ++i) {
+            BoneTimelineState timeline = this._boneTimelines.get(i);
+            if (isSkipStatic && timeline.isStatic) {
+                continue;
+            }
+
+            if (bone != timeline.bone) { // Blend bone pose.
+                if (bone != null) {
+                    this._blendBoneTimline(prevTimeline);
+
+                    if (bone._blendDirty) {
+                        if (bone._blendLeftWeight > 0f) {
+                            if (bone._blendLayer != this.layer) {
+                                if (bone._blendLayerWeight >= bone._blendLeftWeight) {
+                                    bone._blendLeftWeight = 0f;
+                                    bone = null;
+                                } else {
+                                    bone._blendLayer = this.layer;
+                                    bone._blendLeftWeight -= bone._blendLayerWeight;
+                                    bone._blendLayerWeight = 0f;
+                                }
+                            }
+                        } else {
+                            bone = null;
                         }
                     }
                 }
+
+                bone = timeline.bone;
             }
-        }
 
-        for (String k : slotTimelines.keySet()) { // Remove slot timelines.
-            for (SlotTimelineState timeline : slotTimelines.get(k)) {
-                this._slotTimelines.splice(this._slotTimelines.indexOfObject(timeline), 1);
-                timeline.returnToPool();
+            if (bone != null) {
+                timeline.update(time);
+                prevTimeline = timeline;
             }
         }
+
+        if (bone != null) {
+            this._blendBoneTimline(prevTimeline);
+        }
+    }
+
+    /**
+     * 混合姿势缓存的键，相同骨架数据的骨架以相同的动画、权重、层级和骨骼遮罩混合时共享混合姿势。
+     *
+     * @private
+     */
+    void _appendBlendPoseKey(StringBuilder key) {
+        key.append('|').append(this.animationData.name).append('/').append(this.weight).append('/').append(this.layer);
+        if (this.resetToPose) {
+            key.append("/pose");
+        }
+
+        for (String boneName : this._boneMask) {
+            key.append(',').append(boneName);
+        }
+    }
+
+    /**
+     * 在动画控制器判断没有可重用的混合姿势后更新骨骼时间轴。
+     *
+     * @private
+     */
+    void _blendBoneTimelines() {
+        if (this.weight == 0f) {
+            return;
+        }
+
+        this._updateBoneTimelines(this._time, false);
+    }
+
+    /**
+     * 在指定的缓存帧更新骨骼时间轴。 (用于群体中共享的姿势)
+     *
+     * @private
+     */
+    void _blendBoneTimelines(float frameTime) {
+        float currentTime = this._actionTimeline.currentTime;
+        this._actionTimeline.currentTime = frameTime;
+        this._updateBoneTimelines(this._time + frameTime - currentTime, false);
+        this._actionTimeline.currentTime = currentTime;
+    }
+
+    /**
+     * 是否可以与播放相同动画的其他实例共享骨骼姿势。
+     *
+     * @private
+     */
+    boolean _isSharedPose() {
+        return this._fadeState == 0 && this._subFadeState == 0 && this.weight == 1f && this._boneMask.size() == 0;
     }
 
     /**
      * @private
      * @internal
      */
-    public void advanceTime(float passedTime, float cacheFrameRate) {
+    public void advanceTime(float passedTime, @Nullable FrameCacheData frameCache) {
+        this._advanceTime(passedTime, frameCache, true);
+    }
+
+    /**
+     * @private
+     */
+    void _advanceTime(float passedTime, @Nullable FrameCacheData frameCache, boolean isUpdateBoneTimeline) {
+        float cacheFrameRate = frameCache != null ? frameCache.frameRate : 0f;
+
         // Update fade time.
         if (this._fadeState != 0 || this._subFadeState != 0) {
             this._advanceFadeTime(passedTime);
@@ -598,7 +887,6 @@ public class AnimationState extends BaseObject {
 
         boolean isCacheEnabled = this._fadeState == 0 && cacheFrameRate > 0f;
         boolean isUpdateTimeline = true;
-        boolean isUpdateBoneTimeline = true;
         float time = this._time;
         this._weightResult = this.weight * this._fadeProgress;
 
@@ -615,68 +903,52 @@ public class AnimationState extends BaseObject {
 
         if (isCacheEnabled) { // Update cache.
             int cacheFrameIndex = (int) Math.floor(this._actionTimeline.currentTime * cacheFrameRate); // uint
+            this.animationData._stampCache();
             if (this._armature._cacheFrameIndex == cacheFrameIndex) { // Same cache.
                 isUpdateTimeline = false;
                 isUpdateBoneTimeline = false;
             } else {
                 this._armature._cacheFrameIndex = cacheFrameIndex;
-                if (this.animationData.cachedFrames.getBool(cacheFrameIndex)) { // Cached.
+                if (frameCache.isCached(cacheFrameIndex)) { // Cached.
                     isUpdateBoneTimeline = false;
-                } else { // Cache.
-                    this.animationData.cachedFrames.setBool(cacheFrameIndex, true);
+                } else { // Cache, publish after all bones are updated.
+                    this._armature._pendingFrameCache = frameCache;
                 }
             }
         }
 
+        // Static timelines only need to be updated once when this is the only and stable animation state.
+        boolean isStable = this._fadeState == 0 && this._subFadeState == 0 && this._armature.getAnimation().getStates().size() == 1;
+        if (!isStable || this._weightResult != this._staticWeight) {
+            this._staticResolved = false;
+        }
+
+        boolean isSkipStatic = this._staticResolved;
+
         if (isUpdateTimeline) {
             if (isUpdateBoneTimeline) { // Update bone timelines.
-                Bone bone = null;
-                BoneTimelineState prevTimeline = null; //
-                for (int i = 0, l = this._boneTimelines.size(); i < l; ++i) {
-                    BoneTimelineState timeline = this._boneTimelines.get(i);
-                    if (bone != timeline.bone) { // Blend bone pose.
-                        if (bone != null) {
-                            this._blendBoneTimline(prevTimeline);
-
-                            if (bone._blendDirty) {
-                                if (bone._blendLeftWeight > 0f) {
-                                    if (bone._blendLayer != this.layer) {
-                                        if (bone._blendLayerWeight >= bone._blendLeftWeight) {
-                                            bone._blendLeftWeight = 0f;
-                                            bone = null;
-                                        } else {
-                                            bone._blendLayer = this.layer;
-                                            bone._blendLeftWeight -= bone._blendLayerWeight;
-                                            bone._blendLayerWeight = 0f;
-                                        }
-                                    }
-                                } else {
-                                    bone = null;
-                                }
-                            }
-                        }
+                this._updateBoneTimelines(time, isSkipStatic);
 
-                        bone = timeline.bone;
-                    }
-
-                    if (bone != null) {
-                        timeline.update(time);
-                        if (i == l - 1) {
-                            this._blendBoneTimline(timeline);
-                        } else {
-                            prevTimeline = timeline;
-                        }
-                    }
+                if (isStable) {
+                    this._staticResolved = true;
+                    this._staticWeight = this._weightResult;
                 }
             }
 
             for (int i = 0, l = this._slotTimelines.size(); i < l; ++i) {
                 SlotTimelineState timeline = this._slotTimelines.get(i);
-                if (this._isDisabled(timeline.slot)) {
+                if (this._isDisabled(timeline)) { // Filter display control first, apply the frame again when controlled.
+                    timeline._staticUpdated = false;
+                    timeline._frameIndex = -1;
+                    continue;
+                }
+
+                if (isSkipStatic && timeline.isStatic && timeline._staticUpdated) {
                     continue;
                 }
 
                 timeline.update(time);
+                timeline._staticUpdated = true;
             }
         }
 
@@ -789,13 +1061,15 @@ public class AnimationState extends BaseObject {
             return;
         }
 
-        if (this._boneMask.indexOf(name) < 0) { // Add mixing
+        if (!this._boneMaskBits.get(currentBone.boneData.index)) { // Add mixing
+            this._boneMaskBits.set(currentBone.boneData.index);
             this._boneMask.add(name);
         }
 
         if (recursive) { // Add recursive mixing.
             for (Bone bone : this._armature.getBones()) {
-                if (this._boneMask.indexOf(bone.name) < 0 && currentBone.contains(bone)) {
+                if (!this._boneMaskBits.get(bone.boneData.index) && currentBone.contains(bone)) {
+                    this._boneMaskBits.set(bone.boneData.index);
                     this._boneMask.add(bone.name);
                 }
             }
@@ -822,15 +1096,19 @@ public class AnimationState extends BaseObject {
             this._boneMask.splice(index, 1);
         }
 
+        Bone currentBone = this._armature.getBone(name);
+        if (currentBone != null) {
+            this._boneMaskBits.clear(currentBone.boneData.index);
+        }
+
         if (recursive) {
-            Bone currentBone = this._armature.getBone(name);
             if (currentBone != null) {
                 Array<Bone> bones = this._armature.getBones();
                 if (this._boneMask.size() > 0) { // Remove recursive mixing.
                     for (Bone bone : bones) {
-                        int index2 = this._boneMask.indexOf(bone.name);
-                        if (index2 >= 0 && currentBone.contains(bone)) {
-                            this._boneMask.splice(index2, 1);
+                        if (this._boneMaskBits.get(bone.boneData.index) && currentBone.contains(bone)) {
+                            this._boneMaskBits.clear(bone.boneData.index);
+                            this._boneMask.splice(this._boneMask.indexOf(bone.name), 1);
                         }
                     }
                 } else { // Add unrecursive mixing.
@@ -840,6 +1118,7 @@ public class AnimationState extends BaseObject {
                         }
 
                         if (!currentBone.contains(bone)) {
+                            this._boneMaskBits.set(bone.boneData.index);
                             this._boneMask.add(bone.name);
                         }
                     }
@@ -858,6 +1137,7 @@ public class AnimationState extends BaseObject {
      */
     public void removeAllBoneMask() {
         this._boneMask.clear();
+        this._boneMaskBits.clear();
         this._timelineDirty = true;
     }
 
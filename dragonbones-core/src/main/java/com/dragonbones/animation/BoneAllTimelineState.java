@@ -1,7 +1,6 @@
 package com.dragonbones.animation;
 
 import com.dragonbones.geom.Transform;
-import com.dragonbones.util.FloatArray;
 
 /**
  * @internal
@@ -12,29 +11,28 @@ public class BoneAllTimelineState extends BoneTimelineState {
         super._onArriveAtFrame();
 
         if (this._timelineData != null) {
-            FloatArray frameFloatArray = this._dragonBonesData.frameFloatArray;
             Transform current = this.bonePose.current;
             Transform delta = this.bonePose.delta;
             int valueOffset = this._animationData.frameFloatOffset + this._frameValueOffset + this._frameIndex * 6; // ...(timeline value offset)|xxxxxx|xxxxxx|(Value offset)xxxxx|(Next offset)xxxxx|xxxxxx|xxxxxx|...
 
-            current.x = frameFloatArray.get(valueOffset++);
-            current.y = frameFloatArray.get(valueOffset++);
-            current.rotation = frameFloatArray.get(valueOffset++);
-            current.skew = frameFloatArray.get(valueOffset++);
-            current.scaleX = frameFloatArray.get(valueOffset++);
-            current.scaleY = frameFloatArray.get(valueOffset++);
+            current.x = this._getFrameFloat(valueOffset++, 0);
+            current.y = this._getFrameFloat(valueOffset++, 1);
+            current.rotation = this._getFrameFloat(valueOffset++, 2);
+            current.skew = this._getFrameFloat(valueOffset++, 3);
+            current.scaleX = this._getFrameFloat(valueOffset++, 4);
+            current.scaleY = this._getFrameFloat(valueOffset++, 5);
 
             if (this._tweenState == TweenState.Always) {
                 if (this._frameIndex == this._frameCount - 1) {
                     valueOffset = this._animationData.frameFloatOffset + this._frameValueOffset;
                 }
 
-                delta.x = frameFloatArray.get(valueOffset++) - current.x;
-                delta.y = frameFloatArray.get(valueOffset++) - current.y;
-                delta.rotation = frameFloatArray.get(valueOffset++) - current.rotation;
-                delta.skew = frameFloatArray.get(valueOffset++) - current.skew;
-                delta.scaleX = frameFloatArray.get(valueOffset++) - current.scaleX;
-                delta.scaleY = frameFloatArray.get(valueOffset++) - current.scaleY;
+                delta.x = this._getFrameFloat(valueOffset++, 0) - current.x;
+                delta.y = this._getFrameFloat(valueOffset++, 1) - current.y;
+                delta.rotation = this._getFrameFloat(valueOffset++, 2) - current.rotation;
+                delta.skew = this._getFrameFloat(valueOffset++, 3) - current.skew;
+                delta.scaleX = this._getFrameFloat(valueOffset++, 4) - current.scaleX;
+                delta.scaleY = this._getFrameFloat(valueOffset++, 5) - current.scaleY;
             }
             // else {
             //     delta.x = 0f;
@@ -0,0 +1,292 @@
+package com.dragonbones.animation;
+
+import com.dragonbones.armature.Armature;
+import com.dragonbones.armature.Bone;
+import com.dragonbones.geom.Transform;
+import com.dragonbones.model.AnimationData;
+import com.dragonbones.model.ArmatureData;
+import com.dragonbones.util.Array;
+import com.dragonbones.util.Console;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 群体动画，统一更新使用同一骨架数据的大量骨架实例。
+ * 每次更新时，播放同一动画且处于同一量化帧的实例分为一组，每组只由第一个实例更新骨骼时间轴计算局部姿势，其余实例直接复制该姿势。
+ * 每个实例保留自己的显示容器变换 (根变换)、播放相位、骨骼的 offset、事件和插槽状态。
+ * 正在淡入淡出、混合多个动画、使用骨骼遮罩或权重不为 1 的实例单独计算。 (开启动画缓存时使用动画缓存，不分组)
+ * 加入群体时骨架会从原来的 WorldClock 中移除，移出群体时恢复原来的 WorldClock。
+ *
+ * @version DragonBones 5.1
+ * @language zh_CN
+ */
+public class Crowd implements IAnimatable {
+    /**
+     * 一个动画每个量化帧的姿势，只在计算姿势的那次更新中共享。
+     */
+    private static final class Poses {
+        final float[][] poses;
+        final int[] updates;
+
+        Poses(int frameCount) {
+            this.poses = new float[frameCount][];
+            this.updates = new int[frameCount];
+        }
+    }
+
+    private static final int VALUE_COUNT = 6;
+
+    private final float _frameRate;
+    private final Array<Armature> _armatures = new Array<>();
+    private final Array<WorldClock> _armatureClocks = new Array<>(); // Clocks before added.
+    private final Map<AnimationData, Poses> _poses = new HashMap<>();
+    private final Map<AnimationData, Poses> _resetPoses = new HashMap<>(); // Bones without timelines are reset to pose.
+    private int _update = 0;
+    private int _sharedCount = 0;
+    private int _groupCount = 0;
+    @Nullable
+    private ArmatureData _armatureData = null;
+    @Nullable
+    private WorldClock _clock = null;
+
+    /**
+     * @param frameRate 量化帧率，同一动画的实例在此帧率下处于同一帧时共享姿势。 (通常与动画帧率相当)
+     */
+    public Crowd(float frameRate) {
+        this._frameRate = frameRate > 0f ? frameRate : 24f;
+    }
+
+    public void advanceTime(float passedTime) {
+        this._update++;
+        this._sharedCount = 0;
+        for (int i = 0, l = this._armatures.size(); i < l; ++i) {
+            this._armatures.get(i).advanceTime(passedTime);
+        }
+
+        this._groupCount = this._armatures.size() - this._sharedCount;
+    }
+
+    /**
+     * 更新单个动画状态的骨骼姿势，同一次更新中已有实例计算过相同帧的姿势时直接复制。
+     *
+     * @private
+     */
+    void _updatePose(Armature armature, AnimationState animationState) {
+        if (!animationState._isSharedPose()) {
+            animationState._blendBoneTimelines();
+            return;
+        }
+
+        AnimationData animationData = animationState.animationData;
+        Map<AnimationData, Poses> posesMap = animationState.resetToPose ? this._resetPoses : this._poses;
+        Poses poses = posesMap.get(animationData);
+        if (poses == null) {
+            poses = new Poses((int) Math.floor(animationData.duration * this._frameRate) + 1);
+            posesMap.put(animationData, poses);
+        }
+
+        int frameIndex = (int) Math.floor(animationState._actionTimeline.currentTime * this._frameRate);
+        frameIndex = Math.max(0, Math.min(frameIndex, poses.poses.length - 1));
+        Array<Bone> bones = armature.getBones();
+        float[] pose = poses.poses[frameIndex];
+        if (pose != null && poses.updates[frameIndex] == this._update) { // Evaluated by another instance.
+            this._sharedCount++;
+            for (int i = 0, l = bones.size(); i < l; ++i) {
+                Bone bone = bones.get(i);
+                int offset = bone.boneData.index * VALUE_COUNT;
+                if (offset + VALUE_COUNT > pose.length || Float.isNaN(pose[offset])) { // Not animated.
+                    continue;
+                }
+
+                Transform animationPose = bone.animationPose;
+                if (
+                        animationPose.x != pose[offset] ||
+                                animationPose.y != pose[offset + 1] ||
+                                animationPose.rotation != pose[offset + 2] ||
+                                animationPose.skew != pose[offset + 3] ||
+                                animationPose.scaleX != pose[offset + 4] ||
+                                animationPose.scaleY != pose[offset + 5]
+                        ) {
+                    animationPose.x = pose[offset];
+                    animationPose.y = pose[offset + 1];
+                    animationPose.rotation = pose[offset + 2];
+                    animationPose.skew = pose[offset + 3];
+                    animationPose.scaleX = pose[offset + 4];
+                    animationPose.scaleY = pose[offset + 5];
+                    bone._transformDirty = true;
+                }
+            }
+
+            return;
+        }
+
+        animationState._blendBoneTimelines(frameIndex / this._frameRate);
+
+        if (pose == null) {
+            pose = new float[armature.armatureData.sortedBones.size() * VALUE_COUNT];
+            poses.poses[frameIndex] = pose;
+        }
+
+        poses.updates[frameIndex] = this._update;
+        for (int i = 0, l = bones.size(); i < l; ++i) {
+            Bone bone = bones.get(i);
+            int offset = bone.boneData.index * VALUE_COUNT;
+            if (offset + VALUE_COUNT > pose.length) {
+                continue;
+            }
+
+            if (bone._blendDirty) {
+                Transform animationPose = bone.animationPose;
+                pose[offset] = animationPose.x;
+                pose[offset + 1] = animationPose.y;
+                pose[offset + 2] = animationPose.rotation;
+                pose[offset + 3] = animationPose.skew;
+                pose[offset + 4] = animationPose.scaleX;
+                pose[offset + 5] = animationPose.scaleY;
+            } else {
+                pose[offset] = Float.NaN;
+            }
+        }
+    }
+
+    /**
+     * 添加骨架实例，所有实例必须使用相同的骨架数据。
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public void add(Armature armature) {
+        if (this._armatures.indexOf(armature) >= 0) {
+            return;
+        }
+
+        if (armature._crowd != null) {
+            Console.warn("The armature is already in a crowd: " + armature.getName());
+            return;
+        }
+
+        if (this._armatureData == null) {
+            this._armatureData = armature.armatureData;
+        } else if (this._armatureData != armature.armatureData) {
+            Console.warn("Crowd armatures must share the same armature data: " + armature.getName());
+            return;
+        }
+
+        WorldClock clock = armature.getClock();
+        if (clock != null) { // Advanced by the crowd only.
+            clock.remove(armature);
+        }
+
+        armature._crowd = this;
+        this._armatures.add(armature);
+        this._armatureClocks.add(clock);
+    }
+
+    /**
+     * 移除骨架实例，并恢复骨架原来的 WorldClock。
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public void remove(Armature armature) {
+        int index = this._armatures.indexOf(armature);
+        if (index < 0) {
+            return;
+        }
+
+        WorldClock clock = this._armatureClocks.get(index);
+        this._armatures.splice(index, 1);
+        this._armatureClocks.splice(index, 1);
+        armature._crowd = null;
+        if (clock != null) {
+            clock.add(armature);
+        }
+
+        if (this._armatures.size() == 0) {
+            this._clearPoses();
+        }
+    }
+
+    public boolean contains(Armature armature) {
+        return this._armatures.indexOf(armature) >= 0;
+    }
+
+    public void clear() {
+        for (int i = 0, l = this._armatures.size(); i < l; ++i) {
+            Armature armature = this._armatures.get(i);
+            WorldClock clock = this._armatureClocks.get(i);
+            armature._crowd = null;
+            if (clock != null) {
+                clock.add(armature);
+            }
+        }
+
+        this._armatures.clear();
+        this._armatureClocks.clear();
+        this._clearPoses();
+    }
+
+    private void _clearPoses() {
+        this._poses.clear();
+        this._resetPoses.clear();
+        this._armatureData = null;
+    }
+
+    /**
+     * 以指定相位播放动画。
+     *
+     * @param armature      骨架实例。
+     * @param animationName 动画名称。
+     * @param phase         播放相位。 [0~1]
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    @Nullable
+    public AnimationState play(Armature armature, String animationName, float phase) {
+        return armature.getAnimation().gotoAndPlayByProgress(animationName, phase, -1);
+    }
+
+    /**
+     * 上一次更新中计算姿势的组数。 (不能共享姿势的实例，例如正在淡入淡出或混合多个动画的实例，各自单独计为一组)
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public int getGroupCount() {
+        return this._groupCount;
+    }
+
+    public Array<Armature> getArmatures() {
+        return this._armatures;
+    }
+
+    public float getFrameRate() {
+        return this._frameRate;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Nullable
+    public WorldClock getClock() {
+        return this._clock;
+    }
+
+    public void setClock(@Nullable WorldClock value) {
+        if (this._clock == value) {
+            return;
+        }
+
+        if (this._clock != null) {
+            this._clock.remove(this);
+        }
+
+        this._clock = value;
+
+        if (this._clock != null) {
+            this._clock.add(this);
+        }
+    }
+}
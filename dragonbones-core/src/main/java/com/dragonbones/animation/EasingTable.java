@@ -0,0 +1,84 @@
+package com.dragonbones.animation;
+
+import com.dragonbones.core.TweenType;
+
+/**
+ * 缓动查找表，每种缓动类型一张，所有时间轴共享。
+ * 缓动强度 easing 与曲线是线性关系 ((value - progress) * easing + progress)，因此每种类型只需一张基础曲线表。
+ *
+ * @internal
+ * @private
+ */
+public final class EasingTable {
+    /**
+     * 每张表的分段数，线性插值误差小于 1e-5。
+     */
+    public static final int SEGMENT_COUNT = 256;
+
+    private static final float[] _quadIn = new float[SEGMENT_COUNT + 1];
+    private static final float[] _quadOut = new float[SEGMENT_COUNT + 1];
+    private static final float[] _quadInOut = new float[SEGMENT_COUNT + 1];
+
+    static {
+        for (int i = 0; i <= SEGMENT_COUNT; ++i) {
+            float progress = (float) i / SEGMENT_COUNT;
+            _quadIn[i] = getExactValue(TweenType.QuadIn, progress);
+            _quadOut[i] = getExactValue(TweenType.QuadOut, progress);
+            _quadInOut[i] = getExactValue(TweenType.QuadInOut, progress);
+        }
+    }
+
+    private EasingTable() {
+    }
+
+    /**
+     * 未经缓动强度修正的精确曲线值。
+     */
+    public static float getExactValue(TweenType tweenType, float progress) {
+        switch (tweenType) {
+            case QuadIn:
+                return (float) Math.pow(progress, 2f);
+
+            case QuadOut:
+                return (float) (1f - Math.pow(1f - progress, 2f));
+
+            case QuadInOut:
+                return (float) (0.5 * (1f - Math.cos(progress * Math.PI)));
+
+            default:
+                return progress;
+        }
+    }
+
+    public static float getValue(TweenType tweenType, float progress, float easing) {
+        float[] table;
+        switch (tweenType) {
+            case QuadIn:
+                table = _quadIn;
+                break;
+
+            case QuadOut:
+                table = _quadOut;
+                break;
+
+            case QuadInOut:
+                table = _quadInOut;
+                break;
+
+            default:
+                return progress;
+        }
+
+        float value;
+        if (progress > 0f && progress < 1f) {
+            float position = progress * SEGMENT_COUNT;
+            int index = (int) position;
+            float fromValue = table[index];
+            value = fromValue + (table[index + 1] - fromValue) * (position - index);
+        } else { // Out of table.
+            value = getExactValue(tweenType, progress);
+        }
+
+        return (value - progress) * easing + progress;
+    }
+}
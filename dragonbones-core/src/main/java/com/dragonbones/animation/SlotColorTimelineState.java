@@ -123,23 +123,23 @@ public class SlotColorTimelineState extends SlotTimelineState {
             } else if (this._dirty) {
                 this._dirty = false;
                 if (
-                        result.alphaMultiplier != this._result.get(1) ||
+                        result.alphaMultiplier != this._result.get(0) ||
                                 result.redMultiplier != this._result.get(1) ||
-                                result.greenMultiplier != this._result.get(1) ||
-                                result.blueMultiplier != this._result.get(1) ||
-                                result.alphaOffset != this._result.get(1) ||
-                                result.redOffset != this._result.get(1) ||
-                                result.greenOffset != this._result.get(1) ||
-                                result.blueOffset != this._result.get(1)
+                                result.greenMultiplier != this._result.get(2) ||
+                                result.blueMultiplier != this._result.get(3) ||
+                                result.alphaOffset != this._result.get(4) ||
+                                result.redOffset != this._result.get(5) ||
+                                result.greenOffset != this._result.get(6) ||
+                                result.blueOffset != this._result.get(7)
                         ) {
-                    result.alphaMultiplier = this._result.get(1);
+                    result.alphaMultiplier = this._result.get(0);
                     result.redMultiplier = this._result.get(1);
-                    result.greenMultiplier = this._result.get(1);
-                    result.blueMultiplier = this._result.get(1);
-                    result.alphaOffset = (int) this._result.get(1);
-                    result.redOffset = (int) this._result.get(1);
-                    result.greenOffset = (int) this._result.get(1);
-                    result.blueOffset = (int) this._result.get(1);
+                    result.greenMultiplier = this._result.get(2);
+                    result.blueMultiplier = this._result.get(3);
+                    result.alphaOffset = (int) this._result.get(4);
+                    result.redOffset = (int) this._result.get(5);
+                    result.greenOffset = (int) this._result.get(6);
+                    result.blueOffset = (int) this._result.get(7);
 
                     this.slot._colorDirty = true;
                 }
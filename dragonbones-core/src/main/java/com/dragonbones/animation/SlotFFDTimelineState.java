@@ -43,7 +43,6 @@ public class SlotFFDTimelineState extends SlotTimelineState {
 
         if (this._timelineData != null) {
             boolean isTween = this._tweenState == TweenState.Always;
-            FloatArray frameFloatArray = this._dragonBonesData.frameFloatArray;
             int valueOffset = this._animationData.frameFloatOffset + this._frameValueOffset + this._frameIndex * this._valueCount;
 
             if (isTween) {
@@ -53,13 +52,14 @@ public class SlotFFDTimelineState extends SlotTimelineState {
                 }
 
                 for (int i = 0; i < this._valueCount; ++i) {
-                    float v = frameFloatArray.get(valueOffset + i);
+                    int channel = (this._valueOffset + i) & 1; // x, y.
+                    float v = this._getFrameFloat(valueOffset + i, channel);
                     this._current.set(i, v);
-                    this._delta.set(i, frameFloatArray.get(nextValueOffset + i) - v);
+                    this._delta.set(i, this._getFrameFloat(nextValueOffset + i, channel) - v);
                 }
             } else {
                 for (int i = 0; i < this._valueCount; ++i) {
-                    this._current.set(i, frameFloatArray.get(valueOffset + i));
+                    this._current.set(i, this._getFrameFloat(valueOffset + i, (this._valueOffset + i) & 1));
                 }
             }
         } else {
@@ -122,17 +122,16 @@ public class SlotFFDTimelineState extends SlotTimelineState {
         if (this._tweenState != TweenState.None || this._dirty) {
             FloatArray result = this.slot._ffdVertices;
             if (this._timelineData != null) {
-                FloatArray frameFloatArray = this._dragonBonesData.frameFloatArray;
                 if (this._animationState._fadeState != 0 || this._animationState._subFadeState != 0) {
                     float fadeProgress = (float) Math.pow(this._animationState._fadeProgress, 2);
 
                     for (int i = 0; i < this._ffdCount; ++i) {
                         if (i < this._valueOffset) {
-                            result.set(i, result.get(i) + (frameFloatArray.get(this._frameFloatOffset + i) - result.get(i)) * fadeProgress);
+                            result.set(i, result.get(i) + (this._getFrameFloat(this._frameFloatOffset + i, i & 1) - result.get(i)) * fadeProgress);
                         } else if (i < this._valueOffset + this._valueCount) {
                             result.set(i, result.get(i) + (this._result.get(i - this._valueOffset) - result.get(i)) * fadeProgress);
                         } else {
-                            result.set(i, result.get(i) + (frameFloatArray.get(this._frameFloatOffset + i - this._valueCount) - result.get(i)) * fadeProgress);
+                            result.set(i, result.get(i) + (this._getFrameFloat(this._frameFloatOffset + i - this._valueCount, i & 1) - result.get(i)) * fadeProgress);
                         }
                     }
 
@@ -142,11 +141,11 @@ public class SlotFFDTimelineState extends SlotTimelineState {
 
                     for (int i = 0; i < this._ffdCount; ++i) {
                         if (i < this._valueOffset) {
-                            result.set(i, frameFloatArray.get(this._frameFloatOffset + i));
+                            result.set(i, this._getFrameFloat(this._frameFloatOffset + i, i & 1));
                         } else if (i < this._valueOffset + this._valueCount) {
                             result.set(i, this._result.get(i - this._valueOffset));
                         } else {
-                            result.set(i, frameFloatArray.get(this._frameFloatOffset + i - this._valueCount));
+                            result.set(i, this._getFrameFloat(this._frameFloatOffset + i - this._valueCount, i & 1));
                         }
                     }
 
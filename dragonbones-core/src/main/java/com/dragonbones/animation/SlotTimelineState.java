@@ -1,6 +1,7 @@
 package com.dragonbones.animation;
 
 import com.dragonbones.armature.Slot;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * @internal
@@ -8,10 +9,17 @@ import com.dragonbones.armature.Slot;
  */
 public abstract class SlotTimelineState extends TweenTimelineState {
     public Slot slot;
+    @Nullable
+    public String _displayController; // Last compared slot displayController.
+    public boolean _displayControlled;
+    public boolean _staticUpdated; // Static value applied while controlled.
 
     protected void _onClear() {
         super._onClear();
 
         this.slot = null; //
+        this._displayController = null;
+        this._displayControlled = false;
+        this._staticUpdated = false;
     }
 }
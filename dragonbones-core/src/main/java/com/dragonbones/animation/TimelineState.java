@@ -20,6 +20,7 @@ public abstract class TimelineState extends BaseObject {
     public int playState; // -1: start, 0: play, 1: complete;
     public int currentPlayTimes;
     public float currentTime;
+    public boolean isStatic; // Same value in all frames, can be skipped after updated once.
 
     protected TweenState _tweenState;
     protected float _frameRate;
@@ -42,6 +43,10 @@ public abstract class TimelineState extends BaseObject {
     protected ShortArray _frameArray;
     protected ShortArray _frameIntArray;
     protected FloatArray _frameFloatArray;
+    @Nullable
+    protected short[] _frameShortArray;
+    protected FloatArray _frameQuantizeArray;
+    protected int _frameQuantizeOffset;
     protected CharArray _timelineArray;
     protected IntArray _frameIndices;
 
@@ -49,6 +54,7 @@ public abstract class TimelineState extends BaseObject {
         this.playState = -1;
         this.currentPlayTimes = -1;
         this.currentTime = -1f;
+        this.isStatic = false;
 
         this._tweenState = TweenState.None;
         this._frameRate = 0;
@@ -70,10 +76,65 @@ public abstract class TimelineState extends BaseObject {
         this._frameArray = null; //
         this._frameIntArray = null; //
         this._frameFloatArray = null; //
+        this._frameShortArray = null; //
+        this._frameQuantizeArray = null; //
+        this._frameQuantizeOffset = -1;
         this._timelineArray = null; //
         this._frameIndices = null; //
     }
 
+    /**
+     * 关键帧数值，数据已量化时按时间轴通道的数值范围解码。
+     */
+    protected final float _getFrameFloat(int index, int channel) {
+        if (this._frameShortArray == null) {
+            return this._frameFloatArray.get(index);
+        }
+
+        int quantizeOffset = this._frameQuantizeOffset + channel * 2;
+        return this._frameQuantizeArray.get(quantizeOffset) + this._frameQuantizeArray.get(quantizeOffset + 1) * (this._frameShortArray[index] + 32768);
+    }
+
+    private int _getKeyFramePosition(int frameIndex) {
+        return this._frameArray.get(this._animationData.frameOffset + this._timelineArray.get(this._timelineData.offset + BinaryOffset.TimelineFrameOffset.v + frameIndex));
+    }
+
+    /**
+     * 时间轴帧所在的关键帧索引。
+     * 使用紧凑帧索引时先检查当前和下一个关键帧，顺序播放时无需查找，否则二分查找关键帧位置。
+     */
+    protected final int _getFrameIndex(int timelineFrameIndex) {
+        if (this._frameIndices != null) {
+            return this._frameIndices.get(this._timelineData.frameIndicesOffset + timelineFrameIndex);
+        }
+
+        int lastFrameIndex = this._frameCount - 1;
+        int frameIndex = this._frameIndex >= 0 && this._frameIndex <= lastFrameIndex ? this._frameIndex : 0;
+        if (this._getKeyFramePosition(frameIndex) <= timelineFrameIndex) {
+            if (frameIndex == lastFrameIndex || this._getKeyFramePosition(frameIndex + 1) > timelineFrameIndex) { // Current frame.
+                return frameIndex;
+            }
+
+            frameIndex++;
+            if (frameIndex == lastFrameIndex || this._getKeyFramePosition(frameIndex + 1) > timelineFrameIndex) { // Next frame.
+                return frameIndex;
+            }
+        }
+
+        int low = 0;
+        int high = lastFrameIndex;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (this._getKeyFramePosition(middle) <= timelineFrameIndex) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        return low;
+    }
+
     protected abstract void _onArriveAtFrame();
 
     protected abstract void _onUpdateFrame();
@@ -164,9 +225,12 @@ public abstract class TimelineState extends BaseObject {
         if (this._timelineData != null) {
             this._frameIntArray = this._dragonBonesData.frameIntArray;
             this._frameFloatArray = this._dragonBonesData.frameFloatArray;
+            this._frameShortArray = this._dragonBonesData.frameShortArray;
+            this._frameQuantizeArray = this._dragonBonesData.frameQuantizeArray;
+            this._frameQuantizeOffset = this._timelineData.frameQuantizeOffset;
             this._frameArray = this._dragonBonesData.frameArray;
             this._timelineArray = this._dragonBonesData.timelineArray;
-            this._frameIndices = this._dragonBonesData.frameIndices;
+            this._frameIndices = this._dragonBonesData.isCompactFrameIndices() ? null : this._dragonBonesData.frameIndices;
 
             this._frameCount = this._timelineArray.get(this._timelineData.offset + BinaryOffset.TimelineKeyFrameCount.v);
             this._frameValueOffset = this._timelineArray.get(this._timelineData.offset + BinaryOffset.TimelineFrameValueOffset.v);
@@ -182,7 +246,7 @@ public abstract class TimelineState extends BaseObject {
         if (this.playState <= 0 && this._setCurrentTime(passedTime)) {
             if (this._frameCount > 1) {
                 int timelineFrameIndex = (int) Math.floor(this.currentTime * this._frameRate); // uint
-                int frameIndex = this._frameIndices.get(this._timelineData.frameIndicesOffset + timelineFrameIndex);
+                int frameIndex = this._getFrameIndex(timelineFrameIndex);
                 if (this._frameIndex != frameIndex) {
                     this._frameIndex = frameIndex;
                     this._frameOffset = this._animationData.frameOffset + this._timelineArray.get(this._timelineData.offset + BinaryOffset.TimelineFrameOffset.v + this._frameIndex);
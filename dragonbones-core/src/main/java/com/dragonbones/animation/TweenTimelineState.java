@@ -1,6 +1,7 @@
 package com.dragonbones.animation;
 
 import com.dragonbones.core.BinaryOffset;
+import com.dragonbones.core.DragonBones;
 import com.dragonbones.core.TweenType;
 import com.dragonbones.util.ShortArray;
 
@@ -10,42 +11,32 @@ import com.dragonbones.util.ShortArray;
  */
 public abstract class TweenTimelineState extends TimelineState {
     private static float _getEasingValue(TweenType tweenType, float progress, float easing) {
-        float value = progress;
-
-        switch (tweenType) {
-            case QuadIn:
-                value = (float) Math.pow(progress, 2f);
-                break;
-
-            case QuadOut:
-                value = (float) (1f - Math.pow(1f - progress, 2f));
-                break;
-
-            case QuadInOut:
-                value = (float) (0.5 * (1f - Math.cos(progress * Math.PI)));
-                break;
+        if (!DragonBones.accurateEasing) {
+            return EasingTable.getValue(tweenType, progress, easing);
         }
 
-        return (value - progress) * easing + progress;
+        return (EasingTable.getExactValue(tweenType, progress) - progress) * easing + progress;
     }
 
-    private static float _getEasingCurveValue(float progress, ShortArray samples, float count, int offset) {
+    private static float _getEasingCurveValue(float progress, ShortArray samples, int segmentCount, int offset) {
         if (progress <= 0f) {
             return 0f;
         } else if (progress >= 1f) {
             return 1f;
         }
 
-        float segmentCount = count + 1; // + 2 - 1
-        int valueIndex = (int) Math.floor(progress * segmentCount);
+        float position = progress * segmentCount;
+        int valueIndex = (int) position; // Positive, same as floor.
         float fromValue = valueIndex == 0 ? 0f : samples.get(offset + valueIndex - 1);
         float toValue = (valueIndex == segmentCount - 1) ? 10000f : samples.get(offset + valueIndex);
 
-        return (fromValue + (toValue - fromValue) * (progress * segmentCount - valueIndex)) * 0.0001f;
+        return (fromValue + (toValue - fromValue) * (position - valueIndex)) * 0.0001f;
     }
 
     protected TweenType _tweenType;
     protected float _curveCount;
+    protected int _curveSegmentCount;
+    protected int _curveOffset;
     protected float _framePosition;
     protected float _frameDurationR;
     protected float _tweenProgress;
@@ -56,6 +47,8 @@ public abstract class TweenTimelineState extends TimelineState {
 
         this._tweenType = TweenType.None;
         this._curveCount = 0;
+        this._curveSegmentCount = 0;
+        this._curveOffset = 0;
         this._framePosition = 0f;
         this._frameDurationR = 0f;
         this._tweenProgress = 0f;
@@ -75,6 +68,8 @@ public abstract class TweenTimelineState extends TimelineState {
             this._tweenState = this._tweenType == TweenType.None ? TweenState.Once : TweenState.Always;
             if (this._tweenType == TweenType.Curve) {
                 this._curveCount = this._frameArray.get(this._frameOffset + BinaryOffset.FrameTweenEasingOrCurveSampleCount.v);
+                this._curveSegmentCount = (int) this._curveCount + 1; // + 2 - 1
+                this._curveOffset = this._frameOffset + BinaryOffset.FrameCurveSamples.v;
             } else if (this._tweenType != TweenType.None && this._tweenType != TweenType.Line) {
                 this._tweenEasing = this._frameArray.get(this._frameOffset + BinaryOffset.FrameTweenEasingOrCurveSampleCount.v) * 0.01f;
             }
@@ -95,7 +90,7 @@ public abstract class TweenTimelineState extends TimelineState {
         if (this._tweenState == TweenState.Always) {
             this._tweenProgress = (this.currentTime - this._framePosition) * this._frameDurationR;
             if (this._tweenType == TweenType.Curve) {
-                this._tweenProgress = TweenTimelineState._getEasingCurveValue(this._tweenProgress, this._frameArray, this._curveCount, this._frameOffset + BinaryOffset.FrameCurveSamples.v);
+                this._tweenProgress = TweenTimelineState._getEasingCurveValue(this._tweenProgress, this._frameArray, this._curveSegmentCount, this._curveOffset);
             } else if (this._tweenType != TweenType.Line) {
                 this._tweenProgress = TweenTimelineState._getEasingValue(this._tweenType, this._tweenProgress, this._tweenEasing);
             }
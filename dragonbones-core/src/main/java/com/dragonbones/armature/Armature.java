@@ -1,6 +1,7 @@
 package com.dragonbones.armature;
 
 import com.dragonbones.animation.Animation;
+import com.dragonbones.animation.Crowd;
 import com.dragonbones.animation.IAnimatable;
 import com.dragonbones.animation.WorldClock;
 import com.dragonbones.core.ActionType;
@@ -69,11 +70,29 @@ public class Armature extends BaseObject implements IAnimatable {
     private boolean _zOrderDirty;
     private boolean _flipX;
     private boolean _flipY;
+    private boolean _renderEnabled;
+    private boolean _renderDirty;
     /**
      * @internal
      * @private
      */
     public int _cacheFrameIndex;
+    /**
+     * 本帧新缓存的帧，骨骼更新后发布。
+     *
+     * @internal
+     * @private
+     */
+    @Nullable
+    public FrameCacheData _pendingFrameCache;
+    /**
+     * 所在的群体，同一群体中播放相同动画的实例共享骨骼姿势。
+     *
+     * @internal
+     * @private
+     */
+    @Nullable
+    public Crowd _crowd;
     private final Array<Bone> _bones = new Array<>();
     private final Array<Slot> _slots = new Array<>();
     private final Array<ActionData> _actions = new Array<>();
@@ -151,7 +170,11 @@ public class Armature extends BaseObject implements IAnimatable {
         this._zOrderDirty = false;
         this._flipX = false;
         this._flipY = false;
+        this._renderEnabled = true;
+        this._renderDirty = false;
         this._cacheFrameIndex = -1;
+        this._pendingFrameCache = null;
+        this._crowd = null;
         this._bones.clear();
         this._slots.clear();
         this._actions.clear();
@@ -382,8 +405,29 @@ public class Armature extends BaseObject implements IAnimatable {
                 this._bones.get(i).update(this._cacheFrameIndex);
             }
 
-            for (i = 0, l = this._slots.size(); i < l; ++i) {
-                this._slots.get(i).update(this._cacheFrameIndex);
+            if (this._pendingFrameCache != null) { // All bones are cached.
+                this._pendingFrameCache.setCached(this._cacheFrameIndex);
+                this._pendingFrameCache = null;
+            }
+
+            if (!this._renderEnabled) { // Keep bounding boxes and hit tests current.
+                for (i = 0, l = this._slots.size(); i < l; ++i) {
+                    this._slots.get(i)._updateGlobalTransform();
+                }
+            } else if (!this._renderDirty) {
+                for (i = 0, l = this._slots.size(); i < l; ++i) {
+                    this._slots.get(i).update(this._cacheFrameIndex);
+                }
+            }
+        }
+
+        // Catch up slots deferred while not rendered.
+        if (this._renderEnabled && this._renderDirty) {
+            this._renderDirty = false;
+            for (int i = 0, l = this._slots.size(); i < l; ++i) {
+                Slot slot = this._slots.get(i);
+                slot._invalidRender();
+                slot.update(this._cacheFrameIndex);
             }
         }
 
@@ -751,6 +795,39 @@ public class Armature extends BaseObject implements IAnimatable {
         this.invalidUpdate();
     }
 
+    /**
+     * 是否渲染骨架。
+     * 设置为 false 时 (例如骨架在屏幕外)，骨骼、插槽的全局变换和动作时间轴会继续更新 (挂点、包围盒、碰撞和事件仍然有效)，
+     * 插槽的显示、颜色、网格和显示对象变换的更新将被推迟，直到重新设置为 true 时在下一帧一次性补齐。
+     * 插槽中的子骨架会跟随设置。
+     *
+     * @default true
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public boolean getRenderEnabled() {
+        return this._renderEnabled;
+    }
+
+    public void setRenderEnabled(boolean value) {
+        if (this._renderEnabled == value) {
+            return;
+        }
+
+        this._renderEnabled = value;
+        if (!value) {
+            this._renderDirty = true;
+        }
+
+        // Set child armature render enabled.
+        for (Slot slot : this._slots) {
+            Armature childArmature = slot.getChildArmature();
+            if (childArmature != null) {
+                childArmature.setRenderEnabled(value);
+            }
+        }
+    }
+
     /**
      * 动画缓存帧率，当设置的值大于 0 的时，将会开启动画缓存。
      * 通过将动画数据缓存在内存中来提高运行性能，会有一定的内存开销。
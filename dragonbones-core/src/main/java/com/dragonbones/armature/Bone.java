@@ -4,9 +4,10 @@ import com.dragonbones.core.DragonBones;
 import com.dragonbones.core.OffsetMode;
 import com.dragonbones.geom.Matrix;
 import com.dragonbones.geom.Transform;
+import com.dragonbones.model.ArmatureData;
 import com.dragonbones.model.BoneData;
+import com.dragonbones.model.FrameCacheData;
 import com.dragonbones.util.Array;
-import com.dragonbones.util.IntArray;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -77,7 +78,8 @@ public class Bone extends TransformObject {
      * @private
      */
     @Nullable
-    public IntArray _cachedFrameIndices = new IntArray();
+    public FrameCacheData _frameCache;
+    private int _frameCacheEntry;
 
     /**
      * @private
@@ -105,7 +107,19 @@ public class Bone extends TransformObject {
         this._blendLayerWeight = 0f;
         this._bones.clear();
         this._slots.clear();
-        this._cachedFrameIndices = null;
+        this._frameCache = null;
+        this._frameCacheEntry = -1;
+    }
+
+    /**
+     * @internal
+     * @private
+     */
+    public void _setFrameCache(FrameCacheData frameCache, ArmatureData armatureData) {
+        BoneData data = armatureData.getBone(this.name); // The animation may be copied from another armature.
+        this._frameCacheEntry = data != null ? frameCache.getBoneEntry(data) : -1;
+        this._frameCache = this._frameCacheEntry >= 0 ? frameCache : null;
+        this._cachedFrameIndex = -1; // Cached frames are not shared between animations.
     }
 
     /**
@@ -301,8 +315,8 @@ public class Bone extends TransformObject {
     public void update(int cacheFrameIndex) {
         this._blendDirty = false;
 
-        if (cacheFrameIndex >= 0 && this._cachedFrameIndices != null) {
-            int cachedFrameIndex = this._cachedFrameIndices.get(cacheFrameIndex);
+        if (cacheFrameIndex >= 0 && this._frameCache != null) {
+            int cachedFrameIndex = this._frameCache.getFrameIndex(cacheFrameIndex, this._frameCacheEntry);
             if (cachedFrameIndex >= 0 && this._cachedFrameIndex == cachedFrameIndex) { // Same cache.
                 this._transformDirty = false;
             } else if (cachedFrameIndex >= 0) { // Has been Cached.
@@ -323,7 +337,9 @@ public class Bone extends TransformObject {
                     this._cachedFrameIndex = -1;
                 } else if (this._cachedFrameIndex >= 0) { // Same cache, but not set index yet.
                     this._transformDirty = false;
-                    this._cachedFrameIndices.set(cacheFrameIndex, this._cachedFrameIndex);
+                    if (!this._frameCache.setFrameIndex(cacheFrameIndex, this._frameCacheEntry, this._cachedFrameIndex)) { // Being written by another armature.
+                        this._armature._pendingFrameCache = null;
+                    }
                 } else { // Dirty.
                     this._transformDirty = true;
                     this._cachedFrameIndex = -1;
@@ -353,13 +369,16 @@ public class Bone extends TransformObject {
                     this._updateGlobalTransformMatrix(isCache);
                 }
 
-                if (isCache && this._cachedFrameIndices != null) {
-                    int vv = this._armature.armatureData.setCacheFrame(this.globalTransformMatrix, this.global);
-                    this._cachedFrameIndices.set(cacheFrameIndex, vv);
+                if (isCache && this._frameCache != null) {
+                    int vv = this._frameCache.setCacheFrame(cacheFrameIndex, this._frameCacheEntry, this.globalTransformMatrix, this.global);
+                    if (vv < 0 || !this._frameCache.setFrameIndex(cacheFrameIndex, this._frameCacheEntry, vv)) { // Written by another armature.
+                        this._armature._pendingFrameCache = null; // Frame is published by the writer.
+                    }
+
                     this._cachedFrameIndex = vv;
                 }
             } else {
-                this._armature.armatureData.getCacheFrame(this.globalTransformMatrix, this.global, this._cachedFrameIndex);
+                this._frameCache.getCacheFrame(this.globalTransformMatrix, this.global, this._cachedFrameIndex);
             }
         } else if (this._childrenTransformDirty) {
             this._childrenTransformDirty = false;
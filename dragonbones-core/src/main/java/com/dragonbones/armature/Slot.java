@@ -11,7 +11,6 @@ import com.dragonbones.geom.Rectangle;
 import com.dragonbones.model.*;
 import com.dragonbones.util.Array;
 import com.dragonbones.util.FloatArray;
-import com.dragonbones.util.IntArray;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -174,7 +173,8 @@ public abstract class Slot extends TransformObject {
      * @private
      */
     @Nullable
-    public IntArray _cachedFrameIndices;
+    public FrameCacheData _frameCache;
+    private int _frameCacheEntry;
 
     /**
      * @private
@@ -240,7 +240,19 @@ public abstract class Slot extends TransformObject {
         this._meshDisplay = null;
         this._display = null;
         this._childArmature = null;
-        this._cachedFrameIndices = null;
+        this._frameCache = null;
+        this._frameCacheEntry = -1;
+    }
+
+    /**
+     * @internal
+     * @private
+     */
+    public void _setFrameCache(FrameCacheData frameCache, ArmatureData armatureData) {
+        SlotData data = armatureData.getSlot(this.name); // The animation may be copied from another armature.
+        this._frameCacheEntry = data != null ? frameCache.getSlotEntry(data) : -1;
+        this._frameCache = this._frameCacheEntry >= 0 ? frameCache : null;
+        this._cachedFrameIndex = -1; // Cached frames are not shared between animations.
     }
 
     /**
@@ -491,6 +503,10 @@ public abstract class Slot extends TransformObject {
             if (this._childArmature != null) {
                 this._childArmature._parent = this; // Update child armature parent.
                 this._childArmature.setClock(this._armature.getClock());
+                if (!this._armature.getRenderEnabled()) { // Set child armature render enabled.
+                    this._childArmature.setRenderEnabled(false);
+                }
+
                 if (this._childArmature.inheritAnimation) { // Set child armature cache frameRate.
                     if (this._childArmature.getCacheFrameRate() == 0) {
                         float cacheFrameRate = this._armature.getCacheFrameRate();
@@ -713,8 +729,8 @@ public abstract class Slot extends TransformObject {
             this._updateZOrder();
         }
 
-        if (cacheFrameIndex >= 0 && this._cachedFrameIndices != null) {
-            int cachedFrameIndex = this._cachedFrameIndices.get(cacheFrameIndex);
+        if (cacheFrameIndex >= 0 && this._frameCache != null) {
+            int cachedFrameIndex = this._frameCache.getFrameIndex(cacheFrameIndex, this._frameCacheEntry);
             if (cachedFrameIndex >= 0 && this._cachedFrameIndex == cachedFrameIndex) { // Same cache.
                 this._transformDirty = false;
             } else if (cachedFrameIndex >= 0) { // Has been Cached.
@@ -725,7 +741,7 @@ public abstract class Slot extends TransformObject {
                 this._cachedFrameIndex = -1;
             } else if (this._cachedFrameIndex >= 0) { // Same cache, but not set index yet.
                 this._transformDirty = false;
-                this._cachedFrameIndices.set(cacheFrameIndex, this._cachedFrameIndex);
+                this._frameCache.setFrameIndex(cacheFrameIndex, this._frameCacheEntry, this._cachedFrameIndex);
             } else { // Dirty.
                 this._transformDirty = true;
                 this._cachedFrameIndex = -1;
@@ -774,19 +790,44 @@ public abstract class Slot extends TransformObject {
                 boolean isCache = cacheFrameIndex >= 0;
                 this._updateGlobalTransformMatrix(isCache);
 
-                if (isCache && this._cachedFrameIndices != null) {
-                    int vv = this._armature.armatureData.setCacheFrame(this.globalTransformMatrix, this.global);
-                    this._cachedFrameIndices.set(cacheFrameIndex, vv);
+                if (isCache && this._frameCache != null) {
+                    int vv = this._frameCache.setCacheFrame(cacheFrameIndex, this._frameCacheEntry, this.globalTransformMatrix, this.global);
+                    if (vv >= 0) { // Skipped when written by another armature.
+                        this._frameCache.setFrameIndex(cacheFrameIndex, this._frameCacheEntry, vv);
+                    }
+
                     this._cachedFrameIndex = vv;
                 }
             } else {
-                this._armature.armatureData.getCacheFrame(this.globalTransformMatrix, this.global, this._cachedFrameIndex);
+                this._frameCache.getCacheFrame(this.globalTransformMatrix, this.global, this._cachedFrameIndex);
             }
 
             this._updateTransform(false);
         }
     }
 
+    /**
+     * 骨架不渲染时只更新全局变换矩阵，供包围盒和碰撞检测使用，显示、颜色、网格和显示对象变换在恢复渲染时更新。
+     *
+     * @internal
+     * @private
+     */
+    public void _updateGlobalTransform() {
+        if (this._displayDirty && this._transformDirty) { // Display is updated later, local matrix is needed now.
+            if (this.origin != null) {
+                this.global.copyFrom(this.origin).add(this.offset).toMatrix(this._localMatrix);
+            } else {
+                this.global.copyFrom(this.offset).toMatrix(this._localMatrix);
+            }
+        }
+
+        if (this._transformDirty || this._parent._childrenTransformDirty) {
+            this._transformDirty = false;
+            this._cachedFrameIndex = -1;
+            this._updateGlobalTransformMatrix(false);
+        }
+    }
+
     /**
      * @private
      */
@@ -904,6 +945,20 @@ public abstract class Slot extends TransformObject {
         this._transformDirty = true;
     }
 
+    /**
+     * 骨架从不渲染状态恢复时，骨骼在此期间的变换不会再标记插槽，需强制更新变换和网格。
+     *
+     * @internal
+     * @private
+     */
+    public void _invalidRender() {
+        this._transformDirty = true;
+        this._cachedFrameIndex = -1;
+        if (this._meshData != null) {
+            this._meshDirty = true;
+        }
+    }
+
     /**
      * 此时显示的显示对象在显示列表中的索引。
      *
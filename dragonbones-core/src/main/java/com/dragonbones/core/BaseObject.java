@@ -6,6 +6,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 基础对象。
@@ -13,14 +14,20 @@ import java.util.Map;
  * @version DragonBones 4.5
  */
 public abstract class BaseObject {
-    private static int _hashCode = 0;
+    private static final AtomicInteger _hashCode = new AtomicInteger();
     private static int _defaultMaxCount = 1000;
     private static final Map<Class<? extends BaseObject>, Integer> _maxCountMap = new HashMap<>();
     private static final Map<Class<? extends BaseObject>, Array<BaseObject>> _poolsMap = new HashMap<>();
 
     private static void _returnObject(BaseObject object) {
+        synchronized (BaseObject._poolsMap) { // Pools can be used by background baking and loading.
+            BaseObject._returnObjectToPool(object);
+        }
+    }
+
+    private static void _returnObjectToPool(BaseObject object) {
         Class<? extends BaseObject> classType = object.getClass();
-        int maxCount = BaseObject._maxCountMap.containsKey(classType) ? BaseObject._defaultMaxCount : BaseObject._maxCountMap.get(classType);
+        int maxCount = BaseObject._maxCountMap.containsKey(classType) ? BaseObject._maxCountMap.get(classType) : BaseObject._defaultMaxCount;
         if (!BaseObject._poolsMap.containsKey(classType)) {
             BaseObject._poolsMap.put(classType, new Array<>());
         }
@@ -45,37 +52,41 @@ public abstract class BaseObject {
      * @language zh_CN
      */
     public static void setMaxCount(Class<BaseObject> classType, int maxCount) {
-        if (maxCount < 0) { // isNaN
-            maxCount = 0;
-        }
-
-        if (classType != null) {
-            Array<BaseObject> pool = BaseObject._poolsMap.get(classType);
-            if (pool != null && pool.size() > maxCount) {
-                pool.setLength(maxCount);
+        synchronized (BaseObject._poolsMap) {
+            if (maxCount < 0) { // isNaN
+                maxCount = 0;
             }
 
-            BaseObject._maxCountMap.put(classType, maxCount);
-        } else {
-            BaseObject._defaultMaxCount = maxCount;
-            for (Class<? extends BaseObject> classType2 : BaseObject._poolsMap.keySet()) {
-                if (BaseObject._maxCountMap.containsKey(classType2)) {
-                    continue;
-                }
-
-                Array<BaseObject> pool = BaseObject._poolsMap.get(classType2);
-                if (pool.size() > maxCount) {
+            if (classType != null) {
+                Array<BaseObject> pool = BaseObject._poolsMap.get(classType);
+                if (pool != null && pool.size() > maxCount) {
                     pool.setLength(maxCount);
                 }
 
-                BaseObject._maxCountMap.put(classType2, maxCount);
+                BaseObject._maxCountMap.put(classType, maxCount);
+            } else {
+                BaseObject._defaultMaxCount = maxCount;
+                for (Class<? extends BaseObject> classType2 : BaseObject._poolsMap.keySet()) {
+                    if (BaseObject._maxCountMap.containsKey(classType2)) {
+                        continue;
+                    }
+
+                    Array<BaseObject> pool = BaseObject._poolsMap.get(classType2);
+                    if (pool.size() > maxCount) {
+                        pool.setLength(maxCount);
+                    }
+
+                    BaseObject._maxCountMap.put(classType2, maxCount);
+                }
             }
         }
     }
 
     public static void clearPool() {
-        for (Array<BaseObject> pool : BaseObject._poolsMap.values()) {
-            pool.clear();
+        synchronized (BaseObject._poolsMap) {
+            for (Array<BaseObject> pool : BaseObject._poolsMap.values()) {
+                pool.clear();
+            }
         }
     }
 
@@ -87,9 +98,11 @@ public abstract class BaseObject {
      * @language zh_CN
      */
     public static void clearPool(@NotNull Class<BaseObject> classType) {
-        Array<BaseObject> pool = BaseObject._poolsMap.get(classType);
-        if (pool != null && pool.size() > 0) {
-            pool.clear();
+        synchronized (BaseObject._poolsMap) {
+            Array<BaseObject> pool = BaseObject._poolsMap.get(classType);
+            if (pool != null && pool.size() > 0) {
+                pool.clear();
+            }
         }
     }
 
@@ -102,11 +115,13 @@ public abstract class BaseObject {
      */
 
     public static <T extends BaseObject> T borrowObject(Class<T> classType) {
-        Array<BaseObject> pool = BaseObject._poolsMap.get(classType);
-        if (pool != null && pool.size() > 0) {
-            T object = (T) pool.popObject();
-            object._isInPool = false;
-            return object;
+        synchronized (BaseObject._poolsMap) {
+            Array<BaseObject> pool = BaseObject._poolsMap.get(classType);
+            if (pool != null && pool.size() > 0) {
+                T object = (T) pool.popObject();
+                object._isInPool = false;
+                return object;
+            }
         }
 
         try {
@@ -128,7 +143,7 @@ public abstract class BaseObject {
      * @version DragonBones 4.5
      * @language zh_CN
      */
-    public final int hashCode = BaseObject._hashCode++;
+    public final int hashCode = BaseObject._hashCode.getAndIncrement();
     boolean _isInPool = false;
 
     /**
@@ -6,6 +6,9 @@ import com.dragonbones.event.EventObject;
 import com.dragonbones.event.IEventDispatcher;
 import com.dragonbones.util.Array;
 
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
 /**
  * @private
  */
@@ -13,11 +16,24 @@ public class DragonBones {
     public static boolean yDown = true;
     public static boolean debug = false;
     public static boolean debugDraw = false;
+    /**
+     * 使用精确的缓动计算代替共享的缓动查找表。 (用于验证)
+     */
+    public static boolean accurateEasing = false;
+    /**
+     * 多个动画状态稳定混合时每种混合最多缓存的姿势数量。 (0 表示不缓存，只在开启动画缓存时生效)
+     * 混合姿势由同一个骨架数据创建的骨架共享，占用的内存计入动画缓存管理器的内存预算。
+     *
+     * @see com.dragonbones.armature.Armature#setCacheFrameRate(float)
+     * @see com.dragonbones.factory.FrameCacheManager
+     */
+    public static int blendPoseCacheSize = 256;
     public static String VERSION = "5.1f";
 
     private final WorldClock _clock = new WorldClock();
     private final Array<EventObject> _events = new Array<>();
     private final Array<BaseObject> _objects = new Array<>();
+    private final Queue<Runnable> _commits = new ConcurrentLinkedQueue<>();
     private IEventDispatcher _eventManager = null;
 
     public DragonBones(IEventDispatcher eventManager) {
@@ -25,6 +41,11 @@ public class DragonBones {
     }
 
     public void advanceTime(float passedTime) {
+        Runnable commit;
+        while ((commit = this._commits.poll()) != null) {
+            commit.run();
+        }
+
         if (this._objects.size() > 0) {
             for (BaseObject object : this._objects) {
                 object.returnToPool();
@@ -52,6 +73,16 @@ public class DragonBones {
         }
     }
 
+    /**
+     * 在下一次 {@link #advanceTime(float)} 开始时，在更新动画的线程中执行。 (可以在任意线程中调用)
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public void commitLater(Runnable commit) {
+        this._commits.add(commit);
+    }
+
     public void bufferEvent(EventObject value) {
         if (this._events.indexOf(value) < 0) {
             this._events.add(value);
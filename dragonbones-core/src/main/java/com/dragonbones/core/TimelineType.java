@@ -27,9 +27,22 @@ public enum TimelineType {
     AnimationWeight(41);
 
     public static TimelineType[] values = values();
-    final int v;
+    public final int v;
 
     TimelineType(int v) {
         this.v = v;
     }
+
+    /**
+     * 按数据中的类型值获取时间轴类型。
+     */
+    public static TimelineType getByValue(int v) {
+        for (TimelineType type : values) {
+            if (type.v == v) {
+                return type;
+            }
+        }
+
+        throw new IllegalArgumentException("Unknown timeline type " + v);
+    }
 }
@@ -9,15 +9,20 @@ import com.dragonbones.core.DisplayType;
 import com.dragonbones.core.DragonBones;
 import com.dragonbones.model.*;
 import com.dragonbones.parser.BinaryDataParser;
+import com.dragonbones.parser.DataParseTask;
 import com.dragonbones.parser.DataParser;
 import com.dragonbones.parser.ObjectDataParser;
 import com.dragonbones.util.Array;
 import com.dragonbones.util.Console;
+import com.dragonbones.util.buffer.ArrayBuffer;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Foundations of the skeleton of the factory. (Usually only need a global factory instance)
@@ -32,11 +37,7 @@ public abstract class BaseFactory {
     /**
      * @private
      */
-    protected static ObjectDataParser _objectParser = null;
-    /**
-     * @private
-     */
-    protected static BinaryDataParser _binaryParser = null;
+    protected final BinaryDataParser _binaryParser = new BinaryDataParser();
     /**
      * Whether to open the shared search.
      * When on, when creating a skeleton,
@@ -65,6 +66,11 @@ public abstract class BaseFactory {
      * @private
      */
     protected DataParser _dataParser = null;
+    /**
+     * @private
+     */
+    @Nullable
+    protected FrameCacheManager _frameCacheManager = null;
 
     public BaseFactory() {
         this(null);
@@ -78,15 +84,60 @@ public abstract class BaseFactory {
      * @language zh_CN
      */
     public BaseFactory(@Nullable DataParser dataParser) {
-        if (BaseFactory._objectParser == null) {
-            BaseFactory._objectParser = new ObjectDataParser();
+        this._dataParser = dataParser != null ? dataParser : new ObjectDataParser();
+    }
+
+    /**
+     * 创建与工厂解析器同类型的新解析器，用于在其他线程中解析数据。 (解析器保存了解析过程中的状态，不能同时解析多个数据)
+     *
+     * @private
+     */
+    protected DataParser _createDataParser() {
+        DataParser dataParser;
+        try {
+            dataParser = this._dataParser.getClass().newInstance();
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new RuntimeException(e);
         }
 
-        if (BaseFactory._binaryParser == null) {
-            BaseFactory._binaryParser = new BinaryDataParser();
+        if (dataParser instanceof ObjectDataParser && this._dataParser instanceof ObjectDataParser) {
+            ((ObjectDataParser) dataParser)._copyOptions((ObjectDataParser) this._dataParser);
         }
 
-        this._dataParser = dataParser != null ? dataParser : BaseFactory._objectParser;
+        return dataParser;
+    }
+
+    /**
+     * 创建使用工厂二进制解析器选项的新解析器。
+     *
+     * @private
+     */
+    protected BinaryDataParser _createBinaryParser() {
+        BinaryDataParser binaryParser = new BinaryDataParser();
+        binaryParser._copyOptions(this._binaryParser);
+        return binaryParser;
+    }
+
+    /**
+     * 解析 JSON 数据的解析器，可以在解析之前设置解析选项。 (分步解析和批量加载使用的新解析器复制这个解析器的选项)
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see ObjectDataParser#setKeyFrameTolerance(float)
+     */
+    public DataParser getDataParser() {
+        return this._dataParser;
+    }
+
+    /**
+     * 解析二进制数据的解析器，可以在解析之前设置解析选项。 (分步解析和批量加载使用的新解析器复制这个解析器的选项)
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see BinaryDataParser#setCopyArrays(boolean)
+     */
+    public BinaryDataParser getBinaryParser() {
+        return this._binaryParser;
     }
 
     /**
@@ -427,7 +478,9 @@ public abstract class BaseFactory {
     public DragonBonesData parseDragonBonesData(Object rawData, @Nullable String name, float scale) {
         DragonBonesData dragonBonesData = null;
         if (rawData instanceof byte[]) {
-            dragonBonesData = BaseFactory._binaryParser.parseDragonBonesData(rawData, scale);
+            dragonBonesData = this._binaryParser.parseDragonBonesData(new ArrayBuffer((byte[]) rawData), scale);
+        } else if (rawData instanceof ArrayBuffer) {
+            dragonBonesData = this._binaryParser.parseDragonBonesData(rawData, scale);
         } else {
             dragonBonesData = this._dataParser.parseDragonBonesData(rawData, scale);
         }
@@ -449,6 +502,111 @@ public abstract class BaseFactory {
         return dragonBonesData;
     }
 
+    /**
+     * 创建分步解析龙骨数据的任务，每次调用 {@link DataParseTask#step(long)} 在时间预算内解析一部分数据，解析完成后在最后一次调用中添加到工厂。
+     * 每个任务使用各自的解析器实例，可以同时进行多个任务。
+     *
+     * @param rawData 需要解析的原始数据，可以是数据对象、JSONReader 或 ArrayBuffer。
+     * @param name    为数据指定一个名称，以便可以通过这个名称获取数据，如果未设置，则使用数据中的名称。
+     * @param scale   为所有骨架指定一个缩放值。
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see #parseDragonBonesData(Object, String, float)
+     */
+    public DataParseTask createParseTask(Object rawData, @Nullable String name, float scale) {
+        DataParser dataParser;
+        if (rawData instanceof byte[]) {
+            dataParser = this._createBinaryParser();
+            rawData = new ArrayBuffer((byte[]) rawData);
+        } else if (rawData instanceof ArrayBuffer) {
+            dataParser = this._createBinaryParser();
+        } else {
+            dataParser = this._createDataParser();
+        }
+
+        DataParseTask task = dataParser.createParseTask(rawData, scale);
+        task.setCompleteCallback(() -> {
+            while (true) {
+                TextureAtlasData textureAtlasData = this._buildTextureAtlasData(null, null);
+                if (dataParser.parseTextureAtlasData(null, textureAtlasData, scale)) {
+                    this.addTextureAtlasData(textureAtlasData, name);
+                } else {
+                    textureAtlasData.returnToPool();
+                    break;
+                }
+            }
+
+            DragonBonesData dragonBonesData = task.getDragonBonesData();
+            if (dragonBonesData != null) {
+                this.addDragonBonesData(dragonBonesData, name);
+            }
+        });
+
+        return task;
+    }
+
+    /**
+     * 创建批量加载，在多个线程中同时解析多个龙骨数据和贴图集数据，然后在调用线程中添加到工厂。
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see DataLoadBatch#load(Executor)
+     */
+    public DataLoadBatch createLoadBatch() {
+        return new DataLoadBatch(this);
+    }
+
+    /**
+     * 在后台线程中读取和解析龙骨数据，在下一次 {@link DragonBones#advanceTime(float)} 开始时添加到工厂。
+     *
+     * @param rawData 需要解析的原始数据，可以是数据对象、JSONReader、ArrayBuffer 或文件路径。
+     * @param name    为数据指定一个名称，以便可以通过这个名称获取数据，如果未设置，则使用数据中的名称。
+     * @param scale   为所有骨架指定一个缩放值。
+     * @returns 添加到工厂后完成。
+     * @throws IllegalStateException 工厂没有 DragonBones 实例。
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see DataLoadBatch#loadAsync(Executor)
+     */
+    public CompletableFuture<DragonBonesData> parseDragonBonesDataAsync(Object rawData, @Nullable String name, float scale) {
+        return this.parseDragonBonesDataAsync(rawData, name, scale, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param executor 执行解析的线程池。
+     * @see #parseDragonBonesDataAsync(Object, String, float)
+     */
+    public CompletableFuture<DragonBonesData> parseDragonBonesDataAsync(Object rawData, @Nullable String name, float scale, Executor executor) {
+        DataLoadBatch batch = this.createLoadBatch().addDragonBonesData(rawData, name, scale);
+        return batch.loadAsync(executor).thenApply(value -> value._getDragonBonesData(0));
+    }
+
+    /**
+     * 在后台线程中读取和解析贴图集数据，在下一次 {@link DragonBones#advanceTime(float)} 开始时添加到工厂。
+     *
+     * @param rawData      需要解析的原始数据，可以是数据对象或 JSON 文件路径。
+     * @param textureAtlas 贴图，在添加到工厂时设置。
+     * @param name         为数据指定一个名称，以便可以通过这个名称获取数据，如果未设置，则使用数据中的名称。
+     * @param scale        为贴图集设置一个缩放值。
+     * @returns 添加到工厂后完成。
+     * @throws IllegalStateException 工厂没有 DragonBones 实例。
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see DataLoadBatch#loadAsync(Executor)
+     */
+    public CompletableFuture<TextureAtlasData> parseTextureAtlasDataAsync(Object rawData, @Nullable Object textureAtlas, @Nullable String name, float scale) {
+        return this.parseTextureAtlasDataAsync(rawData, textureAtlas, name, scale, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param executor 执行解析的线程池。
+     * @see #parseTextureAtlasDataAsync(Object, Object, String, float)
+     */
+    public CompletableFuture<TextureAtlasData> parseTextureAtlasDataAsync(Object rawData, @Nullable Object textureAtlas, @Nullable String name, float scale, Executor executor) {
+        DataLoadBatch batch = this.createLoadBatch().addTextureAtlasData(rawData, textureAtlas, name, scale);
+        return batch.loadAsync(executor).thenApply(value -> value._getTextureAtlasData(0));
+    }
+
     public TextureAtlasData parseTextureAtlasData(Object rawData, Object textureAtlas) {
         return parseTextureAtlasData(rawData, textureAtlas, null, 0f);
     }
@@ -537,6 +695,10 @@ public abstract class BaseFactory {
         }
 
         this._dragonBonesDataMap.put(name, data);
+
+        if (this._frameCacheManager != null) {
+            this._frameCacheManager._invalidAnimations();
+        }
     }
 
     public void removeDragonBonesData(String name) {
@@ -562,6 +724,10 @@ public abstract class BaseFactory {
             }
 
             this._dragonBonesDataMap.remove(name);
+
+            if (this._frameCacheManager != null) {
+                this._frameCacheManager._invalidAnimations();
+            }
         }
     }
 
@@ -674,23 +840,23 @@ public abstract class BaseFactory {
      * @language zh_CN
      */
     public void clear(boolean disposeData) {
-        for (String k : this._dragonBonesDataMap.keySet()) {
-            if (disposeData) {
-                this._dragonBones.bufferObject(this._dragonBonesDataMap.get(k));
+        if (disposeData) {
+            for (DragonBonesData dragonBonesData : this._dragonBonesDataMap.values()) {
+                this._dragonBones.bufferObject(dragonBonesData);
             }
 
-            this._dragonBonesDataMap.remove(k);
-        }
-
-        for (String k : this._textureAtlasDataMap.keySet()) {
-            if (disposeData) {
-                Array<TextureAtlasData> textureAtlasDataList = this._textureAtlasDataMap.get(k);
+            for (Array<TextureAtlasData> textureAtlasDataList : this._textureAtlasDataMap.values()) {
                 for (TextureAtlasData textureAtlasData : textureAtlasDataList) {
                     this._dragonBones.bufferObject(textureAtlasData);
                 }
             }
+        }
 
-            this._textureAtlasDataMap.remove(k);
+        this._dragonBonesDataMap.clear();
+        this._textureAtlasDataMap.clear();
+
+        if (this._frameCacheManager != null) {
+            this._frameCacheManager._invalidAnimations();
         }
     }
 
@@ -732,6 +898,71 @@ public abstract class BaseFactory {
         return armature;
     }
 
+    /**
+     * 获得工厂的动画缓存管理器，第一次获得时创建并加入时钟。
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see FrameCacheManager#setMemoryBudget(int)
+     */
+    public FrameCacheManager getFrameCacheManager() {
+        if (this._frameCacheManager == null) {
+            this._frameCacheManager = new FrameCacheManager(this);
+            if (this._dragonBones != null) {
+                this._dragonBones.getClock().add(this._frameCacheManager);
+            }
+        }
+
+        return this._frameCacheManager;
+    }
+
+    /**
+     * 在后台线程中烘焙骨架所有动画的动画缓存，避免第一次播放时计算和写入缓存。 (通常在加载数据后调用)
+     *
+     * @param armatureName    骨架数据名称。
+     * @param dragonBonesName 龙骨数据名称，如果未设置，将检索所有的龙骨数据。
+     * @param frameRate       缓存帧率。
+     * @returns 烘焙任务，可以查询进度和内存占用。
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see Armature#setCacheFrameRate(float)
+     */
+    public FrameCacheBakeTask bakeFrameCache(String armatureName, @Nullable String dragonBonesName, float frameRate) {
+        return this.bakeFrameCache(armatureName, dragonBonesName, frameRate, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param executor 执行烘焙任务的线程池。
+     * @see #bakeFrameCache(String, String, float)
+     */
+    public FrameCacheBakeTask bakeFrameCache(String armatureName, @Nullable String dragonBonesName, float frameRate, Executor executor) {
+        return this.bakeFrameCache(armatureName, dragonBonesName, frameRate, 0f, executor);
+    }
+
+    /**
+     * @param quantizeErrorBound 烘焙后将缓存量化为 16 位整数保存时允许的最大误差。 (0 表示不量化)
+     * @param executor           执行烘焙任务的线程池。
+     * @see #bakeFrameCache(String, String, float)
+     * @see AnimationData#quantizeCache(float)
+     */
+    public FrameCacheBakeTask bakeFrameCache(String armatureName, @Nullable String dragonBonesName, float frameRate, float quantizeErrorBound, Executor executor) {
+        ArmatureData armatureData = dragonBonesName != null ? this.getArmatureData(armatureName, dragonBonesName) : this.getArmatureData(armatureName);
+        if (armatureData == null) {
+            Console.warn("No armature data. " + armatureName + ", " + (dragonBonesName != null ? dragonBonesName : ""));
+        }
+
+        // Look up the data and create the caches on the calling thread, the factory maps are not thread safe
+        // and armatures playing the data read the caches. The task only fills the created caches.
+        if (armatureData != null) {
+            armatureData.cacheFrames(frameRate);
+        }
+
+        FrameCacheBakeTask task = new FrameCacheBakeTask(this, armatureName, armatureData, frameRate, quantizeErrorBound);
+        executor.execute(task);
+
+        return task;
+    }
+
     public void replaceSlotDisplay(
             @Nullable String dragonBonesName,
             String armatureName, String slotName, String displayName,
@@ -0,0 +1,340 @@
+package com.dragonbones.factory;
+
+import com.dragonbones.core.DragonBones;
+import com.dragonbones.model.DragonBonesData;
+import com.dragonbones.model.TextureAtlasData;
+import com.dragonbones.parser.DataParser;
+import com.dragonbones.util.Array;
+import com.dragonbones.util.Console;
+import com.dragonbones.util.buffer.ArrayBuffer;
+import com.dragonbones.util.json.JSON;
+import com.dragonbones.util.json.JSONReader;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 批量加载数据，在后台线程中同时解析多个龙骨数据和贴图集数据，全部解析完成后在调用线程中按添加的顺序添加到工厂。
+ * 每个数据使用各自的解析器实例，解析过程不访问工厂中的数据。
+ *
+ * @version DragonBones 5.1
+ * @language zh_CN
+ * @see BaseFactory#createLoadBatch()
+ */
+public class DataLoadBatch {
+    private static class Item implements Runnable {
+        private final boolean _isTextureAtlas;
+        private final Object _rawData;
+        @Nullable
+        private final Object _textureAtlas;
+        @Nullable
+        private final String _name;
+        private final float _scale;
+        private final BaseFactory _factory;
+        private Runnable _complete = null;
+        @Nullable
+        private DragonBonesData _dragonBonesData = null;
+        private final Array<TextureAtlasData> _textureAtlasDatas = new Array<>();
+        @Nullable
+        private Throwable _error = null;
+
+        private Item(BaseFactory factory, boolean isTextureAtlas, Object rawData, @Nullable Object textureAtlas, @Nullable String name, float scale) {
+            this._factory = factory;
+            this._isTextureAtlas = isTextureAtlas;
+            this._rawData = rawData;
+            this._textureAtlas = textureAtlas;
+            this._name = name;
+            this._scale = scale;
+        }
+
+        private Object _readRawData() throws IOException {
+            if (!(this._rawData instanceof Path)) {
+                return this._rawData;
+            }
+
+            Path path = (Path) this._rawData;
+            String fileName = path.getFileName().toString();
+            byte[] bytes;
+            if (fileName.endsWith(".gz")) {
+                fileName = fileName.substring(0, fileName.length() - 3);
+                bytes = DataLoadBatch._readGZIP(path);
+            } else if (!this._isTextureAtlas && fileName.endsWith(".dbbin")) {
+                return ArrayBuffer.map(path);
+            } else {
+                bytes = Files.readAllBytes(path);
+            }
+
+            if (this._isTextureAtlas) {
+                return JSON.parse(bytes);
+            }
+
+            if (fileName.endsWith(".dbbin")) {
+                return new ArrayBuffer(bytes);
+            }
+
+            return new JSONReader(bytes);
+        }
+
+        private void _parse() throws IOException {
+            Object rawData = this._readRawData();
+            if (this._isTextureAtlas) {
+                DataParser dataParser = this._factory._createDataParser();
+                TextureAtlasData textureAtlasData = this._factory._buildTextureAtlasData(null, null);
+                dataParser.parseTextureAtlasData(rawData, textureAtlasData, this._scale);
+                this._textureAtlasDatas.add(textureAtlasData);
+                return;
+            }
+
+            DataParser dataParser;
+            if (rawData instanceof byte[]) {
+                dataParser = this._factory._createBinaryParser();
+                rawData = new ArrayBuffer((byte[]) rawData);
+            } else if (rawData instanceof ArrayBuffer) {
+                dataParser = this._factory._createBinaryParser();
+            } else {
+                dataParser = this._factory._createDataParser();
+            }
+
+            this._dragonBonesData = dataParser.parseDragonBonesData(rawData, this._scale);
+
+            while (true) { // Texture atlases in the same data.
+                TextureAtlasData textureAtlasData = this._factory._buildTextureAtlasData(null, null);
+                if (dataParser.parseTextureAtlasData(null, textureAtlasData, this._scale)) {
+                    this._textureAtlasDatas.add(textureAtlasData);
+                } else {
+                    textureAtlasData.returnToPool();
+                    break;
+                }
+            }
+        }
+
+        public void run() {
+            try {
+                this._parse();
+            } catch (Throwable e) {
+                this._error = e;
+                Console.warn("Load data error. " + (this._name != null ? this._name : this._rawData) + ", " + e);
+            } finally {
+                this._complete.run();
+            }
+        }
+
+        private void _commit() {
+            if (this._isTextureAtlas) {
+                for (TextureAtlasData textureAtlasData : this._textureAtlasDatas) {
+                    this._factory._buildTextureAtlasData(textureAtlasData, this._textureAtlas);
+                    this._factory.addTextureAtlasData(textureAtlasData, this._name);
+                }
+            } else {
+                for (TextureAtlasData textureAtlasData : this._textureAtlasDatas) {
+                    this._factory.addTextureAtlasData(textureAtlasData, this._name);
+                }
+
+                if (this._dragonBonesData != null) {
+                    this._factory.addDragonBonesData(this._dragonBonesData, this._name);
+                }
+            }
+        }
+    }
+
+    private static byte[] _readGZIP(Path path) throws IOException {
+        try (InputStream input = new GZIPInputStream(Files.newInputStream(path), 64 * 1024)) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            byte[] buffer = new byte[64 * 1024];
+            int count;
+            while ((count = input.read(buffer)) >= 0) {
+                output.write(buffer, 0, count);
+            }
+
+            return output.toByteArray();
+        }
+    }
+
+    private final BaseFactory _factory;
+    private final Array<Item> _items = new Array<>();
+    private boolean _isLoaded = false;
+
+    /**
+     * @private
+     */
+    DataLoadBatch(BaseFactory factory) {
+        this._factory = factory;
+    }
+
+    private DataLoadBatch _addItem(Item item) {
+        if (this._isLoaded) {
+            throw new IllegalStateException("The batch has been loaded.");
+        }
+
+        this._items.add(item);
+        return this;
+    }
+
+    /**
+     * 添加龙骨数据。
+     *
+     * @param rawData 需要解析的原始数据，可以是数据对象、JSONReader、ArrayBuffer 或文件路径。 (.dbbin 文件按二进制数据解析，.gz 文件先解压)
+     * @param name    为数据指定一个名称，以便可以通过这个名称获取数据，如果未设置，则使用数据中的名称。
+     * @param scale   为所有骨架指定一个缩放值。
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see BaseFactory#parseDragonBonesData(Object, String, float)
+     */
+    public DataLoadBatch addDragonBonesData(Object rawData, @Nullable String name, float scale) {
+        return this._addItem(new Item(this._factory, false, rawData, null, name, scale));
+    }
+
+    /**
+     * 添加贴图集数据。
+     *
+     * @param rawData      需要解析的原始数据，可以是数据对象或 JSON 文件路径。 (.gz 文件先解压)
+     * @param textureAtlas 贴图，在调用线程中设置。
+     * @param name         为数据指定一个名称，以便可以通过这个名称获取数据，如果未设置，则使用数据中的名称。
+     * @param scale        为贴图集设置一个缩放值。
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see BaseFactory#parseTextureAtlasData(Object, Object, String, float)
+     */
+    public DataLoadBatch addTextureAtlasData(Object rawData, @Nullable Object textureAtlas, @Nullable String name, float scale) {
+        return this._addItem(new Item(this._factory, true, rawData, textureAtlas, name, scale));
+    }
+
+    private void _execute(Executor executor, Runnable complete) {
+        if (this._isLoaded) {
+            throw new IllegalStateException("The batch has been loaded.");
+        }
+
+        this._isLoaded = true;
+
+        for (Item item : this._items) {
+            item._complete = complete;
+            try {
+                executor.execute(item);
+            } catch (RuntimeException e) { // Rejected.
+                item._error = e;
+                complete.run();
+            }
+        }
+    }
+
+    /**
+     * 按添加的顺序将解析成功的数据添加到工厂，返回第一个错误。
+     */
+    @Nullable
+    private Throwable _commit() {
+        Throwable error = null;
+        for (Item item : this._items) {
+            if (item._error != null) {
+                if (error == null) {
+                    error = item._error;
+                }
+            } else {
+                item._commit();
+            }
+        }
+
+        return error;
+    }
+
+    /**
+     * 在执行器中同时解析所有数据，等待解析完成后在调用线程中添加到工厂。
+     * 解析失败的数据不会添加到工厂，其他数据添加完成后抛出第一个错误。
+     *
+     * @param executor 执行解析的执行器。
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public void load(Executor executor) throws InterruptedException {
+        CountDownLatch complete = new CountDownLatch(this._items.size());
+        this._execute(executor, complete::countDown);
+
+        complete.await();
+
+        Throwable error = this._commit();
+        if (error != null) {
+            throw new RuntimeException("Load data error.", error);
+        }
+    }
+
+    /**
+     * 在执行器中同时解析所有数据，全部解析完成后在下一次 {@link DragonBones#advanceTime(float)} 开始时添加到工厂，调用线程不会等待。
+     * 解析失败的数据不会添加到工厂，其他数据添加完成后以第一个错误完成。
+     * 工厂没有 DragonBones 实例时无法在更新动画的线程中添加，请使用 {@link #load(Executor)}。
+     *
+     * @param executor 执行解析的执行器。
+     * @returns 添加到工厂后在更新动画的线程中完成。
+     * @throws IllegalStateException 工厂没有 DragonBones 实例。
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public CompletableFuture<DataLoadBatch> loadAsync(Executor executor) {
+        DragonBones dragonBones = this._factory._dragonBones;
+        if (dragonBones == null) { // Never add to the factory from the parse threads.
+            throw new IllegalStateException("The factory has no DragonBones instance.");
+        }
+
+        CompletableFuture<DataLoadBatch> future = new CompletableFuture<>();
+        Runnable commit = () -> {
+            Throwable error;
+            try {
+                error = this._commit();
+            } catch (Throwable e) {
+                error = e;
+            }
+
+            if (error != null) {
+                future.completeExceptionally(error);
+            } else {
+                future.complete(this);
+            }
+        };
+
+        if (this._items.size() == 0) {
+            this._isLoaded = true;
+            dragonBones.commitLater(commit);
+            return future;
+        }
+
+        AtomicInteger remaining = new AtomicInteger(this._items.size());
+        this._execute(executor, () -> {
+            if (remaining.decrementAndGet() == 0) {
+                dragonBones.commitLater(commit);
+            }
+        });
+
+        return future;
+    }
+
+    /**
+     * @private
+     */
+    @Nullable
+    DragonBonesData _getDragonBonesData(int index) {
+        return this._items.get(index)._dragonBonesData;
+    }
+
+    /**
+     * @private
+     */
+    @Nullable
+    TextureAtlasData _getTextureAtlasData(int index) {
+        Array<TextureAtlasData> textureAtlasDatas = this._items.get(index)._textureAtlasDatas;
+        return textureAtlasDatas.size() > 0 ? textureAtlasDatas.get(0) : null;
+    }
+
+    /**
+     * 数据数量。
+     */
+    public int getCount() {
+        return this._items.size();
+    }
+}
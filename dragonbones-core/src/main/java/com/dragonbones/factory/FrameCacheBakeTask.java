@@ -0,0 +1,392 @@
+package com.dragonbones.factory;
+
+import com.dragonbones.animation.Animation;
+import com.dragonbones.animation.AnimationState;
+import com.dragonbones.armature.Armature;
+import com.dragonbones.armature.IArmatureProxy;
+import com.dragonbones.armature.Slot;
+import com.dragonbones.core.BaseObject;
+import com.dragonbones.core.DisplayType;
+import com.dragonbones.core.DragonBones;
+import com.dragonbones.event.EventObject;
+import com.dragonbones.event.EventStringType;
+import com.dragonbones.model.AnimationData;
+import com.dragonbones.model.ArmatureData;
+import com.dragonbones.model.DisplayData;
+import com.dragonbones.model.FrameCacheData;
+import com.dragonbones.model.SkinData;
+import com.dragonbones.model.SlotData;
+import com.dragonbones.util.Array;
+import com.dragonbones.util.Console;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
+
+/**
+ * 动画缓存烘焙任务，在后台线程中按缓存帧率采样骨架的所有动画并写入动画缓存。
+ * 烘焙使用一个只包含数据的临时骨架实例 (不创建显示对象，不访问工厂和渲染引擎)，
+ * 动画缓存由工厂在调用线程中创建，任务只写入已创建的缓存，烘焙的同时可以播放使用该骨架数据的骨架。
+ * 同一骨架数据的烘焙任务会依次执行，不同骨架数据的烘焙任务可以并行执行。
+ * 设置了量化误差时，每个动画烘焙完成后将缓存量化为 16 位整数保存。
+ *
+ * @version DragonBones 5.1
+ * @language zh_CN
+ * @see BaseFactory#bakeFrameCache(String, String, float, java.util.concurrent.Executor)
+ */
+public class FrameCacheBakeTask implements Runnable {
+    /**
+     * 烘焙骨架的插槽，没有显示对象。
+     *
+     * @private
+     */
+    public static final class BakeSlot extends Slot {
+        protected void _initDisplay(Object value) {
+        }
+
+        protected void _disposeDisplay(Object value) {
+        }
+
+        protected void _onUpdateDisplay() {
+        }
+
+        protected void _addDisplay() {
+        }
+
+        protected void _replaceDisplay(Object value) {
+        }
+
+        protected void _removeDisplay() {
+        }
+
+        protected void _updateZOrder() {
+        }
+
+        public void _updateVisible() {
+        }
+
+        protected void _updateBlendMode() {
+        }
+
+        protected void _updateColor() {
+        }
+
+        protected void _updateFrame() {
+        }
+
+        protected void _updateMesh() {
+        }
+
+        protected void _updateTransform(boolean isSkinnedMesh) {
+        }
+    }
+
+    /**
+     * 烘焙骨架的代理，不派发事件。
+     *
+     * @private
+     */
+    public static final class BakeArmatureProxy implements IArmatureProxy {
+        @Nullable
+        private Armature _armature = null;
+
+        public void init(Armature armature) {
+            this._armature = armature;
+        }
+
+        public void clear() {
+            this._armature = null;
+        }
+
+        public void dispose(boolean disposeProxy) {
+            if (this._armature != null) {
+                this._armature.dispose();
+            }
+        }
+
+        public void debugUpdate(boolean isEnabled) {
+        }
+
+        public Armature getArmature() {
+            return this._armature;
+        }
+
+        public Animation getAnimation() {
+            return this._armature.getAnimation();
+        }
+
+        public void _dispatchEvent(EventStringType type, EventObject eventObject) {
+        }
+
+        public boolean hasEvent(EventStringType type) {
+            return false;
+        }
+
+        public void addEvent(EventStringType type, Consumer<Object> listener, Object target) {
+        }
+
+        public void removeEvent(EventStringType type, Consumer<Object> listener, Object target) {
+        }
+    }
+
+    private final BaseFactory _factory;
+    private final String _armatureName;
+    @Nullable
+    private final ArmatureData _armatureData;
+    private final float _frameRate;
+    private final float _quantizeErrorBound;
+    private final CountDownLatch _complete = new CountDownLatch(1);
+    private volatile int _frameCount = 0;
+    private volatile int _bakedFrameCount = 0;
+    private volatile int _memorySize = 0;
+    private volatile int _memorySaved = 0;
+    @Nullable
+    private volatile Throwable _error = null;
+
+    /**
+     * @private
+     */
+    FrameCacheBakeTask(BaseFactory factory, String armatureName, @Nullable ArmatureData armatureData, float frameRate, float quantizeErrorBound) {
+        this._factory = factory;
+        this._armatureName = armatureName;
+        this._armatureData = armatureData;
+        this._frameRate = frameRate;
+        this._quantizeErrorBound = quantizeErrorBound;
+
+        if (armatureData != null) {
+            int frameCount = 0;
+            for (String animationName : armatureData.animationNames) {
+                FrameCacheData frameCache = armatureData.getAnimation(animationName).frameCache;
+                frameCount += frameCache != null ? frameCache.frameCount : 0;
+            }
+
+            this._frameCount = frameCount;
+        }
+    }
+
+    /**
+     * 获得运行时量化到指定缓存帧的最小时间，采样该时间与播放时写入的缓存相同。
+     *
+     * @see com.dragonbones.animation.AnimationState
+     */
+    private static float _getCacheFrameTime(int cacheFrameIndex, float cacheFrameRate) {
+        float internval = cacheFrameRate * 2.0f;
+        float time = cacheFrameIndex / cacheFrameRate;
+        while (cacheFrameIndex > 0 && (int) Math.floor((Math.floor(time * internval) / internval) * cacheFrameRate) < cacheFrameIndex) {
+            time = Math.nextUp(time);
+        }
+
+        return time;
+    }
+
+    /**
+     * 使用骨架数据创建只包含骨骼和插槽的骨架，不访问工厂和渲染引擎。
+     */
+    private Armature _buildArmature(ArmatureData armatureData, DragonBones dragonBones) {
+        BuildArmaturePackage dataPackage = new BuildArmaturePackage();
+        dataPackage.data = armatureData.parent;
+        dataPackage.armature = armatureData;
+        dataPackage.skin = armatureData.defaultSkin;
+
+        Armature armature = BaseObject.borrowObject(Armature.class);
+        armature.init(armatureData, new BakeArmatureProxy(), new Object(), dragonBones);
+        this._factory._buildBones(dataPackage, armature);
+
+        SkinData defaultSkin = armatureData.defaultSkin;
+        if (defaultSkin != null) {
+            boolean isSupportMesh = this._factory._isSupportMesh();
+            for (SlotData slotData : armatureData.sortedSlots) {
+                Array<DisplayData> displays = defaultSkin.getDisplays(slotData.name);
+                if (displays == null) {
+                    continue;
+                }
+
+                BakeSlot slot = BaseObject.borrowObject(BakeSlot.class);
+                slot.init(slotData, displays, new Object(), new Object());
+                Array<Object> displayList = new Array<>();
+                for (DisplayData displayData : displays) {
+                    if (displayData == null) {
+                        displayList.push(null);
+                    } else if (displayData.type == DisplayType.Mesh && isSupportMesh) {
+                        displayList.push(slot.getMeshDisplay());
+                    } else { // Child armatures are not baked.
+                        displayList.push(slot.getRawDisplay());
+                    }
+                }
+
+                armature.addSlot(slot, slotData.parent.name);
+                slot._setDisplayList(displayList);
+                slot._setDisplayIndex(slotData.displayIndex, true);
+            }
+        }
+
+        armature.invalidUpdate("", true);
+        armature.advanceTime(0f);
+
+        return armature;
+    }
+
+    private void _bake() {
+        ArmatureData armatureData = this._armatureData;
+        if (armatureData == null) {
+            return;
+        }
+
+        synchronized (armatureData) { // Bake the same armature data one by one.
+            if (armatureData.cacheFrameRate != this._frameRate) { // Caches are created by the factory, never replaced here.
+                Console.warn("Cache frame rate changed before baking. " + this._armatureName);
+                return;
+            }
+
+            // Keep pooled objects and events away from the shared DragonBones instance.
+            DragonBones dragonBones = new DragonBones(new BakeArmatureProxy());
+            Armature armature = this._buildArmature(armatureData, dragonBones);
+
+            int bakedFrameCount = 0;
+            int memorySize = 0;
+            int memorySaved = 0;
+            for (String animationName : armatureData.animationNames) {
+                AnimationData animationData = armatureData.getAnimation(animationName);
+                FrameCacheData frameCache = animationData.frameCache;
+                AnimationState animationState = armature.getAnimation().gotoAndStopByTime(animationName, 0f);
+                if (animationState != null && frameCache != null) {
+                    animationState.actionEnabled = false;
+                    armature.advanceTime(0f); // Complete fade in.
+
+                    for (int i = 0, l = frameCache.frameCount; i < l; ++i) {
+                        float time = _getCacheFrameTime(i, frameCache.frameRate);
+                        if (time >= animationData.duration) {
+                            break;
+                        }
+
+                        animationState.setCurrentTime(time);
+                        armature.advanceTime(0f);
+                        this._bakedFrameCount = bakedFrameCount + i;
+                    }
+
+                    // The last cached frame is only reached when the animation completes.
+                    animationState.play();
+                    armature.advanceTime(animationData.duration);
+                    bakedFrameCount += frameCache.frameCount;
+                }
+
+                if (this._quantizeErrorBound > 0f) {
+                    int animationMemorySaved = animationData.quantizeCache(this._quantizeErrorBound);
+                    if (animationMemorySaved < 0) {
+                        Console.warn("Frame cache exceeds the quantize error bound. " + this._armatureName + ", " + animationName);
+                    } else {
+                        memorySaved += animationMemorySaved;
+                    }
+                }
+
+                memorySize += animationData.getCacheMemorySize();
+                this._bakedFrameCount = bakedFrameCount;
+                this._memorySize = memorySize;
+                this._memorySaved = memorySaved;
+                dragonBones.advanceTime(0f); // Return faded out animation states.
+            }
+
+            armature.dispose();
+            dragonBones.advanceTime(0f);
+        }
+    }
+
+    /**
+     * @private
+     */
+    public void run() {
+        try {
+            this._bake();
+        } catch (Throwable e) {
+            this._error = e;
+            Console.warn("Bake frame cache error. " + this._armatureName + ", " + e);
+        } finally {
+            this._complete.countDown();
+        }
+    }
+
+    /**
+     * 等待烘焙完成。
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public void await() throws InterruptedException {
+        this._complete.await();
+    }
+
+    /**
+     * 是否已完成。 (包括失败)
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public boolean isComplete() {
+        return this._complete.getCount() == 0;
+    }
+
+    /**
+     * 烘焙进度。 [0~1]
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public float getProgress() {
+        if (this.isComplete()) {
+            return 1f;
+        }
+
+        int frameCount = this._frameCount;
+        return frameCount > 0 ? Math.min((float) this._bakedFrameCount / frameCount, 1f) : 0f;
+    }
+
+    public String getArmatureName() {
+        return this._armatureName;
+    }
+
+    public float getFrameRate() {
+        return this._frameRate;
+    }
+
+    /**
+     * 需要烘焙的缓存帧总数。
+     */
+    public int getFrameCount() {
+        return this._frameCount;
+    }
+
+    /**
+     * 已烘焙的缓存帧数。
+     */
+    public int getBakedFrameCount() {
+        return this._bakedFrameCount;
+    }
+
+    /**
+     * 烘焙的缓存占用的内存。 (以字节为单位)
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public int getMemorySize() {
+        return this._memorySize;
+    }
+
+    /**
+     * 量化缓存节省的内存。 (以字节为单位)
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public int getMemorySaved() {
+        return this._memorySaved;
+    }
+
+    /**
+     * 烘焙失败的原因。
+     */
+    @Nullable
+    public Throwable getError() {
+        return this._error;
+    }
+}
@@ -0,0 +1,215 @@
+package com.dragonbones.factory;
+
+import com.dragonbones.animation.IAnimatable;
+import com.dragonbones.animation.WorldClock;
+import com.dragonbones.model.AnimationData;
+import com.dragonbones.model.ArmatureData;
+import com.dragonbones.model.DragonBonesData;
+import com.dragonbones.model.FrameCacheData;
+import com.dragonbones.util.Array;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 动画缓存管理器，统计工厂中所有动画缓存和骨骼混合姿势缓存占用的内存，超出内存预算时按动画或骨架淘汰最近最少使用的缓存。
+ * 被淘汰的缓存在之后播放时会重新缓存。 (每个工厂一个，加入时钟后每帧检查一次)
+ *
+ * @version DragonBones 5.1
+ * @language zh_CN
+ * @see BaseFactory#getFrameCacheManager()
+ * @see AnimationData#clearCache()
+ * @see ArmatureData#clearBlendPoseCache()
+ */
+public class FrameCacheManager implements IAnimatable {
+    private final BaseFactory _factory;
+    private final Array<AnimationData> _animations = new Array<>();
+    private final Array<ArmatureData> _armatures = new Array<>();
+    private boolean _animationsDirty = true;
+    private int _memoryBudget = 0;
+    private int _memorySize = 0;
+    private int _evictedCount = 0;
+    private int _lastCacheStamp = 0;
+    @Nullable
+    private WorldClock _clock = null;
+
+    /**
+     * @private
+     */
+    FrameCacheManager(BaseFactory factory) {
+        this._factory = factory;
+    }
+
+    private void _updateAnimations() {
+        this._animations.clear();
+        this._armatures.clear();
+        for (DragonBonesData dragonBonesData : this._factory.getAllDragonBonesData().values()) {
+            for (String armatureName : dragonBonesData.armatureNames) {
+                ArmatureData armatureData = dragonBonesData.getArmature(armatureName);
+                this._armatures.add(armatureData);
+                for (String animationName : armatureData.animationNames) {
+                    this._animations.add(armatureData.getAnimation(animationName));
+                }
+            }
+        }
+    }
+
+    /**
+     * @private
+     */
+    void _invalidAnimations() {
+        this._animationsDirty = true;
+    }
+
+    public void advanceTime(float passedTime) {
+        this.update();
+    }
+
+    /**
+     * 统计缓存内存，超出预算时淘汰缓存。 (上一次检查之后使用过的缓存不会被淘汰)
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public void update() {
+        if (this._animationsDirty) {
+            this._animationsDirty = false;
+            this._updateAnimations();
+        }
+
+        int memorySize = 0;
+        for (int i = 0, l = this._animations.size(); i < l; ++i) {
+            memorySize += this._animations.get(i).getCacheMemorySize();
+        }
+
+        for (int i = 0, l = this._armatures.size(); i < l; ++i) {
+            memorySize += this._armatures.get(i).getBlendPoseCacheMemorySize();
+        }
+
+        while (this._memoryBudget > 0 && memorySize > this._memoryBudget) {
+            AnimationData leastUsed = null;
+            int leastUsedSize = 0;
+            for (int i = 0, l = this._animations.size(); i < l; ++i) {
+                AnimationData animationData = this._animations.get(i);
+                FrameCacheData frameCache = animationData.frameCache;
+                if (animationData.cacheStamp > this._lastCacheStamp || frameCache == null || frameCache.getFrameArrayCount() == 0) {
+                    continue;
+                }
+
+                if (leastUsed == null || animationData.cacheStamp < leastUsed.cacheStamp) {
+                    leastUsed = animationData;
+                    leastUsedSize = animationData.getCacheMemorySize();
+                }
+            }
+
+            ArmatureData leastUsedBlend = null;
+            int leastUsedBlendSize = 0;
+            for (int i = 0, l = this._armatures.size(); i < l; ++i) {
+                ArmatureData armatureData = this._armatures.get(i);
+                int blendPoseCacheSize = armatureData.getBlendPoseCacheMemorySize();
+                if (armatureData.getBlendPoseCacheStamp() > this._lastCacheStamp || blendPoseCacheSize == 0) {
+                    continue;
+                }
+
+                if (leastUsedBlend == null || armatureData.getBlendPoseCacheStamp() < leastUsedBlend.getBlendPoseCacheStamp()) {
+                    leastUsedBlend = armatureData;
+                    leastUsedBlendSize = blendPoseCacheSize;
+                }
+            }
+
+            if (leastUsedBlend != null && (leastUsed == null || leastUsedBlend.getBlendPoseCacheStamp() < leastUsed.cacheStamp)) {
+                leastUsedBlend.clearBlendPoseCache();
+                memorySize -= leastUsedBlendSize;
+            } else if (leastUsed != null) {
+                leastUsed.clearCache();
+                memorySize += leastUsed.getCacheMemorySize() - leastUsedSize;
+            } else { // All caches are in use.
+                break;
+            }
+
+            this._evictedCount++;
+        }
+
+        this._memorySize = memorySize;
+        this._lastCacheStamp = AnimationData._getCacheStamp();
+    }
+
+    /**
+     * 清除所有动画已缓存的帧和骨骼混合姿势。
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public void clear() {
+        if (this._animationsDirty) {
+            this._animationsDirty = false;
+            this._updateAnimations();
+        }
+
+        for (int i = 0, l = this._animations.size(); i < l; ++i) {
+            this._animations.get(i).clearCache();
+        }
+
+        for (int i = 0, l = this._armatures.size(); i < l; ++i) {
+            this._armatures.get(i).clearBlendPoseCache();
+        }
+
+        this._memorySize = 0;
+    }
+
+    /**
+     * 内存预算。 (以字节为单位，0 表示不限制)
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public int getMemoryBudget() {
+        return this._memoryBudget;
+    }
+
+    public void setMemoryBudget(int value) {
+        this._memoryBudget = value > 0 ? value : 0;
+    }
+
+    /**
+     * 上一次检查时缓存占用的内存。 (以字节为单位)
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public int getMemorySize() {
+        return this._memorySize;
+    }
+
+    /**
+     * 被淘汰的动画缓存和骨骼混合姿势缓存数量。
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public int getEvictedCount() {
+        return this._evictedCount;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Nullable
+    public WorldClock getClock() {
+        return this._clock;
+    }
+
+    public void setClock(@Nullable WorldClock value) {
+        if (this._clock == value) {
+            return;
+        }
+
+        if (this._clock != null) {
+            this._clock.remove(this);
+        }
+
+        this._clock = value;
+
+        if (this._clock != null) {
+            this._clock.add(this);
+        }
+    }
+}
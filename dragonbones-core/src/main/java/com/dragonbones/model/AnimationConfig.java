@@ -7,6 +7,11 @@ import com.dragonbones.core.AnimationFadeOutMode;
 import com.dragonbones.core.BaseObject;
 import com.dragonbones.core.TweenType;
 import com.dragonbones.util.Array;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 动画配置，描述播放一个动画所需要的全部信息。
@@ -16,6 +21,57 @@ import com.dragonbones.util.Array;
  * @see AnimationState
  */
 public class AnimationConfig extends BaseObject {
+    private static final Map<String, Integer> _groupIds = new ConcurrentHashMap<>();
+    private static volatile String[] _groupNames = new String[]{""};
+
+    static {
+        AnimationConfig._groupIds.put("", 0);
+    }
+
+    /**
+     * 获取混合组的整数标识，同名的混合组始终返回相同的标识。 (null 与空字符串为 0)
+     * 播放动画前取得标识，淡出同组动画时只需比较整数。
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see #groupId
+     */
+    public static int getGroupId(@Nullable String group) {
+        if (group == null) {
+            return 0;
+        }
+
+        Integer groupId = AnimationConfig._groupIds.get(group);
+        if (groupId != null) {
+            return groupId;
+        }
+
+        synchronized (AnimationConfig._groupIds) {
+            groupId = AnimationConfig._groupIds.get(group);
+            if (groupId == null) {
+                String[] groupNames = Arrays.copyOf(AnimationConfig._groupNames, AnimationConfig._groupNames.length + 1);
+                groupId = groupNames.length - 1;
+                groupNames[groupId] = group;
+                AnimationConfig._groupNames = groupNames; // Publish name before id.
+                AnimationConfig._groupIds.put(group, groupId);
+            }
+
+            return groupId;
+        }
+    }
+
+    /**
+     * 获取混合组标识对应的名称。
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see #getGroupId(String)
+     */
+    public static String getGroupName(int groupId) {
+        String[] groupNames = AnimationConfig._groupNames;
+        return groupId >= 0 && groupId < groupNames.length ? groupNames[groupId] : "";
+    }
+
     /**
      * Whether to pause the faded animation.
      *
@@ -191,6 +247,15 @@ public class AnimationConfig extends BaseObject {
      */
     public String group;
 
+    /**
+     * 混合组的整数标识。 (小于 0 时播放时由混合组名称取得)
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see #getGroupId(String)
+     */
+    public int groupId;
+
     /**
      * Bone mask.
      *
@@ -224,6 +289,7 @@ public class AnimationConfig extends BaseObject {
         this.name = "";
         this.animation = "";
         this.group = "";
+        this.groupId = -1;
         this.boneMask.clear();
     }
 
@@ -254,6 +320,7 @@ public class AnimationConfig extends BaseObject {
         this.name = value.name;
         this.animation = value.animation;
         this.group = value.group;
+        this.groupId = value.groupId;
 
         this.boneMask.setLength(value.boneMask.size());
         for (int i = 0, l = this.boneMask.size(); i < l; ++i) {
@@ -2,12 +2,11 @@ package com.dragonbones.model;
 
 import com.dragonbones.core.BaseObject;
 import com.dragonbones.util.Array;
-import com.dragonbones.util.BoolArray;
-import com.dragonbones.util.IntArray;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Animation data.
@@ -15,6 +14,8 @@ import java.util.Map;
  * @version DragonBones 3.0
  */
 public class AnimationData extends BaseObject {
+    private static final AtomicInteger _cacheStampCount = new AtomicInteger(); // Stamped by loader and bake threads.
+
     /**
      * @private
      */
@@ -66,25 +67,30 @@ public class AnimationData extends BaseObject {
      */
     public String name;
     /**
+     * 动画缓存，清除或重建缓存时整体替换。 (未开启缓存时为 null)
+     *
      * @private
      */
-    public BoolArray cachedFrames = new BoolArray();
+    @Nullable
+    public volatile FrameCacheData frameCache;
     /**
+     * 缓存最近一次被使用时的序号，用于淘汰最近最少使用的缓存。
+     *
      * @private
      */
-    public final Map<String, Array<TimelineData>> boneTimelines = new HashMap<>();
+    public int cacheStamp;
     /**
      * @private
      */
-    public final Map<String, Array<TimelineData>> slotTimelines = new HashMap<>();
+    public final Map<String, Array<TimelineData>> boneTimelines = new HashMap<>();
     /**
      * @private
      */
-    public final Map<String, IntArray> boneCachedFrameIndices = new HashMap<>();
+    public final Map<String, Array<TimelineData>> slotTimelines = new HashMap<>();
     /**
      * @private
      */
-    public final Map<String, IntArray> slotCachedFrameIndices = new HashMap<>();
+    public final Map<ArmatureData, TimelineBindingData> timelineBindings = new HashMap<>();
     /**
      * @private
      */
@@ -95,6 +101,13 @@ public class AnimationData extends BaseObject {
      */
     @Nullable
     public TimelineData zOrderTimeline = null; // Initial value.
+    /**
+     * 延迟解析时间轴的解析器，解析完成后为 null。
+     *
+     * @private
+     */
+    @Nullable
+    public volatile Runnable lazyParser = null;
     /**
      * @private
      */
@@ -104,25 +117,27 @@ public class AnimationData extends BaseObject {
      * @private
      */
     protected void _onClear() {
-        for (String k : this.boneTimelines.keySet()) {
-            Array<TimelineData> timelineData = this.boneTimelines.get(k);
+        for (Array<TimelineData> timelineData : this.boneTimelines.values()) {
             for (int kA = 0; kA < timelineData.size(); kA++) {
                 timelineData.get(kA).returnToPool();
             }
-
-            this.boneTimelines.remove(k);
         }
 
-        for (String k : this.slotTimelines.keySet()) {
-            for (int kA = 0; kA < this.slotTimelines.size(); kA++) {
-                this.slotTimelines.get(k).get(kA).returnToPool();
+        this.boneTimelines.clear();
+
+        for (Array<TimelineData> timelineData : this.slotTimelines.values()) {
+            for (int kA = 0; kA < timelineData.size(); kA++) {
+                timelineData.get(kA).returnToPool();
             }
+        }
+
+        this.slotTimelines.clear();
 
-            this.slotTimelines.remove(k);
+        for (TimelineBindingData timelineBinding : this.timelineBindings.values()) {
+            timelineBinding.returnToPool();
         }
 
-        this.boneCachedFrameIndices.clear();
-        this.slotCachedFrameIndices.clear();
+        this.timelineBindings.clear();
 
         if (this.actionTimeline != null) {
             this.actionTimeline.returnToPool();
@@ -142,49 +157,122 @@ public class AnimationData extends BaseObject {
         this.fadeInTime = 0f;
         this.cacheFrameRate = 0f;
         this.name = "";
-        this.cachedFrames.clear();
+        this.frameCache = null;
+        this.cacheStamp = 0;
         //this.boneTimelines.clear();
         //this.slotTimelines.clear();
-        //this.boneCachedFrameIndices.clear();
-        //this.slotCachedFrameIndices.clear();
         this.actionTimeline = null;
         this.zOrderTimeline = null;
+        this.lazyParser = null;
         this.parent = null; //
     }
 
+    /**
+     * 是否已解析时间轴。 (延迟解析的动画在第一次播放或预加载之前没有时间轴)
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see com.dragonbones.parser.ObjectDataParser#setLazyAnimationParsing(boolean)
+     */
+    public boolean isLoaded() {
+        return this.lazyParser == null;
+    }
+
+    /**
+     * 解析延迟解析的时间轴，已解析时不做任何事。
+     * 注意：同一个龙骨数据的动画只能在更新动画的线程中解析，在其他线程中解析时抛出 IllegalStateException。
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see com.dragonbones.parser.ObjectDataParser#setLazyAnimationParsing(boolean)
+     * @see com.dragonbones.core.DragonBones#commitLater(Runnable)
+     */
+    public void preload() {
+        Runnable lazyParser = this.lazyParser;
+        if (lazyParser != null) {
+            lazyParser.run();
+        }
+    }
+
     /**
      * @private
      */
     public void cacheFrames(float frameRate) {
-        if (this.cacheFrameRate > 0f) { // TODO clear cache.
+        if (frameRate <= 0f) { // Disable cache.
+            this.cacheFrameRate = 0f;
+            this.frameCache = null;
+            return;
+        }
+
+        float cacheFrameRate = (float) Math.max(Math.ceil(frameRate * this.scale), 1f);
+        if (this.frameCache != null && this.cacheFrameRate == cacheFrameRate) {
             return;
         }
 
-        this.cacheFrameRate = (float) Math.max(Math.ceil(frameRate * this.scale), 1f);
+        this.cacheFrameRate = cacheFrameRate;
         int cacheFrameCount = (int) (Math.ceil(this.cacheFrameRate * this.duration) + 1); // Cache one more frame.
+        this.frameCache = new FrameCacheData(this.cacheFrameRate, cacheFrameCount, this.parent.sortedBones.size(), this.parent.sortedSlots.size());
+    }
 
-        this.cachedFrames.setLength(cacheFrameCount);
-        for (int i = 0, l = this.cachedFrames.size(); i < l; ++i) {
-            this.cachedFrames.setBool(i, false);
+    /**
+     * 清除已缓存的帧，保留缓存帧率，之后播放时会重新缓存。
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public void clearCache() {
+        FrameCacheData frameCache = this.frameCache;
+        if (frameCache != null && frameCache.getFrameArrayCount() > 0) {
+            this.frameCache = frameCache.createEmpty();
         }
+    }
 
-        for (BoneData bone : this.parent.sortedBones) {
-            IntArray indices = new IntArray(cacheFrameCount);
-            for (int i = 0, l = indices.size(); i < l; ++i) {
-                indices.set(i, -1);
-            }
+    /**
+     * 将已缓存的帧量化为 16 位整数保存，返回节省的内存。 (以字节为单位，-1 表示误差超出范围，保留原缓存)
+     * 量化之后才缓存的帧仍以浮点数保存，已经量化的缓存不会再次量化。
+     *
+     * @param errorBound 允许的最大误差。 (矩阵、坐标、弧度和缩放使用同一误差)
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public int quantizeCache(float errorBound) {
+        FrameCacheData frameCache = this.frameCache;
+        if (frameCache == null || frameCache.isQuantized() || frameCache.getFrameArrayCount() == 0) {
+            return 0;
+        }
 
-            this.boneCachedFrameIndices.put(bone.name, indices);
+        FrameCacheData quantizedFrameCache = frameCache.quantize(errorBound);
+        if (quantizedFrameCache == null) {
+            return -1;
         }
 
-        for (SlotData slot : this.parent.sortedSlots) {
-            IntArray indices = new IntArray(cacheFrameCount);
-            for (int i = 0, l = indices.size(); i < l; ++i) {
-                indices.set(i, -1);
-            }
+        this.frameCache = quantizedFrameCache;
 
-            this.slotCachedFrameIndices.put(slot.name, indices);
-        }
+        return frameCache.getMemorySize() - quantizedFrameCache.getMemorySize();
+    }
+
+    /**
+     * @internal
+     * @private
+     */
+    public void _stampCache() {
+        this.cacheStamp = AnimationData._newCacheStamp();
+    }
+
+    /**
+     * @internal
+     * @private
+     */
+    public static int _newCacheStamp() {
+        return AnimationData._cacheStampCount.incrementAndGet();
+    }
+
+    /**
+     * @internal
+     * @private
+     */
+    public static int _getCacheStamp() {
+        return AnimationData._cacheStampCount.get();
     }
 
     /**
@@ -228,16 +316,32 @@ public class AnimationData extends BaseObject {
     }
 
     /**
+     * 获取此动画在指定骨架数据上的时间轴绑定表，首次获取时创建。
+     * (动画可能通过 BaseFactory#copyAnimationsToArmature 被其他骨架使用)
+     *
      * @private
      */
-    public IntArray getBoneCachedFrameIndices(String name) {
-        return this.boneCachedFrameIndices.get(name);
+    public synchronized TimelineBindingData getTimelineBinding(ArmatureData armatureData) { // Armatures may be updated on different threads.
+        TimelineBindingData timelineBinding = this.timelineBindings.get(armatureData);
+        if (timelineBinding == null || timelineBinding.boneTimelines.size() != armatureData.sortedBones.size() || timelineBinding.slotTimelines.size() != armatureData.sortedSlots.size()) {
+            if (timelineBinding == null) {
+                timelineBinding = BaseObject.borrowObject(TimelineBindingData.class);
+                this.timelineBindings.put(armatureData, timelineBinding);
+            }
+
+            timelineBinding.init(this, armatureData);
+        }
+
+        return timelineBinding;
     }
 
     /**
+     * 缓存占用的内存。 (以字节为单位)
+     *
      * @private
      */
-    public IntArray getSlotCachedFrameIndices(String name) {
-        return this.slotCachedFrameIndices.get(name);
+    public int getCacheMemorySize() {
+        FrameCacheData frameCache = this.frameCache;
+        return frameCache != null ? frameCache.getMemorySize() : 0;
     }
 }
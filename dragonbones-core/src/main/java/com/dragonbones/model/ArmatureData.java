@@ -2,12 +2,9 @@ package com.dragonbones.model;
 
 import com.dragonbones.core.ArmatureType;
 import com.dragonbones.core.BaseObject;
-import com.dragonbones.geom.Matrix;
 import com.dragonbones.geom.Rectangle;
-import com.dragonbones.geom.Transform;
 import com.dragonbones.util.Array;
 import com.dragonbones.util.Console;
-import com.dragonbones.util.FloatArray;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
@@ -130,6 +127,8 @@ public class ArmatureData extends BaseObject {
      * @see DragonBonesData
      */
     public DragonBonesData parent;
+    @Nullable
+    private volatile BlendPoseCacheData _blendPoseCache = null; // Initial value.
 
     /**
      * @private
@@ -143,26 +142,30 @@ public class ArmatureData extends BaseObject {
             action.returnToPool();
         }
 
-        for (String k : this.bones.keySet()) {
-            this.bones.get(k).returnToPool();
-            this.bones.remove(k);
+        for (BoneData bone : this.bones.values()) {
+            bone.returnToPool();
         }
 
-        for (String k : this.slots.keySet()) {
-            this.slots.get(k).returnToPool();
-            this.slots.remove(k);
+        this.bones.clear();
+
+        for (SlotData slot : this.slots.values()) {
+            slot.returnToPool();
         }
 
-        for (String k : this.skins.keySet()) {
-            this.skins.get(k).returnToPool();
-            this.skins.remove(k);
+        this.slots.clear();
+
+        for (SkinData skin : this.skins.values()) {
+            skin.returnToPool();
         }
 
-        for (String k : this.animations.keySet()) {
-            this.animations.get(k).returnToPool();
-            this.animations.remove(k);
+        this.skins.clear();
+
+        for (AnimationData animation : this.animations.values()) {
+            animation.returnToPool();
         }
 
+        this.animations.clear();
+
         if (this.canvas != null) {
             this.canvas.returnToPool();
         }
@@ -174,6 +177,7 @@ public class ArmatureData extends BaseObject {
         this.type = ArmatureType.Armature;
         this.frameRate = 0;
         this.cacheFrameRate = 0;
+        this._blendPoseCache = null;
         this.scale = 1f;
         this.name = "";
         this.aabb.clear();
@@ -233,6 +237,7 @@ public class ArmatureData extends BaseObject {
                 continue;
             }
 
+            bone.index = this.sortedBones.size();
             this.sortedBones.add(bone);
             count++;
         }
@@ -242,7 +247,11 @@ public class ArmatureData extends BaseObject {
      * @private
      */
     public void cacheFrames(float frameRate) {
-        if (this.cacheFrameRate > 0) { // TODO clear cache.
+        if (frameRate < 0f) {
+            frameRate = 0f;
+        }
+
+        if (this.cacheFrameRate == frameRate) {
             return;
         }
 
@@ -250,47 +259,99 @@ public class ArmatureData extends BaseObject {
         for (String k : this.animations.keySet()) {
             this.animations.get(k).cacheFrames(this.cacheFrameRate);
         }
+
+        this._blendPoseCache = null; // Cache frame indices changed.
+    }
+
+    /**
+     * 由此骨架数据创建的骨架共享的骨骼混合姿势缓存，不存在时创建。
+     *
+     * @private
+     * @see com.dragonbones.core.DragonBones#blendPoseCacheSize
+     */
+    public BlendPoseCacheData getBlendPoseCache() {
+        BlendPoseCacheData blendPoseCache = this._blendPoseCache;
+        if (blendPoseCache == null) { // Racing threads may create different caches, the last one is kept.
+            blendPoseCache = new BlendPoseCacheData(this.sortedBones.size());
+            this._blendPoseCache = blendPoseCache;
+        }
+
+        return blendPoseCache;
     }
 
     /**
+     * 骨骼混合姿势缓存占用的内存。 (以字节为单位)
+     *
      * @private
      */
-    public int setCacheFrame(Matrix globalTransformMatrix, Transform transform) {
-        FloatArray dataArray = this.parent.cachedFrames;
-        int arrayOffset = dataArray.size();
-
-        dataArray.setLength(dataArray.size() + 10);
-        dataArray.set(arrayOffset + 0, globalTransformMatrix.a);
-        dataArray.set(arrayOffset + 1, globalTransformMatrix.b);
-        dataArray.set(arrayOffset + 2, globalTransformMatrix.c);
-        dataArray.set(arrayOffset + 3, globalTransformMatrix.d);
-        dataArray.set(arrayOffset + 4, globalTransformMatrix.tx);
-        dataArray.set(arrayOffset + 5, globalTransformMatrix.ty);
-        dataArray.set(arrayOffset + 6, transform.rotation);
-        dataArray.set(arrayOffset + 7, transform.skew);
-        dataArray.set(arrayOffset + 8, transform.scaleX);
-        dataArray.set(arrayOffset + 9, transform.scaleY);
-
-        return arrayOffset;
+    public int getBlendPoseCacheMemorySize() {
+        BlendPoseCacheData blendPoseCache = this._blendPoseCache;
+        return blendPoseCache != null ? blendPoseCache.getMemorySize() : 0;
     }
 
     /**
+     * 骨骼混合姿势缓存最后一次使用的时间戳。
+     *
      * @private
      */
-    public void getCacheFrame(Matrix globalTransformMatrix, Transform transform, int arrayOffset) {
-        FloatArray dataArray = this.parent.cachedFrames;
-        globalTransformMatrix.a = dataArray.get(arrayOffset);
-        globalTransformMatrix.b = dataArray.get(arrayOffset + 1);
-        globalTransformMatrix.c = dataArray.get(arrayOffset + 2);
-        globalTransformMatrix.d = dataArray.get(arrayOffset + 3);
-        globalTransformMatrix.tx = dataArray.get(arrayOffset + 4);
-        globalTransformMatrix.ty = dataArray.get(arrayOffset + 5);
-        transform.rotation = dataArray.get(arrayOffset + 6);
-        transform.skew = dataArray.get(arrayOffset + 7);
-        transform.scaleX = dataArray.get(arrayOffset + 8);
-        transform.scaleY = dataArray.get(arrayOffset + 9);
-        transform.x = globalTransformMatrix.tx;
-        transform.y = globalTransformMatrix.ty;
+    public int getBlendPoseCacheStamp() {
+        BlendPoseCacheData blendPoseCache = this._blendPoseCache;
+        return blendPoseCache != null ? blendPoseCache.cacheStamp : 0;
+    }
+
+    /**
+     * 清除骨骼混合姿势缓存，之后重新缓存。
+     *
+     * @private
+     */
+    public void clearBlendPoseCache() {
+        this._blendPoseCache = null;
+    }
+
+    /**
+     * 解析所有延迟解析的动画。
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see AnimationData#preload()
+     */
+    public void preloadAnimations() {
+        for (String k : this.animationNames) {
+            this.animations.get(k).preload();
+        }
+    }
+
+    /**
+     * 清除所有动画已缓存的帧。
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see AnimationData#clearCache()
+     */
+    public void clearCache() {
+        for (String k : this.animations.keySet()) {
+            this.animations.get(k).clearCache();
+        }
+    }
+
+    /**
+     * 将所有动画已缓存的帧量化为 16 位整数保存，返回节省的内存。 (以字节为单位，误差超出范围的动画保留原缓存)
+     *
+     * @param errorBound 允许的最大误差。
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see AnimationData#quantizeCache(float)
+     */
+    public int quantizeCache(float errorBound) {
+        int memorySaved = 0;
+        for (String k : this.animations.keySet()) {
+            int animationMemorySaved = this.animations.get(k).quantizeCache(errorBound);
+            if (animationMemorySaved > 0) {
+                memorySaved += animationMemorySaved;
+            }
+        }
+
+        return memorySaved;
     }
 
     /**
@@ -302,6 +363,7 @@ public class ArmatureData extends BaseObject {
             this.bones.get(value.name).returnToPool();
         }
 
+        value.index = this.sortedBones.size();
         this.bones.put(value.name, value);
         this.sortedBones.add(value);
     }
@@ -315,6 +377,7 @@ public class ArmatureData extends BaseObject {
             this.slots.get(value.name).returnToPool();
         }
 
+        value.index = this.sortedSlots.size();
         this.slots.put(value.name, value);
         this.sortedSlots.add(value);
     }
@@ -0,0 +1,95 @@
+package com.dragonbones.model;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 骨骼混合姿势缓存，由同一个骨架数据创建的骨架共享，可以被多个线程同时读写，读取时无需加锁。
+ * 以混合的动画、权重、层级和骨骼遮罩作为键，每个键按各动画缓存帧索引的组合保存混合后的骨骼动画姿势。
+ * 每个混合姿势由第一个写入的线程创建并只发布一次；清除缓存时由新的实例整体替换，因此不使用对象池。
+ *
+ * @private
+ * @see ArmatureData#getBlendPoseCache()
+ */
+public final class BlendPoseCacheData {
+    /**
+     * 每个骨骼的混合姿势占用的数值数量。 (位置、旋转、斜切和缩放)
+     */
+    public static final int VALUE_COUNT = 6;
+
+    /**
+     * 一种混合的所有姿势。
+     */
+    public final class Poses {
+        public final int frameCount;
+        private final AtomicReferenceArray<float[]> _poses;
+
+        private Poses(int frameCount) {
+            this.frameCount = frameCount;
+            this._poses = new AtomicReferenceArray<>(frameCount);
+        }
+
+        @Nullable
+        public float[] get(int index) {
+            return this._poses.get(index);
+        }
+
+        /**
+         * 发布混合姿势，其他线程已经发布过时返回 false。
+         */
+        public boolean set(int index, float[] pose) {
+            if (this._poses.compareAndSet(index, null, pose)) {
+                BlendPoseCacheData.this._poseCount.incrementAndGet();
+                return true;
+            }
+
+            return false;
+        }
+    }
+
+    public final int boneCount;
+    public int cacheStamp = 0;
+    private final Map<String, Poses> _poses = new ConcurrentHashMap<>();
+    private final AtomicInteger _poseCount = new AtomicInteger();
+    private final AtomicInteger _frameCount = new AtomicInteger();
+
+    public BlendPoseCacheData(int boneCount) {
+        this.boneCount = boneCount;
+    }
+
+    /**
+     * 获取指定混合的姿势，不存在时创建。 (键包含缓存帧数量的组合)
+     */
+    public Poses getPoses(String key, int frameCount) {
+        return this._poses.computeIfAbsent(key, k -> {
+            this._frameCount.addAndGet(frameCount);
+            return new Poses(frameCount);
+        });
+    }
+
+    /**
+     * @internal
+     * @private
+     */
+    public void _stampCache() {
+        this.cacheStamp = AnimationData._newCacheStamp();
+    }
+
+    /**
+     * 已缓存的混合姿势数量。
+     */
+    public int getPoseCount() {
+        return this._poseCount.get();
+    }
+
+    /**
+     * 缓存占用的内存。 (以字节为单位)
+     */
+    public int getMemorySize() {
+        return (this._poseCount.get() * this.boneCount * VALUE_COUNT + this._frameCount.get()) * 4;
+    }
+}
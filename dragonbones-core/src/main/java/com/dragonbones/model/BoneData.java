@@ -31,6 +31,10 @@ public class BoneData extends BaseObject {
      * @private
      */
     public float length;
+    /**
+     * @private 在骨架数据排序后的骨骼列表中的索引。
+     */
+    public int index;
     /**
      * 数据名称。
      *
@@ -77,6 +81,7 @@ public class BoneData extends BaseObject {
         this.inheritScale = false;
         this.inheritReflection = false;
         this.length = 0f;
+        this.index = -1;
         this.name = "";
         this.transform.identity();
         this.constraints.clear();
@@ -1,9 +1,12 @@
 package com.dragonbones.model;
 
 import com.dragonbones.core.BaseObject;
+import com.dragonbones.core.BinaryOffset;
+import com.dragonbones.core.TimelineType;
 import com.dragonbones.util.*;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -48,10 +51,9 @@ public class DragonBonesData extends BaseObject {
      * @private
      */
     public final IntArray frameIndices = new IntArray();
-    /**
-     * @private
-     */
-    public final FloatArray cachedFrames = new FloatArray();
+    private boolean _compactFrameIndices = false;
+    @Nullable
+    private Thread _lazyParseThread = null;
     /**
      * 所有骨架数据名称。
      *
@@ -83,7 +85,23 @@ public class DragonBonesData extends BaseObject {
     /**
      * @private
      */
+    @Nullable
     public FloatArray frameFloatArray;
+    /**
+     * 量化的关键帧数值。 (未量化时为 null)
+     *
+     * @private
+     * @see #quantizeFrameFloatArray(float)
+     */
+    @Nullable
+    public short[] frameShortArray;
+    /**
+     * 量化的关键帧数值的范围，每个时间轴每个通道两个数值。 (最小值, 步长)
+     *
+     * @private
+     */
+    @Nullable
+    public FloatArray frameQuantizeArray;
     /**
      * @private
      */
@@ -102,11 +120,12 @@ public class DragonBonesData extends BaseObject {
      * @private
      */
     protected void _onClear() {
-        for (String k : this.armatures.keySet()) {
-            this.armatures.get(k).returnToPool();
-            this.armatures.remove(k);
+        for (ArmatureData armature : this.armatures.values()) {
+            armature.returnToPool();
         }
 
+        this.armatures.clear();
+
         if (this.userData != null) {
             this.userData.returnToPool();
         }
@@ -116,18 +135,305 @@ public class DragonBonesData extends BaseObject {
         this.version = "";
         this.name = "";
         this.frameIndices.clear();
-        this.cachedFrames.clear();
+        this._compactFrameIndices = false;
+        this._lazyParseThread = null;
         this.armatureNames.clear();
         //this.armatures.clear();
         this.intArray = null; //
         this.floatArray = null; //
         this.frameIntArray = null; //
         this.frameFloatArray = null; //
+        this.frameShortArray = null; //
+        this.frameQuantizeArray = null; //
         this.frameArray = null; //
         this.timelineArray = null; //
         this.userData = null;
     }
 
+    private static boolean _quantizeTimeline(
+            FloatArray frameFloatArray, short[] frameShortArray, int[] frameQuantizeOffsets, FloatArray frameQuantizeArray,
+            IntArray indices, IntArray channels, int channelCount, float errorBound
+    ) {
+        int quantizeOffset = frameQuantizeArray.length();
+        frameQuantizeArray.setLength(quantizeOffset + channelCount * 2);
+        for (int i = 0; i < channelCount; ++i) {
+            frameQuantizeArray.set(quantizeOffset + i * 2, Float.POSITIVE_INFINITY);
+            frameQuantizeArray.set(quantizeOffset + i * 2 + 1, Float.NEGATIVE_INFINITY);
+        }
+
+        for (int i = 0, l = indices.length(); i < l; ++i) {
+            int index = indices.get(i);
+            if (frameQuantizeOffsets[index] >= 0) { // Shared by other timeline.
+                return false;
+            }
+
+            float value = frameFloatArray.get(index);
+            if (Float.isNaN(value) || Float.isInfinite(value)) {
+                return false;
+            }
+
+            int rangeOffset = quantizeOffset + channels.get(i) * 2;
+            frameQuantizeArray.set(rangeOffset, Math.min(frameQuantizeArray.get(rangeOffset), value));
+            frameQuantizeArray.set(rangeOffset + 1, Math.max(frameQuantizeArray.get(rangeOffset + 1), value));
+        }
+
+        for (int i = 0; i < channelCount; ++i) {
+            int rangeOffset = quantizeOffset + i * 2;
+            float min = frameQuantizeArray.get(rangeOffset);
+            float max = frameQuantizeArray.get(rangeOffset + 1);
+            if (min > max) { // Empty channel.
+                frameQuantizeArray.set(rangeOffset, 0f);
+                frameQuantizeArray.set(rangeOffset + 1, 0f);
+            } else {
+                frameQuantizeArray.set(rangeOffset + 1, (max - min) / 65535f);
+            }
+        }
+
+        for (int i = 0, l = indices.length(); i < l; ++i) {
+            int index = indices.get(i);
+            int rangeOffset = quantizeOffset + channels.get(i) * 2;
+            float min = frameQuantizeArray.get(rangeOffset);
+            float step = frameQuantizeArray.get(rangeOffset + 1);
+            float value = frameFloatArray.get(index);
+            int quantizedValue = step > 0f ? Math.min(Math.max(Math.round((value - min) / step), 0), 65535) : 0;
+            if (Math.abs(min + step * quantizedValue - value) > errorBound) {
+                return false;
+            }
+
+            frameShortArray[index] = (short) (quantizedValue - 32768);
+            frameQuantizeOffsets[index] = quantizeOffset;
+        }
+
+        return true;
+    }
+
+    /**
+     * 将关键帧数值量化为 16 位整数保存，每个时间轴的每个通道 (坐标、旋转、斜切、缩放或网格顶点的 x、y) 使用各自的数值范围。
+     * 量化后不再保留 32 位的关键帧数值，返回节省的内存。 (以字节为单位，-1 表示误差超出范围，0 表示不能节省内存，这两种情况数据都保持不变)
+     * 注意：二进制数据的关键帧数值与其他数据共享同一缓冲区，量化后缓冲区并不会被释放。
+     *
+     * @param errorBound 允许的最大误差。 (坐标以像素为单位，旋转和斜切以弧度为单位)
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public int quantizeFrameFloatArray(float errorBound) {
+        if (this.frameFloatArray == null || this.frameShortArray != null) {
+            return 0;
+        }
+
+        this.preloadAnimations(); // Lazy animations can not be added after quantized.
+
+        FloatArray frameFloatArray = this.frameFloatArray;
+
+        CharArray timelineArray = this.timelineArray;
+        ShortArray frameIntArray = this.frameIntArray;
+        int count = frameFloatArray.length();
+        short[] frameShortArray = new short[count];
+        int[] frameQuantizeOffsets = new int[count];
+        FloatArray frameQuantizeArray = new FloatArray();
+        Array<TimelineData> timelines = new Array<>();
+        IntArray timelineQuantizeOffsets = new IntArray();
+        IntArray indices = new IntArray();
+        IntArray channels = new IntArray();
+
+        Arrays.fill(frameQuantizeOffsets, -1);
+
+        for (String armatureName : this.armatureNames) {
+            ArmatureData armatureData = this.armatures.get(armatureName);
+            for (String animationName : armatureData.animationNames) {
+                AnimationData animationData = armatureData.animations.get(animationName);
+
+                for (Array<TimelineData> boneTimelines : animationData.boneTimelines.values()) {
+                    for (TimelineData timeline : boneTimelines) {
+                        if (timeline.type != TimelineType.BoneAll) {
+                            continue;
+                        }
+
+                        int frameCount = timelineArray.get(timeline.offset + BinaryOffset.TimelineKeyFrameCount.v);
+                        int valueOffset = animationData.frameFloatOffset + timelineArray.get(timeline.offset + BinaryOffset.TimelineFrameValueOffset.v);
+                        indices.clear();
+                        channels.clear();
+                        for (int i = 0, l = frameCount * 6; i < l; ++i) {
+                            indices.push(valueOffset + i);
+                            channels.push(i % 6);
+                        }
+
+                        timelineQuantizeOffsets.push(frameQuantizeArray.length());
+                        timelines.add(timeline);
+                        if (!_quantizeTimeline(frameFloatArray, frameShortArray, frameQuantizeOffsets, frameQuantizeArray, indices, channels, 6, errorBound)) {
+                            return -1;
+                        }
+                    }
+                }
+
+                for (Array<TimelineData> slotTimelines : animationData.slotTimelines.values()) {
+                    for (TimelineData timeline : slotTimelines) {
+                        if (timeline.type != TimelineType.SlotFFD) {
+                            continue;
+                        }
+
+                        int frameCount = timelineArray.get(timeline.offset + BinaryOffset.TimelineKeyFrameCount.v);
+                        int valueOffset = animationData.frameFloatOffset + timelineArray.get(timeline.offset + BinaryOffset.TimelineFrameValueOffset.v);
+                        int frameIntOffset = animationData.frameIntOffset + timelineArray.get(timeline.offset + BinaryOffset.TimelineFrameValueCount.v);
+                        int ffdCount = frameIntArray.get(frameIntOffset + BinaryOffset.FFDTimelineFFDCount.v);
+                        int ffdValueCount = frameIntArray.get(frameIntOffset + BinaryOffset.FFDTimelineValueCount.v);
+                        int ffdValueOffset = frameIntArray.get(frameIntOffset + BinaryOffset.FFDTimelineValueOffset.v);
+                        int floatOffset = animationData.frameFloatOffset + frameIntArray.get(frameIntOffset + BinaryOffset.FFDTimelineFloatOffset.v);
+                        indices.clear();
+                        channels.clear();
+                        for (int i = 0, l = frameCount * ffdValueCount; i < l; ++i) { // Key frame vertices.
+                            indices.push(valueOffset + i);
+                            channels.push((ffdValueOffset + i % ffdValueCount) & 1);
+                        }
+
+                        for (int i = 0, l = ffdCount - ffdValueCount; i < l; ++i) { // Vertices out of the animated range.
+                            indices.push(floatOffset + i);
+                            channels.push((i < ffdValueOffset ? i : i + ffdValueCount) & 1);
+                        }
+
+                        timelineQuantizeOffsets.push(frameQuantizeArray.length());
+                        timelines.add(timeline);
+                        if (!_quantizeTimeline(frameFloatArray, frameShortArray, frameQuantizeOffsets, frameQuantizeArray, indices, channels, 2, errorBound)) {
+                            return -1;
+                        }
+                    }
+                }
+            }
+        }
+
+        int memorySaved = count * 4 - count * 2 - frameQuantizeArray.length() * 4;
+        if (memorySaved <= 0) { // Too few key frames.
+            return 0;
+        }
+
+        for (int i = 0, l = timelines.size(); i < l; ++i) {
+            timelines.get(i).frameQuantizeOffset = timelineQuantizeOffsets.get(i);
+        }
+
+        this.frameShortArray = frameShortArray;
+        this.frameQuantizeArray = frameQuantizeArray;
+        this.frameFloatArray = null;
+
+        return memorySaved;
+    }
+
+    private void _rebuildFrameIndices(AnimationData animation, @Nullable TimelineData timeline) {
+        if (timeline == null) {
+            return;
+        }
+
+        timeline.frameIndicesOffset = -1; // Frame indices are cleared.
+        this._buildFrameIndices(animation, timeline);
+    }
+
+    /**
+     * 按关键帧位置建立时间轴的帧索引，已分配帧索引的时间轴原位重建。 (关键帧的位置必须已写入帧数组)
+     *
+     * @internal
+     * @private
+     */
+    public void _buildFrameIndices(AnimationData animation, TimelineData timeline) {
+        int keyFrameCount = this.timelineArray.get(timeline.offset + BinaryOffset.TimelineKeyFrameCount.v);
+        if (this._compactFrameIndices || keyFrameCount <= 1) {
+            timeline.frameIndicesOffset = -1;
+            return;
+        }
+
+        int totalFrameCount = animation.frameCount + 1; // One more frame than animation.
+        if (timeline.frameIndicesOffset < 0) {
+            timeline.frameIndicesOffset = this.frameIndices.length();
+            this.frameIndices.incrementLength(totalFrameCount);
+        }
+
+        for (int i = 0, iK = 0; i < totalFrameCount; ++i) {
+            while (iK + 1 < keyFrameCount && this.frameArray.get(animation.frameOffset + this.timelineArray.get(timeline.offset + BinaryOffset.TimelineFrameOffset.v + iK + 1)) <= i) {
+                iK++;
+            }
+
+            this.frameIndices.set(timeline.frameIndicesOffset + i, iK);
+        }
+    }
+
+    /**
+     * 是否使用紧凑帧索引。
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see #setCompactFrameIndices(boolean)
+     */
+    public boolean isCompactFrameIndices() {
+        return this._compactFrameIndices;
+    }
+
+    /**
+     * 设置是否使用紧凑帧索引。
+     * 默认每个多关键帧时间轴为动画的每一帧保存一个关键帧索引，查找时间为常数，但较长的动画会占用大量内存；
+     * 紧凑帧索引不保存帧索引，播放时按关键帧位置查找。 (顺序播放时通常只需检查当前和下一个关键帧)
+     * 注意：需要在创建骨架之前设置。
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see com.dragonbones.parser.ObjectDataParser#setCompactFrameIndices(boolean)
+     */
+    public void setCompactFrameIndices(boolean value) {
+        if (this._compactFrameIndices == value) {
+            return;
+        }
+
+        this._compactFrameIndices = value;
+        this.frameIndices.clear();
+
+        for (String armatureName : this.armatureNames) {
+            ArmatureData armatureData = this.armatures.get(armatureName);
+            for (String animationName : armatureData.animationNames) {
+                AnimationData animationData = armatureData.animations.get(animationName);
+                this._rebuildFrameIndices(animationData, animationData.actionTimeline);
+                this._rebuildFrameIndices(animationData, animationData.zOrderTimeline);
+
+                for (Array<TimelineData> timelines : animationData.boneTimelines.values()) {
+                    for (TimelineData timeline : timelines) {
+                        this._rebuildFrameIndices(animationData, timeline);
+                    }
+                }
+
+                for (Array<TimelineData> timelines : animationData.slotTimelines.values()) {
+                    for (TimelineData timeline : timelines) {
+                        this._rebuildFrameIndices(animationData, timeline);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 检查是否在解析延迟解析的动画的线程中，第一次解析时记录当前线程。
+     * 合并延迟解析的动画时会扩展其他动画的时间轴正在读取的数组，所以只能在更新动画的线程中解析。
+     *
+     * @internal
+     * @private
+     */
+    public void _checkLazyParseThread() {
+        Thread thread = Thread.currentThread();
+        if (this._lazyParseThread == null) {
+            this._lazyParseThread = thread;
+        } else if (this._lazyParseThread != thread) {
+            throw new IllegalStateException("Lazy animations must be parsed in the thread that updates the armatures: " + this._lazyParseThread.getName());
+        }
+    }
+
+    /**
+     * 解析所有骨架中延迟解析的动画。
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see ArmatureData#preloadAnimations()
+     */
+    public void preloadAnimations() {
+        for (String armatureName : this.armatureNames) {
+            this.armatures.get(armatureName).preloadAnimations();
+        }
+    }
+
     /**
      * @private
      */
@@ -0,0 +1,324 @@
+package com.dragonbones.model;
+
+import com.dragonbones.geom.Matrix;
+import com.dragonbones.geom.Transform;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 动画缓存帧数据，可以被多个线程同时读写，读取时无需加锁。
+ * 每个缓存帧为所有骨骼和插槽固定分配一块数据，由第一个写入的线程创建并只发布一次；
+ * 骨骼或插槽写入数据前先将索引由 -1 标记为正在写入，只有标记成功的线程写入该骨骼或插槽的数据，其他线程跳过；
+ * 写入完成后再发布索引，骨架的所有骨骼索引都已发布后才发布缓存帧标记，因此读到标记或索引的线程一定能读到完整的数据。
+ * 清除或重建缓存时由新的实例整体替换，正在使用旧实例的骨架不受影响，因此不使用对象池。
+ * 量化后的缓存以每个骨骼或插槽每个通道的数值范围缩放为 16 位整数保存，量化之后才缓存的帧仍以浮点数保存。
+ *
+ * @private
+ * @see AnimationData#frameCache
+ */
+public final class FrameCacheData {
+    /**
+     * 每个骨骼或插槽的缓存帧占用的数值数量。 (矩阵 6 个，旋转、斜切和缩放 4 个)
+     */
+    public static final int VALUE_COUNT = 10;
+    /**
+     * 正在写入数据的索引标记。
+     */
+    private static final int WRITING = -2;
+
+    public final float frameRate;
+    public final int frameCount;
+    public final int boneCount;
+    public final int slotCount;
+    private final int _entryCount;
+    private final AtomicIntegerArray _cachedFrames;
+    private final AtomicIntegerArray _frameIndices;
+    private final AtomicReferenceArray<float[]> _frameArrays;
+    private final AtomicInteger _frameArrayCount = new AtomicInteger();
+    private final int _quantizedIndex; // Index greater than or equal to this is quantized.
+    @Nullable
+    private final short[][] _quantizedArrays;
+    @Nullable
+    private final float[] _quantizeArray; // (min, step) per entry channel.
+    private final int _quantizedArrayCount;
+
+    public FrameCacheData(float frameRate, int frameCount, int boneCount, int slotCount) {
+        this(frameRate, frameCount, boneCount, slotCount, null, null, 0);
+    }
+
+    private FrameCacheData(float frameRate, int frameCount, int boneCount, int slotCount, @Nullable short[][] quantizedArrays, @Nullable float[] quantizeArray, int quantizedArrayCount) {
+        this.frameRate = frameRate;
+        this.frameCount = frameCount;
+        this.boneCount = boneCount;
+        this.slotCount = slotCount;
+        this._entryCount = boneCount + slotCount;
+        this._cachedFrames = new AtomicIntegerArray(frameCount);
+        this._frameIndices = new AtomicIntegerArray(frameCount * this._entryCount);
+        this._frameArrays = new AtomicReferenceArray<>(frameCount);
+        this._quantizedIndex = quantizedArrays != null ? frameCount * this._entryCount : Integer.MAX_VALUE;
+        this._quantizedArrays = quantizedArrays;
+        this._quantizeArray = quantizeArray;
+        this._quantizedArrayCount = quantizedArrayCount;
+
+        for (int i = 0, l = this._frameIndices.length(); i < l; ++i) {
+            this._frameIndices.lazySet(i, -1);
+        }
+    }
+
+    /**
+     * 创建相同帧率和帧数的空缓存。
+     */
+    public FrameCacheData createEmpty() {
+        return new FrameCacheData(this.frameRate, this.frameCount, this.boneCount, this.slotCount);
+    }
+
+    public int getBoneEntry(BoneData bone) {
+        return bone.index < this.boneCount ? bone.index : -1;
+    }
+
+    public int getSlotEntry(SlotData slot) {
+        return slot.index < this.slotCount ? this.boneCount + slot.index : -1;
+    }
+
+    public boolean isCached(int frameIndex) {
+        return this._cachedFrames.get(frameIndex) != 0;
+    }
+
+    /**
+     * 发布缓存帧，之后其他线程不再更新该帧的骨骼时间轴。 (所有骨骼已经写入或设置索引之后调用)
+     */
+    public void setCached(int frameIndex) {
+        this._cachedFrames.lazySet(frameIndex, 1);
+    }
+
+    /**
+     * 骨骼或插槽在指定缓存帧使用的数据索引。 (小于 0 表示未缓存或正在写入)
+     */
+    public int getFrameIndex(int frameIndex, int entry) {
+        return this._frameIndices.get(frameIndex * this._entryCount + entry);
+    }
+
+    /**
+     * 发布骨骼或插槽在指定缓存帧使用的数据索引。 (数据必须已经写入)
+     * 可以是 {@link #setCacheFrame(int, int, Matrix, Transform)} 写入的数据，也可以是其他帧相同的数据。
+     * 返回该骨骼或插槽的索引是否已经发布。 (其他线程正在写入时返回 false)
+     */
+    public boolean setFrameIndex(int frameIndex, int entry, int value) {
+        int index = frameIndex * this._entryCount + entry;
+        if (value == index) { // Written by this thread.
+            this._frameIndices.compareAndSet(index, WRITING, value);
+        } else { // Data of another frame.
+            this._frameIndices.compareAndSet(index, -1, value);
+        }
+
+        return this._frameIndices.get(index) >= 0;
+    }
+
+    /**
+     * 写入骨骼或插槽在指定缓存帧的数据，返回数据索引，之后需要发布。
+     * 返回 -1 表示已经被其他线程写入或正在写入，不写入数据。
+     */
+    public int setCacheFrame(int frameIndex, int entry, Matrix globalTransformMatrix, Transform transform) {
+        int index = frameIndex * this._entryCount + entry;
+        if (!this._frameIndices.compareAndSet(index, -1, WRITING)) { // First writer only.
+            return -1;
+        }
+
+        float[] frameArray = this._frameArrays.get(frameIndex);
+        if (frameArray == null) {
+            frameArray = new float[this._entryCount * VALUE_COUNT];
+            if (this._frameArrays.compareAndSet(frameIndex, null, frameArray)) {
+                this._frameArrayCount.incrementAndGet();
+            } else { // Created by another thread.
+                frameArray = this._frameArrays.get(frameIndex);
+            }
+        }
+
+        int arrayOffset = entry * VALUE_COUNT;
+        frameArray[arrayOffset + 0] = globalTransformMatrix.a;
+        frameArray[arrayOffset + 1] = globalTransformMatrix.b;
+        frameArray[arrayOffset + 2] = globalTransformMatrix.c;
+        frameArray[arrayOffset + 3] = globalTransformMatrix.d;
+        frameArray[arrayOffset + 4] = globalTransformMatrix.tx;
+        frameArray[arrayOffset + 5] = globalTransformMatrix.ty;
+        frameArray[arrayOffset + 6] = transform.rotation;
+        frameArray[arrayOffset + 7] = transform.skew;
+        frameArray[arrayOffset + 8] = transform.scaleX;
+        frameArray[arrayOffset + 9] = transform.scaleY;
+
+        return index;
+    }
+
+    public void getCacheFrame(Matrix globalTransformMatrix, Transform transform, int index) {
+        if (index >= this._quantizedIndex) {
+            this._getQuantizedFrame(globalTransformMatrix, transform, index - this._quantizedIndex);
+            return;
+        }
+
+        float[] frameArray = this._frameArrays.get(index / this._entryCount);
+        int arrayOffset = (index % this._entryCount) * VALUE_COUNT;
+        globalTransformMatrix.a = frameArray[arrayOffset];
+        globalTransformMatrix.b = frameArray[arrayOffset + 1];
+        globalTransformMatrix.c = frameArray[arrayOffset + 2];
+        globalTransformMatrix.d = frameArray[arrayOffset + 3];
+        globalTransformMatrix.tx = frameArray[arrayOffset + 4];
+        globalTransformMatrix.ty = frameArray[arrayOffset + 5];
+        transform.rotation = frameArray[arrayOffset + 6];
+        transform.skew = frameArray[arrayOffset + 7];
+        transform.scaleX = frameArray[arrayOffset + 8];
+        transform.scaleY = frameArray[arrayOffset + 9];
+        transform.x = globalTransformMatrix.tx;
+        transform.y = globalTransformMatrix.ty;
+    }
+
+    private float _getQuantizedValue(short[] quantizedArray, int valueOffset) {
+        return this._quantizeArray[valueOffset * 2] + this._quantizeArray[valueOffset * 2 + 1] * (quantizedArray[valueOffset] + 32768);
+    }
+
+    private void _getQuantizedFrame(Matrix globalTransformMatrix, Transform transform, int index) {
+        short[] quantizedArray = this._quantizedArrays[index / this._entryCount];
+        int valueOffset = (index % this._entryCount) * VALUE_COUNT;
+        globalTransformMatrix.a = this._getQuantizedValue(quantizedArray, valueOffset);
+        globalTransformMatrix.b = this._getQuantizedValue(quantizedArray, valueOffset + 1);
+        globalTransformMatrix.c = this._getQuantizedValue(quantizedArray, valueOffset + 2);
+        globalTransformMatrix.d = this._getQuantizedValue(quantizedArray, valueOffset + 3);
+        globalTransformMatrix.tx = this._getQuantizedValue(quantizedArray, valueOffset + 4);
+        globalTransformMatrix.ty = this._getQuantizedValue(quantizedArray, valueOffset + 5);
+        transform.rotation = this._getQuantizedValue(quantizedArray, valueOffset + 6);
+        transform.skew = this._getQuantizedValue(quantizedArray, valueOffset + 7);
+        transform.scaleX = this._getQuantizedValue(quantizedArray, valueOffset + 8);
+        transform.scaleY = this._getQuantizedValue(quantizedArray, valueOffset + 9);
+        transform.x = globalTransformMatrix.tx;
+        transform.y = globalTransformMatrix.ty;
+    }
+
+    /**
+     * 创建量化的缓存，已缓存的帧以 16 位整数保存。
+     * 返回 null 表示误差超出范围或缓存已经量化。
+     *
+     * @param errorBound 允许的最大误差。
+     */
+    @Nullable
+    public FrameCacheData quantize(float errorBound) {
+        if (this._quantizedArrays != null) {
+            return null;
+        }
+
+        int entryCount = this._entryCount;
+        int indexCount = this._frameIndices.length();
+        boolean[] cachedFrames = new boolean[this.frameCount];
+        int[] indices = new int[indexCount];
+        float[] quantizeArray = new float[entryCount * VALUE_COUNT * 2];
+
+        for (int i = 0; i < this.frameCount; ++i) { // Read flags before indices.
+            cachedFrames[i] = this.isCached(i);
+        }
+
+        for (int i = 0, l = quantizeArray.length; i < l; i += 2) {
+            quantizeArray[i] = Float.POSITIVE_INFINITY;
+            quantizeArray[i + 1] = Float.NEGATIVE_INFINITY;
+        }
+
+        for (int i = 0; i < indexCount; ++i) {
+            int index = this._frameIndices.get(i);
+            indices[i] = index;
+            if (index < 0) {
+                continue;
+            }
+
+            float[] frameArray = this._frameArrays.get(index / entryCount);
+            int valueOffset = (index % entryCount) * VALUE_COUNT;
+            for (int j = valueOffset; j < valueOffset + VALUE_COUNT; ++j) {
+                float value = frameArray[j];
+                if (Float.isNaN(value) || Float.isInfinite(value)) {
+                    return null;
+                }
+
+                quantizeArray[j * 2] = Math.min(quantizeArray[j * 2], value);
+                quantizeArray[j * 2 + 1] = Math.max(quantizeArray[j * 2 + 1], value);
+            }
+        }
+
+        for (int i = 0, l = quantizeArray.length; i < l; i += 2) {
+            if (quantizeArray[i] > quantizeArray[i + 1]) { // Not cached.
+                quantizeArray[i] = 0f;
+                quantizeArray[i + 1] = 0f;
+            } else {
+                quantizeArray[i + 1] = (quantizeArray[i + 1] - quantizeArray[i]) / 65535f;
+            }
+        }
+
+        short[][] quantizedArrays = new short[this.frameCount][];
+        int quantizedArrayCount = 0;
+        for (int i = 0; i < indexCount; ++i) {
+            int index = indices[i];
+            if (index < 0) {
+                continue;
+            }
+
+            int frameIndex = index / entryCount;
+            short[] quantizedArray = quantizedArrays[frameIndex];
+            if (quantizedArray == null) {
+                quantizedArray = quantizedArrays[frameIndex] = new short[entryCount * VALUE_COUNT];
+                quantizedArrayCount++;
+            }
+
+            float[] frameArray = this._frameArrays.get(frameIndex);
+            int valueOffset = (index % entryCount) * VALUE_COUNT;
+            for (int j = valueOffset; j < valueOffset + VALUE_COUNT; ++j) {
+                float min = quantizeArray[j * 2];
+                float step = quantizeArray[j * 2 + 1];
+                int value = step > 0f ? Math.min(Math.max(Math.round((frameArray[j] - min) / step), 0), 65535) : 0;
+                if (Math.abs(min + step * value - frameArray[j]) > errorBound) {
+                    return null;
+                }
+
+                quantizedArray[j] = (short) (value - 32768);
+            }
+        }
+
+        FrameCacheData frameCache = new FrameCacheData(this.frameRate, this.frameCount, this.boneCount, this.slotCount, quantizedArrays, quantizeArray, quantizedArrayCount);
+        for (int i = 0; i < this.frameCount; ++i) {
+            if (cachedFrames[i]) {
+                frameCache._cachedFrames.lazySet(i, 1);
+            }
+        }
+
+        for (int i = 0; i < indexCount; ++i) {
+            if (indices[i] >= 0) {
+                frameCache._frameIndices.lazySet(i, indices[i] + frameCache._quantizedIndex);
+            }
+        }
+
+        return frameCache;
+    }
+
+    /**
+     * 是否已量化。
+     */
+    public boolean isQuantized() {
+        return this._quantizedArrays != null;
+    }
+
+    /**
+     * 已分配数据的缓存帧数量。
+     */
+    public int getFrameArrayCount() {
+        return this._frameArrayCount.get() + this._quantizedArrayCount;
+    }
+
+    /**
+     * 占用的内存。 (以字节为单位)
+     */
+    public int getMemorySize() {
+        int memorySize = (this._frameArrayCount.get() * this._entryCount * VALUE_COUNT + this.frameCount * (1 + this._entryCount)) * 4;
+        if (this._quantizedArrays != null) {
+            memorySize += this._quantizedArrayCount * this._entryCount * VALUE_COUNT * 2 + this._quantizeArray.length * 4;
+        }
+
+        return memorySize;
+    }
+}
@@ -30,19 +30,16 @@ public class SkinData extends BaseObject {
      * @private
      */
     protected void _onClear() {
-        for (String k : this.displays.keySet()) {
-            Array<DisplayData> slotDisplays = this.displays.get(k);
+        for (Array<DisplayData> slotDisplays : this.displays.values()) {
             for (DisplayData display : slotDisplays) {
                 if (display != null) {
                     display.returnToPool();
                 }
             }
-
-            this.displays.remove(k);
         }
 
         this.name = "";
-        // this.displays.clear();
+        this.displays.clear();
     }
 
     /**
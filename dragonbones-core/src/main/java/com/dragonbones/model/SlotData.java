@@ -37,6 +37,10 @@ public class SlotData extends BaseObject {
      * @private
      */
     public float zOrder;
+    /**
+     * @private 在骨架数据插槽列表中的索引。
+     */
+    public int index;
     /**
      * 数据名称。
      *
@@ -74,6 +78,7 @@ public class SlotData extends BaseObject {
         this.blendMode = BlendMode.Normal;
         this.displayIndex = 0;
         this.zOrder = 0;
+        this.index = -1;
         this.name = "";
         this.color = null; //
         this.userData = null;
@@ -59,11 +59,12 @@ public abstract class TextureAtlasData extends BaseObject {
      * @private
      */
     protected void _onClear() {
-        for (String k : this.textures.keySet()) {
-            this.textures.get(k).returnToPool();
-            this.textures.remove(k);
+        for (TextureData texture : this.textures.values()) {
+            texture.returnToPool();
         }
 
+        this.textures.clear();
+
         this.autoSearch = false;
         this.width = 0;
         this.height = 0;
@@ -84,11 +85,12 @@ public abstract class TextureAtlasData extends BaseObject {
         this.name = value.name;
         this.imagePath = value.imagePath;
 
-        for (String k : this.textures.keySet()) {
-            this.textures.get(k).returnToPool();
-            this.textures.remove(k);
+        for (TextureData texture : this.textures.values()) {
+            texture.returnToPool();
         }
 
+        this.textures.clear();
+
         // this.textures.clear();
 
         for (String k : value.textures.keySet()) {
@@ -0,0 +1,51 @@
+package com.dragonbones.model;
+
+import com.dragonbones.core.BaseObject;
+import com.dragonbones.util.Array;
+
+/**
+ * 动画数据与骨架数据之间的时间轴绑定表，按骨骼和插槽数据的索引存放时间轴数据。
+ *
+ * @private
+ * @see BoneData#index
+ * @see SlotData#index
+ */
+public class TimelineBindingData extends BaseObject {
+    /**
+     * 按 BoneData#index 索引，没有时间轴的骨骼为 null。
+     */
+    public final Array<Array<TimelineData>> boneTimelines = new Array<>();
+    /**
+     * 按 SlotData#index 索引，没有时间轴的插槽为 null。
+     */
+    public final Array<Array<TimelineData>> slotTimelines = new Array<>();
+    public ArmatureData armature;
+
+    protected void _onClear() {
+        this.boneTimelines.clear();
+        this.slotTimelines.clear();
+        this.armature = null; //
+    }
+
+    public void init(AnimationData animation, ArmatureData armature) {
+        this.armature = armature;
+
+        this.boneTimelines.setLength(armature.sortedBones.size());
+        for (BoneData bone : armature.sortedBones) {
+            this.boneTimelines.set(bone.index, animation.getBoneTimelines(bone.name));
+        }
+
+        this.slotTimelines.setLength(armature.sortedSlots.size());
+        for (SlotData slot : armature.sortedSlots) {
+            this.slotTimelines.set(slot.index, animation.getSlotTimeline(slot.name));
+        }
+    }
+
+    public Array<TimelineData> getBoneTimelines(BoneData bone) {
+        return bone.index < this.boneTimelines.size() ? this.boneTimelines.get(bone.index) : null;
+    }
+
+    public Array<TimelineData> getSlotTimelines(SlotData slot) {
+        return slot.index < this.slotTimelines.size() ? this.slotTimelines.get(slot.index) : null;
+    }
+}
@@ -10,10 +10,14 @@ public class TimelineData extends BaseObject {
     public TimelineType type;
     public int offset; // TimelineArray.
     public int frameIndicesOffset; // FrameIndices.
+    public boolean isStatic; // Same value in all frames.
+    public int frameQuantizeOffset; // FrameQuantizeArray.
 
     protected void _onClear() {
         this.type = TimelineType.BoneAll;
         this.offset = 0;
         this.frameIndicesOffset = -1;
+        this.isStatic = false;
+        this.frameQuantizeOffset = -1;
     }
 }
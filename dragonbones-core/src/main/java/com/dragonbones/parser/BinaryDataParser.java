@@ -11,6 +11,7 @@ import com.dragonbones.util.json.JSON;
 import org.jetbrains.annotations.Nullable;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
 
 import static com.dragonbones.util.Dynamic.*;
 
@@ -26,6 +27,7 @@ public class BinaryDataParser extends ObjectDataParser {
     private FloatArray _frameFloatArray;
     private ShortArray _frameArray;
     private CharArray _timelineArray;
+    private boolean _copyArrays = false;
 
     /*
     private boolean _inRange(float a, float min, float max) {
@@ -146,34 +148,7 @@ public class BinaryDataParser extends ObjectDataParser {
 
         this._timeline = timeline;
 
-        int keyFrameCount = this._timelineArray.get(timeline.offset + BinaryOffset.TimelineKeyFrameCount.v);
-        if (keyFrameCount == 1) {
-            timeline.frameIndicesOffset = -1;
-        } else {
-            int totalFrameCount = this._animation.frameCount + 1; // One more frame than animation.
-            IntArray frameIndices = this._data.frameIndices;
-            timeline.frameIndicesOffset = frameIndices.length();
-            frameIndices.incrementLength(totalFrameCount);
-
-            for (
-                    int i = 0, iK = 0, frameStart = 0, frameCount = 0;
-                    i < totalFrameCount;
-                    ++i
-                    ) {
-                if (frameStart + frameCount <= i && iK < keyFrameCount) {
-                    frameStart = this._frameArray.get(this._animation.frameOffset + this._timelineArray.get(timeline.offset + BinaryOffset.TimelineFrameOffset.v + iK));
-                    if (iK == keyFrameCount - 1) {
-                        frameCount = this._animation.frameCount - frameStart;
-                    } else {
-                        frameCount = this._frameArray.get(this._animation.frameOffset + this._timelineArray.get(timeline.offset + BinaryOffset.TimelineFrameOffset.v + iK + 1)) - frameStart;
-                    }
-
-                    iK++;
-                }
-
-                frameIndices.set(timeline.frameIndicesOffset + i, iK - 1);
-            }
-        }
+        this._data._buildFrameIndices(this._animation, timeline);
 
         this._timeline = null; //
 
@@ -216,8 +191,32 @@ public class BinaryDataParser extends ObjectDataParser {
     protected PolygonBoundingBoxData _parsePolygonBoundingBox(Object rawData) {
         PolygonBoundingBoxData polygonBoundingBox = BaseObject.borrowObject(PolygonBoundingBoxData.class);
         polygonBoundingBox.offset = getInt(rawData, ObjectDataParser.OFFSET);
+        polygonBoundingBox.count = getInt(rawData, ObjectDataParser.COUNT, 0); // Written by converted data.
         polygonBoundingBox.vertices = this._floatArray;
 
+        for (int i = 0, l = polygonBoundingBox.count; i < l; i += 2) { // AABB.
+            float x = this._floatArray.get(polygonBoundingBox.offset + i);
+            float y = this._floatArray.get(polygonBoundingBox.offset + i + 1);
+            if (i == 0) {
+                polygonBoundingBox.x = x;
+                polygonBoundingBox.y = y;
+                polygonBoundingBox.width = x;
+                polygonBoundingBox.height = y;
+            } else {
+                if (x < polygonBoundingBox.x) {
+                    polygonBoundingBox.x = x;
+                } else if (x > polygonBoundingBox.width) {
+                    polygonBoundingBox.width = x;
+                }
+
+                if (y < polygonBoundingBox.y) {
+                    polygonBoundingBox.y = y;
+                } else if (y > polygonBoundingBox.height) {
+                    polygonBoundingBox.height = y;
+                }
+            }
+        }
+
         return polygonBoundingBox;
     }
 
@@ -253,37 +252,36 @@ public class BinaryDataParser extends ObjectDataParser {
         }
 
         if (in(rawData, ObjectDataParser.BONE)) {
-            ArrayBase<Object> rawTimeliness = getArray(rawData, ObjectDataParser.BONE);
-            for (int k = 0; k < rawTimeliness.length(); k++) {
-                ArrayBase<Object> rawTimelines = (ArrayBase<Object>) rawTimeliness.getObject(k);
-                BoneData bone = this._armature.getBone("" + k);
+            Map<String, Object> rawTimeliness = (Map<String, Object>) get(rawData, ObjectDataParser.BONE);
+            for (Map.Entry<String, Object> entry : rawTimeliness.entrySet()) {
+                BoneData bone = this._armature.getBone(entry.getKey());
                 if (bone == null) {
                     continue;
                 }
 
+                IntArray rawTimelines = castIntArray(entry.getValue());
                 for (int i = 0, l = rawTimelines.size(); i < l; i += 2) {
-                    int timelineType = (int) rawTimelines.getObject(i);
-                    int timelineOffset = (int) rawTimelines.getObject(i + 1);
-                    TimelineData timeline = this._parseBinaryTimeline(TimelineType.values[timelineType], timelineOffset, null);
+                    int timelineType = rawTimelines.get(i);
+                    int timelineOffset = rawTimelines.get(i + 1);
+                    TimelineData timeline = this._parseBinaryTimeline(TimelineType.getByValue(timelineType), timelineOffset, null);
                     this._animation.addBoneTimeline(bone, timeline);
                 }
             }
         }
 
         if (in(rawData, ObjectDataParser.SLOT)) {
-            ArrayBase rawTimeliness = getArray(rawData, ObjectDataParser.SLOT);
-            for (int k = 0; k < rawTimeliness.size(); k++) {
-                ArrayBase rawTimelines = (ArrayBase) rawTimeliness.getObject(k);
-
-                SlotData slot = this._armature.getSlot("" + k);
+            Map<String, Object> rawTimeliness = (Map<String, Object>) get(rawData, ObjectDataParser.SLOT);
+            for (Map.Entry<String, Object> entry : rawTimeliness.entrySet()) {
+                SlotData slot = this._armature.getSlot(entry.getKey());
                 if (slot == null) {
                     continue;
                 }
 
+                IntArray rawTimelines = castIntArray(entry.getValue());
                 for (int i = 0, l = rawTimelines.size(); i < l; i += 2) {
-                    int timelineType = (int) rawTimelines.getObject(i);
-                    int timelineOffset = (int) rawTimelines.getObject(i + 1);
-                    TimelineData timeline = this._parseBinaryTimeline(TimelineType.values[timelineType], timelineOffset, null);
+                    int timelineType = rawTimelines.get(i);
+                    int timelineOffset = rawTimelines.get(i + 1);
+                    TimelineData timeline = this._parseBinaryTimeline(TimelineType.getByValue(timelineType), timelineOffset, null);
                     this._animation.addSlotTimeline(slot, timeline);
                 }
             }
@@ -299,13 +297,62 @@ public class BinaryDataParser extends ObjectDataParser {
      */
     protected void _parseArray(Object rawData) {
         IntArray offsets = getIntArray(rawData, ObjectDataParser.OFFSET);
+        boolean copy = this._copyArrays;
+
+        this._data.intArray = this._intArray = this._getInt16Array(offsets.get(0), offsets.get(1), copy);
+        this._data.floatArray = this._floatArray = this._getFloat32Array(offsets.get(2), offsets.get(3), copy);
+        this._data.frameIntArray = this._frameIntArray = this._getInt16Array(offsets.get(4), offsets.get(5), copy);
+        this._data.frameFloatArray = this._frameFloatArray = this._getFloat32Array(offsets.get(6), offsets.get(7), copy);
+        this._data.frameArray = this._frameArray = this._getInt16Array(offsets.get(8), offsets.get(9), copy);
+        this._data.timelineArray = this._timelineArray = this._getUint16Array(offsets.get(10), offsets.get(11), copy);
+    }
+
+    private ShortArray _getInt16Array(int byteOffset, int byteLength, boolean copy) {
+        Int16Array array = new Int16Array(this._binary, this._binaryOffset + byteOffset, byteLength / Int16Array.BYTES_PER_ELEMENT);
+        return copy ? array.copy() : array;
+    }
+
+    private CharArray _getUint16Array(int byteOffset, int byteLength, boolean copy) {
+        Uint16Array array = new Uint16Array(this._binary, this._binaryOffset + byteOffset, byteLength / Uint16Array.BYTES_PER_ELEMENT);
+        return copy ? array.copy() : array;
+    }
+
+    private FloatArray _getFloat32Array(int byteOffset, int byteLength, boolean copy) {
+        Float32Array array = new Float32Array(this._binary, this._binaryOffset + byteOffset, byteLength / Float32Array.BYTES_PER_ELEMENT);
+        return copy ? array.copy() : array;
+    }
 
-        this._data.intArray = this._intArray = new Int16Array(this._binary, this._binaryOffset + offsets.get(0), offsets.get(1) / Int16Array.BYTES_PER_ELEMENT);
-        this._data.floatArray = this._floatArray = new Float32Array(this._binary, this._binaryOffset + offsets.get(2), offsets.get(3) / Float32Array.BYTES_PER_ELEMENT);
-        this._data.frameIntArray = this._frameIntArray = new Int16Array(this._binary, this._binaryOffset + offsets.get(4), offsets.get(5) / Int16Array.BYTES_PER_ELEMENT);
-        this._data.frameFloatArray = this._frameFloatArray = new Float32Array(this._binary, this._binaryOffset + offsets.get(6), offsets.get(7) / Float32Array.BYTES_PER_ELEMENT);
-        this._data.frameArray = this._frameArray = new Int16Array(this._binary, this._binaryOffset + offsets.get(8), offsets.get(9) / Int16Array.BYTES_PER_ELEMENT);
-        this._data.timelineArray = this._timelineArray = new Uint16Array(this._binary, this._binaryOffset + offsets.get(10), offsets.get(11) / Uint16Array.BYTES_PER_ELEMENT);
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void _copyOptions(ObjectDataParser parser) {
+        super._copyOptions(parser);
+        if (parser instanceof BinaryDataParser) {
+            this._copyArrays = ((BinaryDataParser) parser)._copyArrays;
+        }
+    }
+
+    /**
+     * 设置解析时是否将数据复制到堆中的普通数组。 (默认为 false，与映射的文件共享内存，复制后源文件可以关闭或修改)
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see ArrayBuffer#map(java.nio.file.Path)
+     */
+    public void setCopyArrays(boolean value) {
+        this._copyArrays = value;
+    }
+
+    /**
+     * 解析时是否将数据复制到堆中的普通数组。
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see #setCopyArrays(boolean)
+     */
+    public boolean isCopyArrays() {
+        return this._copyArrays;
     }
 
     @Nullable
@@ -318,6 +365,17 @@ public class BinaryDataParser extends ObjectDataParser {
      */
     @Nullable
     public DragonBonesData parseDragonBonesData(Object rawData, float scale) {
+        Object header = this._readRawData(rawData);
+        return header != null ? super.parseDragonBonesData(header, scale) : null;
+    }
+
+    /**
+     * 读取二进制数据的头信息，关键帧等数据在解析时从二进制数据中读取。
+     *
+     * @private
+     */
+    @Nullable
+    protected Object _readRawData(Object rawData) {
         Console._assert(rawData != null && rawData instanceof ArrayBuffer);
         ArrayBuffer buffer = (ArrayBuffer) rawData;
 
@@ -337,23 +395,21 @@ public class BinaryDataParser extends ObjectDataParser {
         this._binary = buffer;
         this._binaryOffset = 8 + 4 + headerLength;
 
-        return super.parseDragonBonesData(header, scale);
+        return header;
     }
 
     /**
      * @private
      */
-    private static BinaryDataParser _binaryDataParserInstance = null;
+    private static final ThreadLocal<BinaryDataParser> _binaryDataParserInstance = ThreadLocal.withInitial(BinaryDataParser::new);
 
     /**
+     * 解析器保存了解析过程中的状态，每个线程使用各自的实例。
+     *
      * @see BaseFactory#parseDragonBonesData(Object, String, float)
      * @deprecated Obsolete, please refer to @see
      */
     public static BinaryDataParser getInstance() {
-        if (BinaryDataParser._binaryDataParserInstance == null) {
-            BinaryDataParser._binaryDataParserInstance = new BinaryDataParser();
-        }
-
-        return BinaryDataParser._binaryDataParserInstance;
+        return BinaryDataParser._binaryDataParserInstance.get();
     }
 }
@@ -0,0 +1,165 @@
+package com.dragonbones.parser;
+
+import com.dragonbones.model.DragonBonesData;
+import com.dragonbones.util.Array;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 分步解析龙骨数据，将骨架、皮肤和动画等拆分为较小的工作单元，每次调用 {@link #step(long)} 在时间预算内依次执行。
+ * 用于不能使用其他线程的平台，在多帧中完成较大数据的解析。 (解析完成前解析器不能解析其他数据)
+ *
+ * @version DragonBones 5.1
+ * @language zh_CN
+ * @see DataParser#createParseTask(Object, float)
+ */
+public class DataParseTask {
+    private final Array<Runnable> _units = new Array<>();
+    private int _unitIndex = 0;
+    private boolean _isFailed = false;
+    @Nullable
+    private DragonBonesData _dragonBonesData = null;
+    @Nullable
+    private Runnable _completeCallback = null;
+    @Nullable
+    private Runnable _failCallback = null;
+
+    /**
+     * @private
+     */
+    DataParseTask() {
+    }
+
+    /**
+     * @private
+     */
+    void _addUnit(Runnable unit) {
+        this._units.add(unit);
+    }
+
+    /**
+     * @private
+     */
+    void _setFailCallback(@Nullable Runnable value) {
+        this._failCallback = value;
+    }
+
+    /**
+     * @private
+     */
+    void _setDragonBonesData(@Nullable DragonBonesData value) {
+        this._dragonBonesData = value;
+    }
+
+    /**
+     * 执行工作单元直到超出时间预算或解析完成，每次至少执行一个工作单元。
+     * 工作单元抛出异常后解析失败，不能继续执行。
+     *
+     * @param budgetNanos 时间预算。 (以纳秒为单位)
+     * @returns 是否已解析完成。
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public boolean step(long budgetNanos) {
+        if (this._isFailed) {
+            throw new IllegalStateException("The parse task has failed.");
+        }
+
+        if (this.isComplete()) {
+            return true;
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            do {
+                this._units.get(this._unitIndex++).run();
+            } while (this._unitIndex < this._units.size() && System.nanoTime() - startTime < budgetNanos);
+        } catch (RuntimeException | Error e) {
+            this._isFailed = true;
+            if (this._failCallback != null) {
+                this._failCallback.run();
+            }
+
+            throw e;
+        }
+
+        if (this.isComplete() && this._completeCallback != null) {
+            this._completeCallback.run();
+        }
+
+        return this.isComplete();
+    }
+
+    /**
+     * 执行所有剩余的工作单元。
+     *
+     * @returns 解析的龙骨数据。
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    @Nullable
+    public DragonBonesData finish() {
+        this.step(Long.MAX_VALUE);
+        return this._dragonBonesData;
+    }
+
+    /**
+     * 设置解析完成时的回调，在最后一次 {@link #step(long)} 中调用。
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public void setCompleteCallback(@Nullable Runnable value) {
+        this._completeCallback = value;
+    }
+
+    /**
+     * 是否已解析完成。
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public boolean isComplete() {
+        return this._unitIndex >= this._units.size();
+    }
+
+    /**
+     * 解析进度。 [0: 未开始 ~ 1: 已完成] (工作单元的总数在第一个工作单元读取数据后确定)
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public float getProgress() {
+        return this.isComplete() ? 1f : (float) this._unitIndex / this._units.size();
+    }
+
+    /**
+     * 已执行的工作单元数量。
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public int getCompletedUnitCount() {
+        return this._unitIndex;
+    }
+
+    /**
+     * 工作单元的总数。
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public int getUnitCount() {
+        return this._units.size();
+    }
+
+    /**
+     * 解析的龙骨数据。 (解析完成前或数据不支持时为 null)
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    @Nullable
+    public DragonBonesData getDragonBonesData() {
+        return this.isComplete() ? this._dragonBonesData : null;
+    }
+}
@@ -8,7 +8,7 @@ import com.dragonbones.model.TextureAtlasData;
 import com.dragonbones.util.ArrayBase;
 import com.dragonbones.util.Console;
 import com.dragonbones.util.buffer.ArrayBuffer;
-import com.dragonbones.util.json.JSON;
+import com.dragonbones.util.json.JSONReader;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
@@ -103,6 +103,7 @@ public abstract class DataParser {
     protected static final String PLAY_TIMES = "playTimes";
     protected static final String SCALE = "scale";
     protected static final String OFFSET = "offset";
+    protected static final String COUNT = "count";
     protected static final String POSITION = "position";
     protected static final String DURATION = "duration";
     protected static final String TWEEN_TYPE = "tweenType";
@@ -271,6 +272,21 @@ public abstract class DataParser {
      */
     public abstract boolean parseTextureAtlasData(Object rawData, TextureAtlasData textureAtlasData, float scale);
 
+    /**
+     * 创建分步解析龙骨数据的任务。 (默认在一个工作单元中解析全部数据)
+     *
+     * @param rawData 需要解析的原始数据。
+     * @param scale   为所有骨架指定一个缩放值。
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see DataParseTask#step(long)
+     */
+    public DataParseTask createParseTask(Object rawData, float scale) {
+        DataParseTask task = new DataParseTask();
+        task._addUnit(() -> task._setDragonBonesData(this.parseDragonBonesData(rawData, scale)));
+        return task;
+    }
+
     /**
      * @see BaseFactory#parseDragonBonesData(Object, String, float)
      * @deprecated Obsolete, please refer to @see
@@ -296,7 +312,7 @@ public abstract class DataParser {
 
     @Nullable
     public static DragonBonesData parseDragonBonesDataJson(String json) {
-        return ObjectDataParser.getInstance().parseDragonBonesData(JSON.parse(json), 0f);
+        return ObjectDataParser.getInstance().parseDragonBonesData(new JSONReader(json), 0f);
     }
 
     public static Map<String, Object> parseTextureAtlasData(Object rawData) {
@@ -0,0 +1,440 @@
+package com.dragonbones.parser;
+
+import com.dragonbones.core.BinaryOffset;
+import com.dragonbones.core.TimelineType;
+import com.dragonbones.core.TweenType;
+import com.dragonbones.model.AnimationData;
+import com.dragonbones.model.ArmatureData;
+import com.dragonbones.model.DragonBonesData;
+import com.dragonbones.model.TimelineData;
+import com.dragonbones.util.Array;
+import com.dragonbones.util.CharArray;
+import com.dragonbones.util.FloatArray;
+import com.dragonbones.util.IntArray;
+import com.dragonbones.util.ShortArray;
+import com.dragonbones.util.buffer.Float32Array;
+
+/**
+ * 关键帧精简，移除骨骼、颜色和网格变形时间轴中可以由前后关键帧线性插值或保持得到的冗余关键帧，并重建帧索引。
+ * 只移除线性补间或无补间的关键帧，首尾关键帧始终保留，所有关键帧数值相同的时间轴精简为一个关键帧。
+ * 精简后重新排列关键帧数值和帧索引，统计精简前后的关键帧数量和帧数据大小。
+ *
+ * @version DragonBones 5.1
+ * @language zh_CN
+ * @see ObjectDataParser#setKeyFrameTolerance(float)
+ */
+public class KeyFrameReducer {
+    private final float _tolerance;
+    private int _keyFrameCount = 0;
+    private int _reducedKeyFrameCount = 0;
+    private int _byteCount = 0;
+    private int _reducedByteCount = 0;
+    private final IntArray _keyFrames = new IntArray();
+    // Timeline.
+    private DragonBonesData _data;
+    private AnimationData _animation;
+    private TimelineData _timeline;
+    private int _valueOffset;
+    private int _valueCount;
+
+    /**
+     * @param tolerance 允许的最大误差。 (坐标以像素为单位，旋转和斜切以弧度为单位，颜色乘数以 1 为单位，颜色偏移以 255 为单位)
+     */
+    public KeyFrameReducer(float tolerance) {
+        this._tolerance = tolerance;
+    }
+
+    private static int _getByteCount(DragonBonesData data) {
+        return data.frameArray.length() * 2 + data.frameIntArray.length() * 2 +
+                (data.frameFloatArray != null ? data.frameFloatArray.length() * 4 : 0) +
+                data.timelineArray.length() * 2 + data.frameIndices.length() * 4;
+    }
+
+    private int _getFrameOffset(int frameIndex) {
+        return this._animation.frameOffset + this._data.timelineArray.get(this._timeline.offset + BinaryOffset.TimelineFrameOffset.v + frameIndex);
+    }
+
+    private int _getTweenType(int frameIndex) {
+        return this._data.frameArray.get(this._getFrameOffset(frameIndex) + BinaryOffset.FrameTweenType.v);
+    }
+
+    private int _getPosition(int frameIndex) {
+        return this._data.frameArray.get(this._getFrameOffset(frameIndex) + BinaryOffset.FramePosition.v);
+    }
+
+    private float _getValue(int frameIndex, int valueIndex) {
+        if (this._timeline.type == TimelineType.SlotColor) {
+            int colorOffset = this._data.frameIntArray.get(this._valueOffset + frameIndex);
+            int value = this._data.intArray.get(colorOffset + valueIndex);
+            return valueIndex < 4 ? value * 0.01f : value; // Multipliers.
+        }
+
+        return this._data.frameFloatArray.get(this._valueOffset + frameIndex * this._valueCount + valueIndex);
+    }
+
+    private boolean _isSameFrame(int frameIndex, int otherFrameIndex) {
+        for (int i = 0; i < this._valueCount; ++i) {
+            if (Math.abs(this._getValue(frameIndex, i) - this._getValue(otherFrameIndex, i)) > this._tolerance) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * 移除 prevFrame 与 nextFrame 之间的所有关键帧后误差是否在范围内。
+     */
+    private boolean _canMerge(int prevFrame, int nextFrame) {
+        int tweenType = this._getTweenType(prevFrame);
+        if (tweenType != TweenType.Line.v && tweenType != TweenType.None.v) {
+            return false;
+        }
+
+        int prevPosition = this._getPosition(prevFrame);
+        float durationR = 1f / (this._getPosition(nextFrame) - prevPosition);
+        for (int i = prevFrame + 1; i < nextFrame; ++i) {
+            if (this._getTweenType(i) != tweenType) {
+                return false;
+            }
+
+            if (tweenType == TweenType.None.v) {
+                if (!this._isSameFrame(i, prevFrame)) {
+                    return false;
+                }
+
+                continue;
+            }
+
+            float progress = (this._getPosition(i) - prevPosition) * durationR;
+            for (int j = 0; j < this._valueCount; ++j) {
+                float prevValue = this._getValue(prevFrame, j);
+                float value = prevValue + (this._getValue(nextFrame, j) - prevValue) * progress;
+                if (Math.abs(this._getValue(i, j) - value) > this._tolerance) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private void _applyKeyFrames() {
+        CharArray timelineArray = this._data.timelineArray;
+        int keyFrameCount = this._keyFrames.size();
+
+        for (int i = 0; i < keyFrameCount; ++i) { // Move forward, keyFrames[i] >= i.
+            int frameIndex = this._keyFrames.get(i);
+            timelineArray.set(this._timeline.offset + BinaryOffset.TimelineFrameOffset.v + i, timelineArray.get(this._timeline.offset + BinaryOffset.TimelineFrameOffset.v + frameIndex));
+
+            if (this._timeline.type == TimelineType.SlotColor) {
+                ShortArray frameIntArray = this._data.frameIntArray;
+                frameIntArray.set(this._valueOffset + i, frameIntArray.get(this._valueOffset + frameIndex));
+            } else {
+                FloatArray frameFloatArray = this._data.frameFloatArray;
+                for (int j = 0; j < this._valueCount; ++j) {
+                    frameFloatArray.set(this._valueOffset + i * this._valueCount + j, frameFloatArray.get(this._valueOffset + frameIndex * this._valueCount + j));
+                }
+            }
+        }
+
+        timelineArray.set(this._timeline.offset + BinaryOffset.TimelineKeyFrameCount.v, keyFrameCount);
+
+        this._data._buildFrameIndices(this._animation, this._timeline); // Rebuild frame indices.
+    }
+
+    private void _reduceTimeline(AnimationData animation, TimelineData timeline) {
+        CharArray timelineArray = this._data.timelineArray;
+        int keyFrameCount = timelineArray.get(timeline.offset + BinaryOffset.TimelineKeyFrameCount.v);
+        int frameValueOffset = timelineArray.get(timeline.offset + BinaryOffset.TimelineFrameValueOffset.v);
+
+        this._animation = animation;
+        this._timeline = timeline;
+        switch (timeline.type) {
+            case BoneAll:
+                this._valueOffset = animation.frameFloatOffset + frameValueOffset;
+                this._valueCount = 6;
+                break;
+
+            case SlotColor:
+                this._valueOffset = animation.frameIntOffset + frameValueOffset;
+                this._valueCount = 8;
+                break;
+
+            case SlotFFD: {
+                int frameIntOffset = animation.frameIntOffset + timelineArray.get(timeline.offset + BinaryOffset.TimelineFrameValueCount.v);
+                this._valueOffset = animation.frameFloatOffset + frameValueOffset;
+                this._valueCount = this._data.frameIntArray.get(frameIntOffset + BinaryOffset.FFDTimelineValueCount.v);
+                break;
+            }
+
+            default:
+                return;
+        }
+
+        this._keyFrameCount += keyFrameCount;
+
+        if (keyFrameCount > 1) {
+            this._keyFrames.clear();
+            this._keyFrames.push(0);
+
+            boolean isStatic = true;
+            for (int i = 1; i < keyFrameCount; ++i) {
+                if (!this._isSameFrame(i, 0)) {
+                    isStatic = false;
+                    break;
+                }
+            }
+
+            if (!isStatic) {
+                for (int i = 0, nextFrame = 2; nextFrame < keyFrameCount; ++nextFrame) {
+                    if (!this._canMerge(i, nextFrame)) {
+                        i = nextFrame - 1;
+                        this._keyFrames.push(i);
+                    }
+                }
+
+                this._keyFrames.push(keyFrameCount - 1);
+            }
+
+            if (this._keyFrames.size() < keyFrameCount) {
+                this._applyKeyFrames();
+                keyFrameCount = this._keyFrames.size();
+            }
+        }
+
+        this._reducedKeyFrameCount += keyFrameCount;
+    }
+
+    /**
+     * 重新排列关键帧数值，去掉被移除的关键帧占用的空间。
+     */
+    private void _compactFrameFloatArray() {
+        CharArray timelineArray = this._data.timelineArray;
+        ShortArray frameIntArray = this._data.frameIntArray;
+        FloatArray frameFloatArray = this._data.frameFloatArray;
+        FloatArray compactArray = new FloatArray();
+
+        for (String armatureName : this._data.armatureNames) {
+            ArmatureData armatureData = this._data.armatures.get(armatureName);
+            for (String animationName : armatureData.animationNames) {
+                AnimationData animationData = armatureData.animations.get(animationName);
+                int frameFloatOffset = compactArray.length();
+
+                for (Array<TimelineData> timelines : animationData.boneTimelines.values()) {
+                    for (TimelineData timeline : timelines) {
+                        if (timeline.type == TimelineType.BoneAll) {
+                            int valueOffset = animationData.frameFloatOffset + timelineArray.get(timeline.offset + BinaryOffset.TimelineFrameValueOffset.v);
+                            int valueCount = timelineArray.get(timeline.offset + BinaryOffset.TimelineKeyFrameCount.v) * 6;
+                            timelineArray.set(timeline.offset + BinaryOffset.TimelineFrameValueOffset.v, compactArray.length() - frameFloatOffset);
+                            for (int i = 0; i < valueCount; ++i) {
+                                compactArray.push(frameFloatArray.get(valueOffset + i));
+                            }
+                        }
+                    }
+                }
+
+                for (Array<TimelineData> timelines : animationData.slotTimelines.values()) {
+                    for (TimelineData timeline : timelines) {
+                        if (timeline.type == TimelineType.SlotFFD) {
+                            int frameIntOffset = animationData.frameIntOffset + timelineArray.get(timeline.offset + BinaryOffset.TimelineFrameValueCount.v);
+                            int ffdCount = frameIntArray.get(frameIntOffset + BinaryOffset.FFDTimelineFFDCount.v);
+                            int ffdValueCount = frameIntArray.get(frameIntOffset + BinaryOffset.FFDTimelineValueCount.v);
+                            int valueOffset = animationData.frameFloatOffset + timelineArray.get(timeline.offset + BinaryOffset.TimelineFrameValueOffset.v);
+                            int valueCount = timelineArray.get(timeline.offset + BinaryOffset.TimelineKeyFrameCount.v) * ffdValueCount;
+                            timelineArray.set(timeline.offset + BinaryOffset.TimelineFrameValueOffset.v, compactArray.length() - frameFloatOffset);
+                            for (int i = 0; i < valueCount; ++i) {
+                                compactArray.push(frameFloatArray.get(valueOffset + i));
+                            }
+
+                            if (ffdCount > ffdValueCount) { // Vertices out of the animated range.
+                                valueOffset = animationData.frameFloatOffset + frameIntArray.get(frameIntOffset + BinaryOffset.FFDTimelineFloatOffset.v);
+                                frameIntArray.set(frameIntOffset + BinaryOffset.FFDTimelineFloatOffset.v, compactArray.length() - frameFloatOffset);
+                                for (int i = 0, l = ffdCount - ffdValueCount; i < l; ++i) {
+                                    compactArray.push(frameFloatArray.get(valueOffset + i));
+                                }
+                            }
+                        }
+                    }
+                }
+
+                animationData.frameFloatOffset = frameFloatOffset;
+            }
+        }
+
+        this._data.frameFloatArray = compactArray;
+    }
+
+    private void _compactFrameIndices(IntArray compactArray, AnimationData animation, TimelineData timeline) {
+        if (timeline == null || timeline.frameIndicesOffset < 0) {
+            return;
+        }
+
+        IntArray frameIndices = this._data.frameIndices;
+        int frameIndicesOffset = compactArray.length();
+        for (int i = 0, l = animation.frameCount + 1; i < l; ++i) {
+            compactArray.push(frameIndices.get(timeline.frameIndicesOffset + i));
+        }
+
+        timeline.frameIndicesOffset = frameIndicesOffset;
+    }
+
+    /**
+     * 重新排列帧索引，去掉精简为一个关键帧的时间轴占用的空间。
+     */
+    private void _compactFrameIndices() {
+        IntArray compactArray = new IntArray();
+
+        for (String armatureName : this._data.armatureNames) {
+            ArmatureData armatureData = this._data.armatures.get(armatureName);
+            for (String animationName : armatureData.animationNames) {
+                AnimationData animationData = armatureData.animations.get(animationName);
+                this._compactFrameIndices(compactArray, animationData, animationData.actionTimeline);
+                this._compactFrameIndices(compactArray, animationData, animationData.zOrderTimeline);
+
+                for (Array<TimelineData> timelines : animationData.boneTimelines.values()) {
+                    for (TimelineData timeline : timelines) {
+                        this._compactFrameIndices(compactArray, animationData, timeline);
+                    }
+                }
+
+                for (Array<TimelineData> timelines : animationData.slotTimelines.values()) {
+                    for (TimelineData timeline : timelines) {
+                        this._compactFrameIndices(compactArray, animationData, timeline);
+                    }
+                }
+            }
+        }
+
+        IntArray frameIndices = this._data.frameIndices;
+        frameIndices.setLength(compactArray.length());
+        for (int i = 0, l = compactArray.length(); i < l; ++i) {
+            frameIndices.set(i, compactArray.get(i));
+        }
+    }
+
+    /**
+     * 精简一个动画的关键帧，不重新排列关键帧数值。 (用于延迟解析的动画的数据片段)
+     */
+    void reduce(DragonBonesData data, AnimationData animation) {
+        if (data.frameFloatArray == null) { // Quantized.
+            return;
+        }
+
+        this._data = data;
+        this._byteCount += _getByteCount(data);
+
+        for (Array<TimelineData> timelines : animation.boneTimelines.values()) {
+            for (TimelineData timeline : timelines) {
+                this._reduceTimeline(animation, timeline);
+            }
+        }
+
+        for (Array<TimelineData> timelines : animation.slotTimelines.values()) {
+            for (TimelineData timeline : timelines) {
+                this._reduceTimeline(animation, timeline);
+            }
+        }
+
+        this._reducedByteCount += _getByteCount(data);
+        this._data = null; //
+        this._animation = null; //
+        this._timeline = null; //
+    }
+
+    /**
+     * 精简龙骨数据中所有动画的关键帧。 (在创建骨架之前调用)
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public void reduce(DragonBonesData data) {
+        if (data.frameFloatArray == null) { // Quantized.
+            return;
+        }
+
+        this._data = data;
+        this._byteCount += _getByteCount(data);
+
+        for (String armatureName : data.armatureNames) {
+            ArmatureData armatureData = data.armatures.get(armatureName);
+            for (String animationName : armatureData.animationNames) {
+                AnimationData animationData = armatureData.animations.get(animationName);
+                for (Array<TimelineData> timelines : animationData.boneTimelines.values()) {
+                    for (TimelineData timeline : timelines) {
+                        this._reduceTimeline(animationData, timeline);
+                    }
+                }
+
+                for (Array<TimelineData> timelines : animationData.slotTimelines.values()) {
+                    for (TimelineData timeline : timelines) {
+                        this._reduceTimeline(animationData, timeline);
+                    }
+                }
+            }
+        }
+
+        if (!(data.frameFloatArray instanceof Float32Array)) { // Binary data shares one buffer.
+            this._compactFrameFloatArray();
+        }
+
+        this._compactFrameIndices();
+
+        this._reducedByteCount += _getByteCount(data);
+        this._data = null; //
+        this._animation = null; //
+        this._timeline = null; //
+    }
+
+    /**
+     * 允许的最大误差。
+     */
+    public float getTolerance() {
+        return this._tolerance;
+    }
+
+    /**
+     * 精简前的关键帧数量。 (骨骼、颜色和网格变形时间轴)
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public int getKeyFrameCount() {
+        return this._keyFrameCount;
+    }
+
+    /**
+     * 精简后的关键帧数量。
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public int getReducedKeyFrameCount() {
+        return this._reducedKeyFrameCount;
+    }
+
+    /**
+     * 精简前的帧数据大小。 (以字节为单位)
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public int getByteCount() {
+        return this._byteCount;
+    }
+
+    /**
+     * 精简后的帧数据大小。 (以字节为单位)
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public int getReducedByteCount() {
+        return this._reducedByteCount;
+    }
+
+    public String toString() {
+        return "[KeyFrameReducer keyFrames " + this._keyFrameCount + " -> " + this._reducedKeyFrameCount +
+                ", bytes " + this._byteCount + " -> " + this._reducedByteCount + "]";
+    }
+}
@@ -8,10 +8,15 @@ import com.dragonbones.geom.Point;
 import com.dragonbones.geom.Transform;
 import com.dragonbones.model.*;
 import com.dragonbones.util.*;
+import com.dragonbones.util.json.JSON;
+import com.dragonbones.util.json.JSONReader;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.dragonbones.util.Dynamic.*;
 
@@ -53,6 +58,8 @@ public class ObjectDataParser extends DataParser {
     protected TimelineData _timeline = null; //
     protected Array<Object> _rawTextureAtlases = null;
 
+    @Nullable
+    private KeyFrameReducer _keyFrameReducer = null;
     private int _defalultColorOffset = -1;
     private float _prevTweenRotate = 0;
     private float _prevRotation = 0f;
@@ -68,6 +75,21 @@ public class ObjectDataParser extends DataParser {
 
     private final FloatArray _helpArray = new FloatArray();
     private final Array<ActionFrame> _actionFrames = new Array<>();
+    private final RawFrame _rawFrame = new RawFrame();
+    @Nullable
+    private JSONReader _streamReader = null;
+    @Nullable
+    private Executor _animationExecutor = null;
+    private float _keyFrameTolerance = 0f;
+    private boolean _compactFrameIndices = false;
+    private boolean _lazyAnimationParsing = false;
+    private float _parseKeyFrameTolerance = 0f; // Options of the current parse.
+    private boolean _parseCompactFrameIndices = false;
+    private boolean _parseLazyAnimationParsing = false;
+    @Nullable
+    private Array<ActionData> _animationActions = null; // Actions of the parallel parsed animation.
+    @Nullable
+    private ShortArray _meshIntArray = null; // Read only intArray with the meshes when parsing a segment.
     private final Map<String, FloatArray> _weightSlotPose = new HashMap<>();
 
     private Map<String, FloatArray> _weightBonePoses = new HashMap<>();
@@ -148,35 +170,36 @@ public class ObjectDataParser extends DataParser {
         return a.frameStart > b.frameStart ? 1 : -1;
     }
 
-    private void _parseActionDataInFrame(Object rawData, int frameStart, @Nullable BoneData bone, @Nullable SlotData slot)
+    private void _parseActionDataInFrame(RawFrame rawFrame, int frameStart, @Nullable BoneData bone, @Nullable SlotData slot)
 
     {
-        if (in(rawData, ObjectDataParser.EVENT)) {
-            this._mergeActionFrame(get(rawData, ObjectDataParser.EVENT), frameStart, ActionType.Frame, bone, slot);
+        if (rawFrame.event != null) {
+            this._mergeActionFrame(rawFrame.event, frameStart, ActionType.Frame, bone, slot);
         }
 
-        if (in(rawData, ObjectDataParser.SOUND)) {
-            this._mergeActionFrame(get(rawData, ObjectDataParser.SOUND), frameStart, ActionType.Sound, bone, slot);
+        if (rawFrame.sound != null) {
+            this._mergeActionFrame(rawFrame.sound, frameStart, ActionType.Sound, bone, slot);
         }
 
-        if (in(rawData, ObjectDataParser.ACTION)) {
-            this._mergeActionFrame(get(rawData, ObjectDataParser.ACTION), frameStart, ActionType.Play, bone, slot);
+        if (rawFrame.action != null) {
+            this._mergeActionFrame(rawFrame.action, frameStart, ActionType.Play, bone, slot);
         }
 
-        if (in(rawData, ObjectDataParser.EVENTS)) {
-            this._mergeActionFrame(get(rawData, ObjectDataParser.EVENTS), frameStart, ActionType.Frame, bone, slot);
+        if (rawFrame.events != null) {
+            this._mergeActionFrame(rawFrame.events, frameStart, ActionType.Frame, bone, slot);
         }
 
-        if (in(rawData, ObjectDataParser.ACTIONS)) {
-            this._mergeActionFrame(get(rawData, ObjectDataParser.ACTIONS), frameStart, ActionType.Play, bone, slot);
+        if (rawFrame.actions != null) {
+            this._mergeActionFrame(rawFrame.actions, frameStart, ActionType.Play, bone, slot);
         }
     }
 
     private void _mergeActionFrame(Object rawData, int frameStart, ActionType type, @Nullable BoneData bone, @Nullable SlotData slot)
 
     {
-        int actionOffset = this._armature.actions.size();
-        int actionCount = this._parseActionData(rawData, this._armature.actions, type, bone, slot);
+        Array<ActionData> actions = this._animationActions != null ? this._animationActions : this._armature.actions;
+        int actionOffset = actions.size();
+        int actionCount = this._parseActionData(rawData, actions, type, bone, slot);
         ActionFrame frame = null;
 
         if (this._actionFrames.size() == 0) { // First frame.
@@ -227,6 +250,30 @@ public class ObjectDataParser extends DataParser {
     protected ArmatureData _parseArmature(Object rawData, float scale)
 
     {
+        ArmatureData armature = this._parseArmatureInfo(rawData, scale);
+
+        if (in(rawData, ObjectDataParser.SKIN)) {
+            Array<Object> rawSkins = getArray(rawData, ObjectDataParser.SKIN);
+            for (Object rawSkin : rawSkins) {
+                armature.addSkin(this._parseSkin(rawSkin));
+            }
+        }
+
+        if (in(rawData, ObjectDataParser.ANIMATION)) {
+            this._parseArmatureAnimations(getArray(rawData, ObjectDataParser.ANIMATION));
+        }
+
+        this._parseArmatureActions(rawData);
+
+        return armature;
+    }
+
+    /**
+     * 解析骨架的基本信息、骨骼和插槽。
+     *
+     * @private
+     */
+    protected ArmatureData _parseArmatureInfo(Object rawData, float scale) {
         ArmatureData armature = BaseObject.borrowObject(ArmatureData.class);
         armature.name = getString(rawData, ObjectDataParser.NAME, "");
         armature.frameRate = getFloat(rawData, ObjectDataParser.FRAME_RATE, this._data.frameRate);
@@ -320,20 +367,40 @@ public class ObjectDataParser extends DataParser {
             }
         }
 
-        if (in(rawData, ObjectDataParser.SKIN)) {
-            Array<Object> rawSkins = getArray(rawData, ObjectDataParser.SKIN);
-            for (Object rawSkin : rawSkins) {
-                armature.addSkin(this._parseSkin(rawSkin));
-            }
-        }
+        return armature;
+    }
 
-        if (in(rawData, ObjectDataParser.ANIMATION)) {
-            Array<Object> rawAnimations = getArray(rawData, ObjectDataParser.ANIMATION);
+    /**
+     * @private
+     */
+    protected void _parseArmatureAnimations(Array<Object> rawAnimations) {
+        ArmatureData armature = this._armature;
+        if (this._parseLazyAnimationParsing) {
+            ObjectDataParser context = this._createAnimationParser(this._data);
+            context._keyFrameReducer = this._keyFrameReducer; // Lazy animations are counted in the result of this parse.
+
+            for (Object rawAnimation : rawAnimations) {
+                AnimationData animation = this._parseAnimationInfo(rawAnimation);
+                animation.lazyParser = new LazyAnimation(context, animation, rawAnimation);
+                armature.addAnimation(animation);
+            }
+        } else if (this._animationExecutor != null && rawAnimations.size() > 1) {
+            this._parseAnimations(rawAnimations, this._animationExecutor);
+        } else {
             for (Object rawAnimation : rawAnimations) {
                 AnimationData animation = this._parseAnimation(rawAnimation);
                 armature.addAnimation(animation);
             }
         }
+    }
+
+    /**
+     * 解析骨架的动作并清理解析骨架的辅助数据。
+     *
+     * @private
+     */
+    protected void _parseArmatureActions(Object rawData) {
+        ArmatureData armature = this._armature;
 
         if (in(rawData, ObjectDataParser.DEFAULT_ACTIONS)) {
             this._parseActionData(get(rawData, ObjectDataParser.DEFAULT_ACTIONS), armature.defaultActions, ActionType.Play, null, null);
@@ -363,7 +430,6 @@ public class ObjectDataParser extends DataParser {
         this._weightSlotPose.clear();
         this._weightBonePoses.clear();
         this._weightBoneIndices.clear();
-        return armature;
     }
 
     /**
@@ -607,6 +673,7 @@ public class ObjectDataParser extends DataParser {
         intArray.set(mesh.offset + BinaryOffset.MeshVertexCount.v, vertexCount);
         intArray.set(mesh.offset + BinaryOffset.MeshTriangleCount.v, triangleCount);
         intArray.set(mesh.offset + BinaryOffset.MeshFloatOffset.v, vertexOffset);
+        intArray.set(mesh.offset + BinaryOffset.MeshWeightOffset.v, -1);
         for (int i = 0, l = triangleCount * 3; i < l; ++i) {
             intArray.set(mesh.offset + BinaryOffset.MeshVertexIndices.v + i, rawTriangles.get(i));
         }
@@ -633,6 +700,7 @@ public class ObjectDataParser extends DataParser {
             weight.bones.setLength(weightBoneCount);
             weightBoneIndices.setLength(weightBoneCount);
             intArray.incrementLength(1 + 1 + weightBoneCount + vertexCount + weight.count);
+            intArray.set(weight.offset + BinaryOffset.WeigthBoneCount.v, weightBoneCount);
             intArray.set(weight.offset + BinaryOffset.WeigthFloatOffset.v, floatOffset);
 
             for (int i = 0; i < weightBoneCount; ++i) {
@@ -672,6 +740,7 @@ public class ObjectDataParser extends DataParser {
             }
 
             mesh.weight = weight;
+            intArray.set(mesh.offset + BinaryOffset.MeshWeightOffset.v, weight.offset);
 
             //
             this._weightSlotPose.put(mesh.name, rawSlotPose);
@@ -772,6 +841,18 @@ public class ObjectDataParser extends DataParser {
     protected AnimationData _parseAnimation(Object rawData)
 
     {
+        AnimationData animation = this._parseAnimationInfo(rawData);
+        this._parseAnimationTimelines(rawData, animation);
+
+        return animation;
+    }
+
+    /**
+     * 解析动画的基本信息，不解析时间轴。
+     *
+     * @private
+     */
+    protected AnimationData _parseAnimationInfo(Object rawData) {
         // const animation = BaseObject.borrowObject(AnimationData);
         AnimationData animation = BaseObject.borrowObject(AnimationData.class);
         animation.frameCount = Math.max(getInt(rawData, ObjectDataParser.DURATION, 1), 1);
@@ -784,6 +865,16 @@ public class ObjectDataParser extends DataParser {
         if (animation.name.length() < 1) {
             animation.name = ObjectDataParser.DEFAULT_NAME;
         }
+
+        return animation;
+    }
+
+    /**
+     * 解析动画的时间轴。
+     *
+     * @private
+     */
+    protected void _parseAnimationTimelines(Object rawData, AnimationData animation) {
         animation.frameIntOffset = this._data.frameIntArray.length();
         animation.frameFloatOffset = this._data.frameFloatArray.length();
         animation.frameOffset = this._data.frameArray.length();
@@ -796,7 +887,8 @@ public class ObjectDataParser extends DataParser {
             if (keyFrameCount > 0) {
                 for (int i = 0, frameStart = 0; i < keyFrameCount; ++i) {
                     Object rawFrame = rawFrames.get(i);
-                    this._parseActionDataInFrame(rawFrame, frameStart, null, null);
+                    this._rawFrame.read(rawFrame);
+                    this._parseActionDataInFrame(this._rawFrame, frameStart, null, null);
                     frameStart += getFloat(rawFrame, ObjectDataParser.DURATION, 1);
                 }
             }
@@ -864,48 +956,403 @@ public class ObjectDataParser extends DataParser {
 
             this._timeline = timeline;
 
-            if (keyFrameCount == 1) {
-                timeline.frameIndicesOffset = -1;
-                timelineArray.set(timeline.offset + BinaryOffset.TimelineFrameOffset.v + 0, this._parseCacheActionFrame(this._actionFrames.get(0)) - this._animation.frameOffset);
-            } else {
-                int totalFrameCount = this._animation.frameCount + 1; // One more frame than animation.
-                IntArray frameIndices = this._data.frameIndices;
-                timeline.frameIndicesOffset = frameIndices.length();
-                frameIndices.incrementLength(totalFrameCount);
-
-                for (
-                        int i = 0, iK = 0, frameStart = 0, frameCount = 0;
-                        i < totalFrameCount;
-                        ++i
-                        ) {
-                    if (frameStart + frameCount <= i && iK < keyFrameCount) {
-                        ActionFrame frame = this._actionFrames.get(iK);
-                        frameStart = frame.frameStart;
-                        if (iK == keyFrameCount - 1) {
-                            frameCount = this._animation.frameCount - frameStart;
-                        } else {
-                            frameCount = this._actionFrames.get(iK + 1).frameStart - frameStart;
-                        }
+            for (int iK = 0; iK < keyFrameCount; ++iK) {
+                timelineArray.set(timeline.offset + BinaryOffset.TimelineFrameOffset.v + iK, this._parseCacheActionFrame(this._actionFrames.get(iK)) - this._animation.frameOffset);
+            }
+
+            this._data._buildFrameIndices(this._animation, timeline);
+
+            this._timeline = null; //
+            this._actionFrames.clear();
+        }
+
+        this._animation = null; //
+    }
+
+    /**
+     * 在单独的解析器中解析一个动画，关键帧数据写入该解析器的数据片段中。
+     */
+    private static final class AnimationTask implements Runnable {
+        final ObjectDataParser parser;
+        final Object rawData;
+        final AtomicBoolean started = new AtomicBoolean();
+        @Nullable
+        CountDownLatch complete = null;
+        @Nullable
+        AnimationData animation = null;
+        @Nullable
+        Throwable error = null;
+
+        AnimationTask(ObjectDataParser parser, Object rawData) {
+            this.parser = parser;
+            this.rawData = rawData;
+        }
+
+        public void run() {
+            if (!this.started.compareAndSet(false, true)) { // Already run by the parsing thread.
+                return;
+            }
+
+            try {
+                this.animation = this.parser._parseAnimation(this.rawData);
+            } catch (Throwable e) {
+                this.error = e;
+            } finally {
+                this.complete.countDown();
+            }
+        }
+    }
+
+    /**
+     * 延迟解析的动画，第一次播放或预加载时解析时间轴。
+     */
+    private static final class LazyAnimation implements Runnable {
+        final ObjectDataParser context;
+        final AnimationData animation;
+        final Object rawData;
+
+        LazyAnimation(ObjectDataParser context, AnimationData animation, Object rawData) {
+            this.context = context;
+            this.animation = animation;
+            this.rawData = rawData;
+        }
+
+        public void run() {
+            this.context._parseLazyAnimation(this.animation, this.rawData);
+        }
+    }
+
+    /**
+     * 创建解析动画数据片段的解析器。 (片段的 intArray 只保存动画的颜色，网格数据从当前数据中只读)
+     */
+    private ObjectDataParser _createSegmentParser() {
+        DragonBonesData segment = BaseObject.borrowObject(DragonBonesData.class);
+        segment.intArray = new ShortArray();
+        segment.floatArray = this._data.floatArray;
+        segment.frameIntArray = new ShortArray();
+        segment.frameFloatArray = new FloatArray();
+        segment.frameArray = new ShortArray();
+        segment.timelineArray = new CharArray();
+
+        ObjectDataParser parser = this._createAnimationParser(segment);
+        parser._meshIntArray = this._data.intArray;
+        parser._animationActions = new Array<>();
+
+        return parser;
+    }
+
+    /**
+     * 创建解析当前骨架动画的解析器，共享只读的骨架数据，关键帧数据写入指定的数据。
+     */
+    private ObjectDataParser _createAnimationParser(DragonBonesData data) {
+        ObjectDataParser parser = new ObjectDataParser();
+        parser._data = data;
+        parser._armature = this._armature;
+        for (BoneData bone : this._rawBones) {
+            parser._rawBones.push(bone);
+        }
+
+        parser._meshs.putAll(this._meshs);
+        parser._weightSlotPose.putAll(this._weightSlotPose);
+        parser._weightBonePoses.putAll(this._weightBonePoses);
+        parser._weightBoneIndices.putAll(this._weightBoneIndices);
+        parser._streamReader = this._streamReader != null ? this._streamReader.fork() : null;
+
+        return parser;
+    }
+
+    /**
+     * 解析延迟解析的动画，同一个龙骨数据中的动画在同一个线程中依次解析并追加到数据中。
+     */
+    private void _parseLazyAnimation(AnimationData animation, Object rawData) {
+        DragonBonesData data = this._data;
+        synchronized (data) {
+            if (animation.lazyParser == null) {
+                return;
+            }
+
+            data._checkLazyParseThread();
 
-                        timelineArray.set(timeline.offset + BinaryOffset.TimelineFrameOffset.v + iK, this._parseCacheActionFrame(frame) - this._animation.frameOffset);
-                        iK++;
+            int frameIndicesLength = data.frameIndices.length();
+            ObjectDataParser parser = this._createSegmentParser();
+            parser._parseAnimationTimelines(rawData, animation);
+
+            if (this._keyFrameReducer != null) {
+                this._keyFrameReducer.reduce(parser._data, animation);
+            }
+
+            this._mergeAnimation(parser, animation);
+            parser._data.returnToPool();
+
+            if (data.isCompactFrameIndices()) {
+                for (TimelineData timeline : ObjectDataParser._getTimelines(animation)) {
+                    timeline.frameIndicesOffset = -1;
+                }
+
+                data.frameIndices.setLength(frameIndicesLength);
+            }
+
+            this._parseStaticTimelines(animation);
+            animation.lazyParser = null;
+        }
+    }
+
+    private static Array<TimelineData> _getTimelines(AnimationData animation) {
+        Array<TimelineData> timelines = new Array<>();
+        for (Array<TimelineData> boneTimelines : animation.boneTimelines.values()) {
+            for (TimelineData timeline : boneTimelines) {
+                timelines.push(timeline);
+            }
+        }
+
+        for (Array<TimelineData> slotTimelines : animation.slotTimelines.values()) {
+            for (TimelineData timeline : slotTimelines) {
+                timelines.push(timeline);
+            }
+        }
+
+        if (animation.zOrderTimeline != null) {
+            timelines.push(animation.zOrderTimeline);
+        }
+
+        if (animation.actionTimeline != null) {
+            timelines.push(animation.actionTimeline);
+        }
+
+        return timelines;
+    }
+
+    /**
+     * 在执行器中同时解析多个动画，解析线程也参与解析，然后按顺序合并数据片段并添加到骨架。
+     *
+     * @private
+     */
+    protected void _parseAnimations(Array<Object> rawAnimations, Executor executor) {
+        Array<AnimationTask> tasks = new Array<>();
+        for (Object rawAnimation : rawAnimations) {
+            tasks.push(new AnimationTask(this._createSegmentParser(), rawAnimation));
+        }
+
+        CountDownLatch complete = new CountDownLatch(tasks.size());
+        for (AnimationTask task : tasks) {
+            task.complete = complete;
+        }
+
+        for (int i = 1, l = tasks.size(); i < l; ++i) {
+            try {
+                executor.execute(tasks.get(i));
+            } catch (RuntimeException e) { // Rejected, run in the parsing thread.
+            }
+        }
+
+        for (AnimationTask task : tasks) {
+            task.run();
+        }
+
+        try {
+            complete.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+
+        for (AnimationTask task : tasks) {
+            if (task.error instanceof RuntimeException) {
+                throw (RuntimeException) task.error;
+            } else if (task.error instanceof Error) {
+                throw (Error) task.error;
+            } else if (task.error != null) {
+                throw new RuntimeException(task.error);
+            }
+        }
+
+        for (AnimationTask task : tasks) {
+            this._mergeAnimation(task.parser, task.animation);
+            task.parser._data.returnToPool();
+            this._armature.addAnimation(task.animation);
+        }
+    }
+
+    /**
+     * 将动画的数据片段追加到当前数据，并修正时间轴和关键帧中的偏移。 (默认颜色在当前数据中只保存一次)
+     */
+    private void _mergeAnimation(ObjectDataParser parser, AnimationData animation) {
+        DragonBonesData data = this._data;
+        DragonBonesData segment = parser._data;
+        IntArray colorOffsets = new IntArray(segment.intArray.length() / 8);
+        for (int i = 0, l = colorOffsets.length(); i < l; ++i) {
+            int colorOffset = i * 8;
+            if (colorOffset == parser._defalultColorOffset && this._defalultColorOffset >= 0) {
+                colorOffsets.set(i, this._defalultColorOffset);
+                continue;
+            }
+
+            colorOffsets.set(i, data.intArray.length());
+            if (colorOffset == parser._defalultColorOffset) {
+                this._defalultColorOffset = data.intArray.length();
+            }
+
+            for (int j = 0; j < 8; ++j) {
+                data.intArray.push(segment.intArray.get(colorOffset + j));
+            }
+        }
+
+        int frameFloatOffset = data.frameFloatArray.length();
+        int timelineOffset = data.timelineArray.length();
+        int frameIndicesOffset = data.frameIndices.length();
+        int actionOffset = this._armature.actions.size();
+
+        CharArray timelineArray = segment.timelineArray;
+        for (TimelineData timeline : ObjectDataParser._getTimelines(animation)) {
+            int keyFrameCount = timelineArray.get(timeline.offset + BinaryOffset.TimelineKeyFrameCount.v);
+            switch (timeline.type) {
+                case SlotColor: { // Color offsets in intArray.
+                    ShortArray frameIntArray = segment.frameIntArray;
+                    int valueOffset = timelineArray.get(timeline.offset + BinaryOffset.TimelineFrameValueOffset.v);
+                    for (int i = 0; i < keyFrameCount; ++i) {
+                        frameIntArray.set(valueOffset + i, colorOffsets.get(frameIntArray.get(valueOffset + i) / 8));
                     }
+                    break;
+                }
 
-                    frameIndices.set(timeline.frameIndicesOffset + i, iK - 1);
+                case SlotFFD: { // Vertex offset in frameFloatArray.
+                    ShortArray frameIntArray = segment.frameIntArray;
+                    int valueOffset = timelineArray.get(timeline.offset + BinaryOffset.TimelineFrameValueCount.v) + BinaryOffset.FFDTimelineFloatOffset.v;
+                    frameIntArray.set(valueOffset, frameIntArray.get(valueOffset) + frameFloatOffset);
+                    break;
                 }
+
+                case Action: { // Action offsets in armature actions.
+                    ShortArray frameArray = segment.frameArray;
+                    for (int i = 0; i < keyFrameCount; ++i) {
+                        int frameOffset = timelineArray.get(timeline.offset + BinaryOffset.TimelineFrameOffset.v + i);
+                        int actionCount = frameArray.get(frameOffset + BinaryOffset.FramePosition.v + 1);
+                        for (int j = 0; j < actionCount; ++j) {
+                            int index = frameOffset + BinaryOffset.FramePosition.v + 2 + j;
+                            frameArray.set(index, frameArray.get(index) + actionOffset);
+                        }
+                    }
+                    break;
+                }
+
+                default:
+                    break;
             }
 
-            this._timeline = null; //
-            this._actionFrames.clear();
+            timeline.offset += timelineOffset;
+            if (timeline.frameIndicesOffset >= 0) {
+                timeline.frameIndicesOffset += frameIndicesOffset;
+            }
         }
 
-        this._animation = null; //
+        animation.frameIntOffset = data.frameIntArray.length();
+        animation.frameFloatOffset = frameFloatOffset;
+        animation.frameOffset = data.frameArray.length();
 
-        return animation;
+        data.frameIntArray.append(segment.frameIntArray);
+        data.frameFloatArray.append(segment.frameFloatArray);
+        data.frameArray.append(segment.frameArray);
+        data.timelineArray.append(segment.timelineArray);
+        data.frameIndices.append(segment.frameIndices);
+        for (ActionData action : parser._animationActions) {
+            this._armature.actions.push(action);
+        }
     }
 
     interface FrameParser {
-        int parse(Object rawData, int frameStart, int frameCount);
+        int parse(RawFrame rawFrame, int frameStart, int frameCount);
+    }
+
+    /**
+     * 流式解析时时间轴关键帧数组在 JSON 数据中的位置，解析时间轴时再从该位置依次读取关键帧。
+     */
+    private static final class KeyFrames {
+        final int offset;
+        final int count;
+
+        KeyFrames(int offset, int count) {
+            this.offset = offset;
+            this.count = count;
+        }
+    }
+
+    /**
+     * 标记整个动画中值不变的骨骼和插槽时间轴，播放时只需计算一次。
+     *
+     * @private
+     */
+    protected void _parseStaticTimelines(AnimationData animation) {
+        for (Array<TimelineData> timelines : animation.boneTimelines.values()) {
+            for (TimelineData timeline : timelines) {
+                timeline.isStatic = this._isStaticTimeline(animation, timeline);
+            }
+        }
+
+        for (Array<TimelineData> timelines : animation.slotTimelines.values()) {
+            for (TimelineData timeline : timelines) {
+                timeline.isStatic = this._isStaticTimeline(animation, timeline);
+            }
+        }
+    }
+
+    private boolean _isStaticTimeline(AnimationData animation, TimelineData timeline) {
+        CharArray timelineArray = this._data.timelineArray;
+        int frameCount = timelineArray.get(timeline.offset + BinaryOffset.TimelineKeyFrameCount.v);
+        int frameValueOffset = timelineArray.get(timeline.offset + BinaryOffset.TimelineFrameValueOffset.v);
+
+        switch (timeline.type) {
+            case BoneAll: {
+                FloatArray frameFloatArray = this._data.frameFloatArray;
+                int valueOffset = animation.frameFloatOffset + frameValueOffset;
+                for (int i = 1; i < frameCount; ++i) {
+                    for (int j = 0; j < 6; ++j) {
+                        if (frameFloatArray.get(valueOffset + j) != frameFloatArray.get(valueOffset + i * 6 + j)) {
+                            return false;
+                        }
+                    }
+                }
+
+                return true;
+            }
+
+            case SlotDisplay: {
+                ShortArray frameArray = this._data.frameArray;
+                int frameOffset = animation.frameOffset + timelineArray.get(timeline.offset + BinaryOffset.TimelineFrameOffset.v);
+                int displayIndex = frameArray.get(frameOffset + 1);
+                for (int i = 1; i < frameCount; ++i) {
+                    frameOffset = animation.frameOffset + timelineArray.get(timeline.offset + BinaryOffset.TimelineFrameOffset.v + i);
+                    if (frameArray.get(frameOffset + 1) != displayIndex) {
+                        return false;
+                    }
+                }
+
+                return true;
+            }
+
+            case SlotColor: {
+                ShortArray intArray = this._data.intArray;
+                ShortArray frameIntArray = this._data.frameIntArray;
+                int valueOffset = animation.frameIntOffset + frameValueOffset;
+                int colorOffset = frameIntArray.get(valueOffset);
+                for (int i = 1; i < frameCount; ++i) {
+                    int frameColorOffset = frameIntArray.get(valueOffset + i);
+                    if (frameColorOffset == colorOffset) {
+                        continue;
+                    }
+
+                    for (int j = 0; j < 8; ++j) {
+                        if (intArray.get(colorOffset + j) != intArray.get(frameColorOffset + j)) {
+                            return false;
+                        }
+                    }
+                }
+
+                return true;
+            }
+
+            default: // FFD timelines depend on the current mesh.
+                return false;
+        }
     }
 
     /**
@@ -923,8 +1370,8 @@ public class ObjectDataParser extends DataParser {
             return null;
         }
 
-        Array<Object> rawFrames = getArray(rawData, ObjectDataParser.FRAME);
-        int keyFrameCount = rawFrames.size();
+        Object rawFrames = get(rawData, ObjectDataParser.FRAME);
+        int keyFrameCount = this._getKeyFrameCount(rawFrames);
         if (keyFrameCount == 0) {
             return null;
         }
@@ -951,19 +1398,14 @@ public class ObjectDataParser extends DataParser {
         this._timeline = timeline;
 
         if (keyFrameCount == 1) { // Only one frame.
-            timeline.frameIndicesOffset = -1;
-            timelineArray.set(timeline.offset + BinaryOffset.TimelineFrameOffset.v + 0, frameParser.parse(rawFrames.get(0), 0, 0) - this._animation.frameOffset);
+            timelineArray.set(timeline.offset + BinaryOffset.TimelineFrameOffset.v + 0, frameParser.parse(this._readKeyFrame(rawFrames, 0), 0, 0) - this._animation.frameOffset);
         } else {
-            IntArray frameIndices = this._data.frameIndices;
             int totalFrameCount = this._animation.frameCount + 1; // One more frame than animation.
-            timeline.frameIndicesOffset = frameIndices.size();
-            frameIndices.incrementLength(totalFrameCount);
-
-            for (int i = 0, iK = 0, frameStart = 0, frameCount = 0; i < totalFrameCount; ++i) {
-                if (frameStart + frameCount <= i && iK < keyFrameCount) {
-                    Object rawFrame = rawFrames.get(iK);
+            for (int i = 0, iK = 0, frameStart = 0, frameCount = 0; i < totalFrameCount && iK < keyFrameCount; ++i) {
+                if (frameStart + frameCount <= i) {
+                    RawFrame rawFrame = this._readKeyFrame(rawFrames, iK);
                     frameStart = i;
-                    frameCount = getInt(rawFrame, ObjectDataParser.DURATION, 1);
+                    frameCount = rawFrame.duration;
                     if (iK == keyFrameCount - 1) {
                         frameCount = this._animation.frameCount - frameStart;
                     }
@@ -971,16 +1413,54 @@ public class ObjectDataParser extends DataParser {
                     timelineArray.set(timeline.offset + BinaryOffset.TimelineFrameOffset.v + iK, frameParser.parse(rawFrame, frameStart, frameCount) - this._animation.frameOffset);
                     iK++;
                 }
-
-                frameIndices.set(timeline.frameIndicesOffset + i, iK - 1);
             }
         }
 
+        this._data._buildFrameIndices(this._animation, timeline);
+
         this._timeline = null; //
 
         return timeline;
     }
 
+    /**
+     * @private
+     */
+    protected int _getKeyFrameCount(@Nullable Object rawFrames) {
+        if (rawFrames instanceof KeyFrames) {
+            return ((KeyFrames) rawFrames).count;
+        }
+
+        ArrayBase rawFrameArray = castArray(rawFrames);
+        return rawFrameArray != null ? rawFrameArray.size() : 0;
+    }
+
+    /**
+     * 读取关键帧，流式解析时关键帧必须按顺序读取。
+     *
+     * @private
+     */
+    protected RawFrame _readKeyFrame(Object rawFrames, int index) {
+        if (rawFrames instanceof KeyFrames) {
+            JSONReader reader = this._streamReader;
+            if (index == 0) {
+                reader.seek(((KeyFrames) rawFrames).offset);
+                reader.next(); // Begin array.
+            }
+
+            if (reader.next() == JSONReader.BEGIN_OBJECT) {
+                this._rawFrame.read(reader);
+            } else {
+                reader.skipValue();
+                this._rawFrame.read((Object) null);
+            }
+        } else {
+            this._rawFrame.read(castArray(rawFrames).get(index));
+        }
+
+        return this._rawFrame;
+    }
+
     /**
      * @private
      */
@@ -1037,7 +1517,7 @@ public class ObjectDataParser extends DataParser {
     /**
      * @private
      */
-    protected int _parseFrame(Object rawData, int frameStart, int frameCount, IntArray frameArray)
+    protected int _parseFrame(RawFrame rawFrame, int frameStart, int frameCount, IntArray frameArray)
 
     {
         int frameOffset = frameArray.size();
@@ -1050,16 +1530,16 @@ public class ObjectDataParser extends DataParser {
     /**
      * @private
      */
-    protected int _parseTweenFrame(Object rawData, int frameStart, int frameCount, IntArray frameArray)
+    protected int _parseTweenFrame(RawFrame rawFrame, int frameStart, int frameCount, IntArray frameArray)
 
     {
-        int frameOffset = this._parseFrame(rawData, frameStart, frameCount, frameArray);
+        int frameOffset = this._parseFrame(rawFrame, frameStart, frameCount, frameArray);
 
         if (frameCount > 0) {
-            if (in(rawData, ObjectDataParser.CURVE)) {
+            if (rawFrame.curve != null) {
                 int sampleCount = frameCount + 1;
                 this._helpArray.setLength(sampleCount);
-                this._samplingEasingCurve(getFloatArray(rawData, ObjectDataParser.CURVE), this._helpArray);
+                this._samplingEasingCurve(rawFrame.curve, this._helpArray);
 
                 frameArray.incrementLength(1 + 1 + this._helpArray.getLength());
                 frameArray.set(frameOffset + BinaryOffset.FrameTweenType.v, TweenType.Curve.v);
@@ -1070,8 +1550,8 @@ public class ObjectDataParser extends DataParser {
             } else {
                 float noTween = -2.0f;
                 float tweenEasing = noTween;
-                if (in(rawData, ObjectDataParser.TWEEN_EASING)) {
-                    tweenEasing = getFloat(rawData, ObjectDataParser.TWEEN_EASING, noTween);
+                if (rawFrame.hasTweenEasing) {
+                    tweenEasing = rawFrame.tweenEasing;
                 }
 
                 if (tweenEasing == noTween) {
@@ -1105,14 +1585,14 @@ public class ObjectDataParser extends DataParser {
     /**
      * @private
      */
-    protected int _parseZOrderFrame(Object rawData, int frameStart, int frameCount)
+    protected int _parseZOrderFrame(RawFrame rawFrame, int frameStart, int frameCount)
 
     {
         ShortArray frameArray = this._data.frameArray;
-        int frameOffset = this._parseFrame(rawData, frameStart, frameCount, frameArray);
+        int frameOffset = this._parseFrame(rawFrame, frameStart, frameCount, frameArray);
 
-        if (in(rawData, ObjectDataParser.Z_ORDER)) {
-            IntArray rawZOrder = getIntArray(rawData, ObjectDataParser.Z_ORDER);
+        if (rawFrame.zOrder != null) {
+            IntArray rawZOrder = rawFrame.zOrder;
             if (rawZOrder.length() > 0) {
                 int slotCount = this._armature.sortedSlots.length();
                 IntArray unchanged = new IntArray(slotCount - rawZOrder.length() / 2);
@@ -1164,16 +1644,16 @@ public class ObjectDataParser extends DataParser {
     /**
      * @private
      */
-    protected int _parseBoneFrame(Object rawData, int frameStart, int frameCount)
+    protected int _parseBoneFrame(RawFrame rawFrame, int frameStart, int frameCount)
 
     {
         FloatArray frameFloatArray = this._data.frameFloatArray;
         ShortArray frameArray = this._data.frameArray;
-        int frameOffset = this._parseTweenFrame(rawData, frameStart, frameCount, frameArray);
+        int frameOffset = this._parseTweenFrame(rawFrame, frameStart, frameCount, frameArray);
 
         this._helpTransform.identity();
-        if (in(rawData, ObjectDataParser.TRANSFORM)) {
-            this._parseTransform(get(rawData, ObjectDataParser.TRANSFORM), this._helpTransform, 1f);
+        if (rawFrame.hasTransform) {
+            rawFrame.getTransform(this._helpTransform);
         }
 
         // Modify rotation.
@@ -1190,7 +1670,7 @@ public class ObjectDataParser extends DataParser {
             }
         }
 
-        this._prevTweenRotate = getFloat(rawData, ObjectDataParser.TWEEN_ROTATE, 0f);
+        this._prevTweenRotate = rawFrame.tweenRotate;
         this._prevRotation = rotation;
 
         int frameFloatOffset = frameFloatArray.length();
@@ -1202,7 +1682,7 @@ public class ObjectDataParser extends DataParser {
         frameFloatArray.set(frameFloatOffset++, this._helpTransform.scaleX);
         frameFloatArray.set(frameFloatOffset++, this._helpTransform.scaleY);
 
-        this._parseActionDataInFrame(rawData, frameStart, this._bone, this._slot);
+        this._parseActionDataInFrame(rawFrame, frameStart, this._bone, this._slot);
 
         return frameOffset;
     }
@@ -1210,16 +1690,16 @@ public class ObjectDataParser extends DataParser {
     /**
      * @private
      */
-    protected int _parseSlotDisplayIndexFrame(Object rawData, int frameStart, int frameCount)
+    protected int _parseSlotDisplayIndexFrame(RawFrame rawFrame, int frameStart, int frameCount)
 
     {
         ShortArray frameArray = this._data.frameArray;
-        int frameOffset = this._parseFrame(rawData, frameStart, frameCount, frameArray);
+        int frameOffset = this._parseFrame(rawFrame, frameStart, frameCount, frameArray);
 
         frameArray.incrementLength(1);
-        frameArray.set(frameOffset + 1, getInt(rawData, ObjectDataParser.DISPLAY_INDEX, 0));
+        frameArray.set(frameOffset + 1, rawFrame.displayIndex);
 
-        this._parseActionDataInFrame(rawData, frameStart, this._slot.parent, this._slot);
+        this._parseActionDataInFrame(rawFrame, frameStart, this._slot.parent, this._slot);
 
         return frameOffset;
     }
@@ -1227,32 +1707,28 @@ public class ObjectDataParser extends DataParser {
     /**
      * @private
      */
-    protected int _parseSlotColorFrame(Object rawData, int frameStart, int frameCount)
+    protected int _parseSlotColorFrame(RawFrame rawFrame, int frameStart, int frameCount)
 
     {
         ShortArray intArray = this._data.intArray;
         ShortArray frameIntArray = this._data.frameIntArray;
         ShortArray frameArray = this._data.frameArray;
-        int frameOffset = this._parseTweenFrame(rawData, frameStart, frameCount, frameArray);
+        int frameOffset = this._parseTweenFrame(rawFrame, frameStart, frameCount, frameArray);
 
         int colorOffset = -1;
-        if (in(rawData, ObjectDataParser.COLOR)) {
-            Array rawColor = getArray(rawData, ObjectDataParser.COLOR);
-            for (int k = 0; k < rawColor.length(); k++) {
-                this._parseColorTransform(rawColor, this._helpColorTransform);
-                colorOffset = intArray.length();
-                intArray.incrementLength(8);
-                intArray.set(colorOffset++, (int) Math.round(this._helpColorTransform.alphaMultiplier * 100));
-                intArray.set(colorOffset++, (int) Math.round(this._helpColorTransform.redMultiplier * 100));
-                intArray.set(colorOffset++, (int) Math.round(this._helpColorTransform.greenMultiplier * 100));
-                intArray.set(colorOffset++, (int) Math.round(this._helpColorTransform.blueMultiplier * 100));
-                intArray.set(colorOffset++, Math.round(this._helpColorTransform.alphaOffset));
-                intArray.set(colorOffset++, Math.round(this._helpColorTransform.redOffset));
-                intArray.set(colorOffset++, Math.round(this._helpColorTransform.greenOffset));
-                intArray.set(colorOffset++, Math.round(this._helpColorTransform.blueOffset));
-                colorOffset -= 8;
-                break;
-            }
+        if (rawFrame.hasColor) {
+            rawFrame.getColorTransform(this._helpColorTransform);
+            colorOffset = intArray.length();
+            intArray.incrementLength(8);
+            intArray.set(colorOffset++, (int) Math.round(this._helpColorTransform.alphaMultiplier * 100));
+            intArray.set(colorOffset++, (int) Math.round(this._helpColorTransform.redMultiplier * 100));
+            intArray.set(colorOffset++, (int) Math.round(this._helpColorTransform.greenMultiplier * 100));
+            intArray.set(colorOffset++, (int) Math.round(this._helpColorTransform.blueMultiplier * 100));
+            intArray.set(colorOffset++, Math.round(this._helpColorTransform.alphaOffset));
+            intArray.set(colorOffset++, Math.round(this._helpColorTransform.redOffset));
+            intArray.set(colorOffset++, Math.round(this._helpColorTransform.greenOffset));
+            intArray.set(colorOffset++, Math.round(this._helpColorTransform.blueOffset));
+            colorOffset -= 8;
         }
 
         if (colorOffset < 0) {
@@ -1282,16 +1758,16 @@ public class ObjectDataParser extends DataParser {
     /**
      * @private
      */
-    protected int _parseSlotFFDFrame(Object rawData, int frameStart, int frameCount)
+    protected int _parseSlotFFDFrame(RawFrame rawFrame, int frameStart, int frameCount)
 
     {
-        IntArray intArray = this._data.intArray;
+        IntArray intArray = this._meshIntArray != null ? this._meshIntArray : this._data.intArray;
         FloatArray frameFloatArray = this._data.frameFloatArray;
         ShortArray frameArray = this._data.frameArray;
         int frameFloatOffset = frameFloatArray.length();
-        int frameOffset = this._parseTweenFrame(rawData, frameStart, frameCount, frameArray);
-        FloatArray rawVertices = in(rawData, ObjectDataParser.VERTICES) ? getFloatArray(rawData, ObjectDataParser.VERTICES) : null;
-        int offset = getInt(rawData, ObjectDataParser.OFFSET, 0); // uint
+        int frameOffset = this._parseTweenFrame(rawFrame, frameStart, frameCount, frameArray);
+        FloatArray rawVertices = rawFrame.vertices;
+        int offset = rawFrame.offset; // uint
         int vertexCount = intArray.get(this._mesh.offset + BinaryOffset.MeshVertexCount.v);
 
         float x = 0f;
@@ -1508,6 +1984,94 @@ public class ObjectDataParser extends DataParser {
         this._data.timelineArray = new CharArray();
     }
 
+    private static final int STREAM_VALUE = 0;
+    private static final int STREAM_ROOT = 1;
+    private static final int STREAM_ARMATURE = 2;
+    private static final int STREAM_ANIMATION = 3;
+    private static final int STREAM_TIMELINE = 4;
+    private static final int STREAM_KEY_FRAMES = 5;
+
+    private static int _getStreamContext(int context, JSONReader reader) {
+        switch (context) {
+            case STREAM_ROOT:
+                return reader.isString(ObjectDataParser.ARMATURE) ? STREAM_ARMATURE : STREAM_VALUE;
+
+            case STREAM_ARMATURE:
+                return reader.isString(ObjectDataParser.ANIMATION) ? STREAM_ANIMATION : STREAM_VALUE;
+
+            case STREAM_ANIMATION:
+                return reader.isString(ObjectDataParser.BONE) ||
+                        reader.isString(ObjectDataParser.SLOT) ||
+                        reader.isString(ObjectDataParser.FFD) ||
+                        reader.isString(ObjectDataParser.Z_ORDER) ? STREAM_TIMELINE : STREAM_VALUE;
+
+            case STREAM_TIMELINE:
+                return reader.isString(ObjectDataParser.FRAME) ? STREAM_KEY_FRAMES : STREAM_VALUE;
+
+            default:
+                return STREAM_VALUE;
+        }
+    }
+
+    /**
+     * 读取数据对象，时间轴的关键帧数组只记录位置，数字数组读取为 FloatArray。 (不能无损转换为 float 时读取为 Array)
+     */
+    @Nullable
+    private Object _readStreamValue(JSONReader reader, int token, int context) {
+        switch (token) {
+            case JSONReader.BEGIN_OBJECT: {
+                Map<String, Object> out = new HashMap<>();
+                while (reader.next() == JSONReader.NAME) {
+                    String key = reader.getString();
+                    int valueContext = ObjectDataParser._getStreamContext(context, reader);
+                    int valueOffset = reader.getOffset();
+                    int valueToken = reader.next();
+                    if (valueContext == STREAM_KEY_FRAMES && valueToken == JSONReader.BEGIN_ARRAY) {
+                        int count = 0;
+                        while (reader.next() != JSONReader.END_ARRAY) {
+                            reader.skipValue();
+                            count++;
+                        }
+
+                        out.put(key, new KeyFrames(valueOffset, count));
+                    } else {
+                        out.put(key, this._readStreamValue(reader, valueToken, valueContext));
+                    }
+                }
+
+                return out;
+            }
+
+            case JSONReader.BEGIN_ARRAY: {
+                FloatArray numbers = new FloatArray();
+                Array<Object> out = null;
+                while ((token = reader.next()) != JSONReader.END_ARRAY) {
+                    if (out == null) {
+                        if (token == JSONReader.NUMBER) {
+                            double value = reader.getDouble();
+                            if ((float) value == value) {
+                                numbers.push((float) value);
+                                continue;
+                            }
+                        }
+
+                        out = new Array<>();
+                        for (int i = 0, l = numbers.size(); i < l; ++i) {
+                            out.push((double) numbers.get(i));
+                        }
+                    }
+
+                    out.push(this._readStreamValue(reader, token, context));
+                }
+
+                return out != null ? out : numbers;
+            }
+
+            default:
+                return JSON.parseValue(reader, token);
+        }
+    }
+
     @Nullable
     public DragonBonesData parseDragonBonesDataInstance(@NotNull Object rawData) {
         return parseDragonBonesData(rawData, 1f);
@@ -1518,6 +2082,147 @@ public class ObjectDataParser extends DataParser {
      */
     @Nullable
     public DragonBonesData parseDragonBonesData(@NotNull Object rawData, float scale) {
+        if (rawData instanceof JSONReader) { // Read key frames from the JSON data while parsing timelines.
+            Object rawRoot = this._readRawData(rawData);
+            try {
+                return this.parseDragonBonesData(rawRoot, scale);
+            } finally {
+                this._streamReader = null;
+            }
+        }
+
+        DragonBonesData data = this._parseDragonBonesDataInfo(rawData);
+        if (data == null) {
+            return null;
+        }
+
+        if (in(rawData, ObjectDataParser.ARMATURE)) {
+            this._beginParseArmatures(data, rawData);
+
+            Array<Object> rawArmatures = getArray(rawData, ObjectDataParser.ARMATURE);
+            for (Object rawArmature : rawArmatures) {
+                data.addArmature(this._parseArmature(rawArmature, scale));
+            }
+
+            this._endParseArmatures(data);
+        }
+
+        this._prepareTextureAtlases(rawData);
+
+        return data;
+    }
+
+    /**
+     * 分步解析，每个骨架拆分为基本信息、每个皮肤、每个动画和动作等工作单元。 (延迟解析动画时在一个工作单元中解析骨架所有动画的基本信息，不使用解析动画的执行器)
+     *
+     * @inheritDoc
+     */
+    @Override
+    public DataParseTask createParseTask(Object rawData, float scale) {
+        DataParseTask task = new DataParseTask();
+        task._setFailCallback(this::_clearParseState);
+        task._addUnit(() -> {
+            Object rawRoot = this._readRawData(rawData);
+            DragonBonesData data = rawRoot != null ? this._parseDragonBonesDataInfo(rawRoot) : null;
+            if (data == null) {
+                this._streamReader = null;
+                return;
+            }
+
+            if (in(rawRoot, ObjectDataParser.ARMATURE)) {
+                this._beginParseArmatures(data, rawRoot);
+
+                int animationCount = 0;
+                Array<Object> rawArmatures = getArray(rawRoot, ObjectDataParser.ARMATURE);
+                for (Object rawArmature : rawArmatures) {
+                    task._addUnit(() -> this._parseArmatureInfo(rawArmature, scale));
+
+                    if (in(rawArmature, ObjectDataParser.SKIN)) {
+                        Array<Object> rawSkins = getArray(rawArmature, ObjectDataParser.SKIN);
+                        for (Object rawSkin : rawSkins) {
+                            task._addUnit(() -> this._armature.addSkin(this._parseSkin(rawSkin)));
+                        }
+                    }
+
+                    if (in(rawArmature, ObjectDataParser.ANIMATION)) {
+                        Array<Object> rawAnimations = getArray(rawArmature, ObjectDataParser.ANIMATION);
+                        animationCount += rawAnimations.size();
+                        if (this._parseLazyAnimationParsing) {
+                            task._addUnit(() -> this._parseArmatureAnimations(rawAnimations));
+                        } else {
+                            for (Object rawAnimation : rawAnimations) {
+                                task._addUnit(() -> this._armature.addAnimation(this._parseAnimation(rawAnimation)));
+                            }
+                        }
+                    }
+
+                    task._addUnit(() -> {
+                        ArmatureData armature = this._armature;
+                        this._parseArmatureActions(rawArmature);
+                        data.addArmature(armature);
+                    });
+                }
+
+                Array<AnimationData> animations = new Array<>();
+                task._addUnit(() -> { // Static timelines depend on the reduced key frames of all armatures.
+                    this._reduceKeyFrames(data);
+
+                    for (ArmatureData armature : data.armatures.values()) {
+                        for (AnimationData animation : armature.animations.values()) {
+                            animations.add(animation);
+                        }
+                    }
+                });
+
+                for (int i = 0; i < animationCount; ++i) { // Animations with the same name are replaced.
+                    int animationIndex = i;
+                    task._addUnit(() -> {
+                        if (animationIndex < animations.size()) {
+                            this._parseStaticTimelines(animations.get(animationIndex));
+                        }
+                    });
+                }
+            }
+
+            task._addUnit(() -> {
+                this._data = null;
+                this._streamReader = null;
+                this._prepareTextureAtlases(rawRoot);
+                task._setDragonBonesData(data);
+            });
+        });
+
+        return task;
+    }
+
+    /**
+     * 读取需要解析的数据对象。 (JSONReader 在这里读取数据对象，关键帧在解析时间轴时从 JSON 数据中读取)
+     *
+     * @private
+     */
+    @Nullable
+    protected Object _readRawData(Object rawData) {
+        if (rawData instanceof JSONReader) {
+            JSONReader reader = (JSONReader) rawData;
+            Object rawRoot = this._readStreamValue(reader, reader.next(), STREAM_ROOT);
+            if (reader.next() != JSONReader.END_DOCUMENT) {
+                throw new StrReader.ParseException("Unexpected content at " + reader.getOffset());
+            }
+
+            this._streamReader = reader;
+            return rawRoot;
+        }
+
+        return rawData;
+    }
+
+    /**
+     * 检查数据版本并解析龙骨数据的基本信息。 (不支持的版本返回 null)
+     *
+     * @private
+     */
+    @Nullable
+    protected DragonBonesData _parseDragonBonesDataInfo(Object rawData) {
         String version = getString(rawData, ObjectDataParser.VERSION, "");
         String compatibleVersion = getString(rawData, ObjectDataParser.COMPATIBLE_VERSION, "");
 
@@ -1534,38 +2239,208 @@ public class ObjectDataParser extends DataParser {
                 data.frameRate = 24;
             }
 
-            if (in(rawData, ObjectDataParser.ARMATURE)) {
-                this._defalultColorOffset = -1;
-                this._data = data;
+            return data;
+        } else {
+            Console._assert(false, "Nonsupport data version.");
+        }
 
-                this._parseArray(rawData);
+        return null;
+    }
 
-                Array<Object> rawArmatures = getArray(rawData, ObjectDataParser.ARMATURE);
-                for (Object rawArmature : rawArmatures) {
-                    data.addArmature(this._parseArmature(rawArmature, scale));
-                }
+    /**
+     * @private
+     */
+    protected void _beginParseArmatures(DragonBonesData data, Object rawData) {
+        this._parseKeyFrameTolerance = this._keyFrameTolerance;
+        this._parseCompactFrameIndices = this._compactFrameIndices;
+        this._parseLazyAnimationParsing = this._lazyAnimationParsing;
+        this._keyFrameReducer = this._parseKeyFrameTolerance > 0f ? new KeyFrameReducer(this._parseKeyFrameTolerance) : null;
+        this._defalultColorOffset = -1;
+        this._data = data;
+
+        this._parseArray(rawData);
+    }
 
-                if (this._intArrayJson.length() > 0) {
-                    //this._parseWASMArray();
-                    throw new RuntimeException("this._parseWASMArray() not ported");
-                }
+    /**
+     * 所有骨架解析完成后精简关键帧并解析静态时间轴。
+     *
+     * @private
+     */
+    protected void _endParseArmatures(DragonBonesData data) {
+        this._reduceKeyFrames(data);
 
-                this._data = null;
+        for (ArmatureData armature : data.armatures.values()) {
+            for (AnimationData animation : armature.animations.values()) {
+                this._parseStaticTimelines(animation);
             }
+        }
 
-            this._rawTextureAtlasIndex = 0;
-            if (in(rawData, ObjectDataParser.TEXTURE_ATLAS)) {
-                this._rawTextureAtlases = getArray(rawData, ObjectDataParser.TEXTURE_ATLAS);
-            } else {
-                this._rawTextureAtlases = null;
-            }
+        this._data = null;
+    }
 
-            return data;
+    /**
+     * 按设置精简关键帧并共享帧索引。
+     *
+     * @private
+     */
+    protected void _reduceKeyFrames(DragonBonesData data) {
+        if (this._keyFrameReducer != null) {
+            this._keyFrameReducer.reduce(data);
+        }
+
+        if (this._parseCompactFrameIndices) {
+            data.setCompactFrameIndices(true);
+        }
+
+        if (this._intArrayJson.length() > 0) {
+            //this._parseWASMArray();
+            throw new RuntimeException("this._parseWASMArray() not ported");
+        }
+    }
+
+    /**
+     * @private
+     */
+    protected void _prepareTextureAtlases(Object rawData) {
+        this._rawTextureAtlasIndex = 0;
+        if (in(rawData, ObjectDataParser.TEXTURE_ATLAS)) {
+            this._rawTextureAtlases = getArray(rawData, ObjectDataParser.TEXTURE_ATLAS);
         } else {
-            Console._assert(false, "Nonsupport data version.");
+            this._rawTextureAtlases = null;
         }
+    }
 
-        return null;
+    /**
+     * 分步解析失败后清理解析状态，以便继续使用解析器。
+     */
+    private void _clearParseState() {
+        this._data = null;
+        this._armature = null;
+        this._animation = null;
+        this._timeline = null;
+        this._streamReader = null;
+        this._rawBones.clear();
+        this._meshs.clear();
+        this._cacheBones.clear();
+        this._slotChildActions.clear();
+        this._weightSlotPose.clear();
+        this._weightBonePoses.clear();
+        this._weightBoneIndices.clear();
+    }
+
+    /**
+     * 设置解析动画的执行器，骨架中有多个动画时在执行器中同时解析。 (默认为 null，在解析线程中依次解析)
+     * 使用自定义解析器时，并行解析的动画由 ObjectDataParser 解析。
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public void setAnimationExecutor(@Nullable Executor executor) {
+        this._animationExecutor = executor;
+    }
+
+    /**
+     * 解析动画的执行器。
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see #setAnimationExecutor(Executor)
+     */
+    @Nullable
+    public Executor getAnimationExecutor() {
+        return this._animationExecutor;
+    }
+
+    /**
+     * 设置解析数据时精简关键帧允许的最大误差。 (默认为 0，不精简)
+     * 解析选项在开始解析骨架时读取，解析过程中修改的设置从下一次解析开始生效。
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see KeyFrameReducer
+     */
+    public void setKeyFrameTolerance(float value) {
+        this._keyFrameTolerance = value;
+    }
+
+    /**
+     * 解析数据时精简关键帧允许的最大误差。
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see #setKeyFrameTolerance(float)
+     */
+    public float getKeyFrameTolerance() {
+        return this._keyFrameTolerance;
+    }
+
+    /**
+     * 设置解析数据时是否使用紧凑帧索引。 (默认为 false)
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see DragonBonesData#setCompactFrameIndices(boolean)
+     */
+    public void setCompactFrameIndices(boolean value) {
+        this._compactFrameIndices = value;
+    }
+
+    /**
+     * 解析数据时是否使用紧凑帧索引。
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see #setCompactFrameIndices(boolean)
+     */
+    public boolean isCompactFrameIndices() {
+        return this._compactFrameIndices;
+    }
+
+    /**
+     * 设置解析 JSON 数据时是否延迟解析动画的时间轴，第一次播放或预加载动画时再解析。 (默认为 false，保留动画的原始数据)
+     * 延迟解析的动画追加到正在播放的动画读取的数据数组中，所以只能在更新动画的线程中播放或预加载，其他线程可以使用 {@link DragonBones#commitLater(Runnable)}。
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see AnimationData#preload()
+     */
+    public void setLazyAnimationParsing(boolean value) {
+        this._lazyAnimationParsing = value;
+    }
+
+    /**
+     * 解析 JSON 数据时是否延迟解析动画的时间轴。
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see #setLazyAnimationParsing(boolean)
+     */
+    public boolean isLazyAnimationParsing() {
+        return this._lazyAnimationParsing;
+    }
+
+    /**
+     * 复制另一个解析器的解析选项。
+     *
+     * @internal
+     * @private
+     */
+    public void _copyOptions(ObjectDataParser parser) {
+        this._keyFrameTolerance = parser._keyFrameTolerance;
+        this._compactFrameIndices = parser._compactFrameIndices;
+        this._lazyAnimationParsing = parser._lazyAnimationParsing;
+    }
+
+    /**
+     * 上一次解析数据时的关键帧精简结果。 (未精简时为 null，包括之后解析的延迟解析的动画)
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see #setKeyFrameTolerance(float)
+     */
+    @Nullable
+    public KeyFrameReducer getKeyFrameReducer() {
+        return this._keyFrameReducer;
     }
 
     public boolean parseTextureAtlasData(Object rawData, TextureAtlasData textureAtlasData) {
@@ -1637,17 +2512,15 @@ public class ObjectDataParser extends DataParser {
     /**
      * @private
      */
-    private static ObjectDataParser _objectDataParserInstance = null;
+    private static final ThreadLocal<ObjectDataParser> _objectDataParserInstance = ThreadLocal.withInitial(ObjectDataParser::new);
 
     /**
+     * 解析器保存了解析过程中的状态，每个线程使用各自的实例。
+     *
      * @see BaseFactory#parseDragonBonesData(Object, String, float)
      * @deprecated Obsolete, please refer to @see
      */
     public static ObjectDataParser getInstance() {
-        if (ObjectDataParser._objectDataParserInstance == null) {
-            ObjectDataParser._objectDataParserInstance = new ObjectDataParser();
-        }
-
-        return ObjectDataParser._objectDataParserInstance;
+        return ObjectDataParser._objectDataParserInstance.get();
     }
 }
@@ -0,0 +1,375 @@
+package com.dragonbones.parser;
+
+import com.dragonbones.geom.ColorTransform;
+import com.dragonbones.geom.Transform;
+import com.dragonbones.util.FloatArray;
+import com.dragonbones.util.IntArray;
+import com.dragonbones.util.json.JSON;
+import com.dragonbones.util.json.JSONReader;
+import org.jetbrains.annotations.Nullable;
+
+import static com.dragonbones.util.Dynamic.*;
+
+/**
+ * 关键帧的原始数据，可以从数据对象或 JSONReader 中读取，关键帧的解析不依赖键的顺序。
+ */
+class RawFrame {
+    public int duration;
+    public boolean hasTweenEasing;
+    public float tweenEasing;
+    @Nullable
+    public FloatArray curve;
+    public boolean hasTransform;
+    private float _x;
+    private float _y;
+    private boolean _hasRotate;
+    private float _rotate;
+    private boolean _hasSkew;
+    private float _skew;
+    private boolean _hasSkewX;
+    private float _skewX;
+    private boolean _hasSkewY;
+    private float _skewY;
+    private float _scaleX;
+    private float _scaleY;
+    public float tweenRotate;
+    public int displayIndex;
+    public boolean hasColor;
+    private float _alphaMultiplier;
+    private float _redMultiplier;
+    private float _greenMultiplier;
+    private float _blueMultiplier;
+    private int _alphaOffset;
+    private int _redOffset;
+    private int _greenOffset;
+    private int _blueOffset;
+    @Nullable
+    public FloatArray vertices;
+    public int offset;
+    @Nullable
+    public IntArray zOrder;
+    @Nullable
+    public Object event;
+    @Nullable
+    public Object sound;
+    @Nullable
+    public Object action;
+    @Nullable
+    public Object events;
+    @Nullable
+    public Object actions;
+    private final FloatArray _curveBuffer = new FloatArray();
+    private final FloatArray _verticesBuffer = new FloatArray();
+    private final IntArray _zOrderBuffer = new IntArray();
+
+    private void _clear() {
+        this.duration = 1;
+        this.hasTweenEasing = false;
+        this.tweenEasing = 0f;
+        this.curve = null;
+        this.hasTransform = false;
+        this._x = 0f;
+        this._y = 0f;
+        this._hasRotate = false;
+        this._rotate = 0f;
+        this._hasSkew = false;
+        this._skew = 0f;
+        this._hasSkewX = false;
+        this._skewX = 0f;
+        this._hasSkewY = false;
+        this._skewY = 0f;
+        this._scaleX = 1f;
+        this._scaleY = 1f;
+        this.tweenRotate = 0f;
+        this.displayIndex = 0;
+        this.hasColor = false;
+        this._alphaMultiplier = 100f;
+        this._redMultiplier = 100f;
+        this._greenMultiplier = 100f;
+        this._blueMultiplier = 100f;
+        this._alphaOffset = 0;
+        this._redOffset = 0;
+        this._greenOffset = 0;
+        this._blueOffset = 0;
+        this.vertices = null;
+        this.offset = 0;
+        this.zOrder = null;
+        this.event = null;
+        this.sound = null;
+        this.action = null;
+        this.events = null;
+        this.actions = null;
+    }
+
+    public void read(Object rawData) {
+        this._clear();
+
+        this.duration = getInt(rawData, DataParser.DURATION, 1);
+        this.hasTweenEasing = in(rawData, DataParser.TWEEN_EASING);
+        this.tweenEasing = getFloat(rawData, DataParser.TWEEN_EASING, -2f);
+        this.curve = in(rawData, DataParser.CURVE) ? getFloatArray(rawData, DataParser.CURVE) : null;
+
+        if (in(rawData, DataParser.TRANSFORM)) {
+            Object rawTransform = get(rawData, DataParser.TRANSFORM);
+            this.hasTransform = true;
+            this._x = getFloat(rawTransform, DataParser.X, 0f);
+            this._y = getFloat(rawTransform, DataParser.Y, 0f);
+            this._hasRotate = in(rawTransform, DataParser.ROTATE);
+            this._rotate = getFloat(rawTransform, DataParser.ROTATE, 0f);
+            this._hasSkew = in(rawTransform, DataParser.SKEW);
+            this._skew = getFloat(rawTransform, DataParser.SKEW, 0f);
+            this._hasSkewX = in(rawTransform, DataParser.SKEW_X);
+            this._skewX = getFloat(rawTransform, DataParser.SKEW_X, 0f);
+            this._hasSkewY = in(rawTransform, DataParser.SKEW_Y);
+            this._skewY = getFloat(rawTransform, DataParser.SKEW_Y, 0f);
+            this._scaleX = getFloat(rawTransform, DataParser.SCALE_X, 1f);
+            this._scaleY = getFloat(rawTransform, DataParser.SCALE_Y, 1f);
+        }
+
+        this.tweenRotate = getFloat(rawData, DataParser.TWEEN_ROTATE, 0f);
+        this.displayIndex = getInt(rawData, DataParser.DISPLAY_INDEX, 0);
+
+        if (in(rawData, DataParser.COLOR)) {
+            Object rawColor = get(rawData, DataParser.COLOR);
+            this.hasColor = true;
+            this._alphaMultiplier = getFloat(rawColor, DataParser.ALPHA_MULTIPLIER, 100);
+            this._redMultiplier = getFloat(rawColor, DataParser.RED_MULTIPLIER, 100);
+            this._greenMultiplier = getFloat(rawColor, DataParser.GREEN_MULTIPLIER, 100);
+            this._blueMultiplier = getFloat(rawColor, DataParser.BLUE_MULTIPLIER, 100);
+            this._alphaOffset = getInt(rawColor, DataParser.ALPHA_OFFSET, 0);
+            this._redOffset = getInt(rawColor, DataParser.RED_OFFSET, 0);
+            this._greenOffset = getInt(rawColor, DataParser.GREEN_OFFSET, 0);
+            this._blueOffset = getInt(rawColor, DataParser.BLUE_OFFSET, 0);
+        }
+
+        this.vertices = in(rawData, DataParser.VERTICES) ? getFloatArray(rawData, DataParser.VERTICES) : null;
+        this.offset = getInt(rawData, DataParser.OFFSET, 0);
+        this.zOrder = in(rawData, DataParser.Z_ORDER) ? getIntArray(rawData, DataParser.Z_ORDER) : null;
+        this.event = get(rawData, DataParser.EVENT);
+        this.sound = get(rawData, DataParser.SOUND);
+        this.action = get(rawData, DataParser.ACTION);
+        this.events = get(rawData, DataParser.EVENTS);
+        this.actions = get(rawData, DataParser.ACTIONS);
+    }
+
+    /**
+     * 读取关键帧对象。 (当前标记是 {@link JSONReader#BEGIN_OBJECT})
+     */
+    public void read(JSONReader reader) {
+        this._clear();
+
+        while (reader.next() == JSONReader.NAME) {
+            if (reader.isString(DataParser.DURATION)) {
+                this.duration = (int) RawFrame._readNumber(reader, 1.0);
+            } else if (reader.isString(DataParser.TWEEN_EASING)) {
+                this.hasTweenEasing = reader.next() != JSONReader.NULL;
+                this.tweenEasing = (float) RawFrame._getNumber(reader, -2.0);
+            } else if (reader.isString(DataParser.CURVE)) {
+                this.curve = RawFrame._readFloatArray(reader, this._curveBuffer);
+            } else if (reader.isString(DataParser.TRANSFORM)) {
+                this._readTransform(reader);
+            } else if (reader.isString(DataParser.TWEEN_ROTATE)) {
+                this.tweenRotate = (float) RawFrame._readNumber(reader, 0.0);
+            } else if (reader.isString(DataParser.DISPLAY_INDEX)) {
+                this.displayIndex = (int) RawFrame._readNumber(reader, 0.0);
+            } else if (reader.isString(DataParser.COLOR)) {
+                this._readColor(reader);
+            } else if (reader.isString(DataParser.VERTICES)) {
+                this.vertices = RawFrame._readFloatArray(reader, this._verticesBuffer);
+            } else if (reader.isString(DataParser.OFFSET)) {
+                this.offset = (int) RawFrame._readNumber(reader, 0.0);
+            } else if (reader.isString(DataParser.Z_ORDER)) {
+                this.zOrder = RawFrame._readIntArray(reader, this._zOrderBuffer);
+            } else if (reader.isString(DataParser.EVENT)) {
+                this.event = JSON.parseValue(reader, reader.next());
+            } else if (reader.isString(DataParser.SOUND)) {
+                this.sound = JSON.parseValue(reader, reader.next());
+            } else if (reader.isString(DataParser.ACTION)) {
+                this.action = JSON.parseValue(reader, reader.next());
+            } else if (reader.isString(DataParser.EVENTS)) {
+                this.events = JSON.parseValue(reader, reader.next());
+            } else if (reader.isString(DataParser.ACTIONS)) {
+                this.actions = JSON.parseValue(reader, reader.next());
+            } else {
+                reader.skipValue();
+            }
+        }
+    }
+
+    private void _readTransform(JSONReader reader) {
+        if (reader.next() == JSONReader.NULL) {
+            return;
+        }
+
+        this.hasTransform = true;
+        if (reader.getToken() != JSONReader.BEGIN_OBJECT) {
+            reader.skipValue();
+            return;
+        }
+
+        while (reader.next() == JSONReader.NAME) {
+            if (reader.isString(DataParser.X)) {
+                this._x = (float) RawFrame._readNumber(reader, 0.0);
+            } else if (reader.isString(DataParser.Y)) {
+                this._y = (float) RawFrame._readNumber(reader, 0.0);
+            } else if (reader.isString(DataParser.ROTATE)) {
+                this._hasRotate = reader.next() != JSONReader.NULL;
+                this._rotate = (float) RawFrame._getNumber(reader, 0.0);
+            } else if (reader.isString(DataParser.SKEW)) {
+                this._hasSkew = reader.next() != JSONReader.NULL;
+                this._skew = (float) RawFrame._getNumber(reader, 0.0);
+            } else if (reader.isString(DataParser.SKEW_X)) {
+                this._hasSkewX = reader.next() != JSONReader.NULL;
+                this._skewX = (float) RawFrame._getNumber(reader, 0.0);
+            } else if (reader.isString(DataParser.SKEW_Y)) {
+                this._hasSkewY = reader.next() != JSONReader.NULL;
+                this._skewY = (float) RawFrame._getNumber(reader, 0.0);
+            } else if (reader.isString(DataParser.SCALE_X)) {
+                this._scaleX = (float) RawFrame._readNumber(reader, 1.0);
+            } else if (reader.isString(DataParser.SCALE_Y)) {
+                this._scaleY = (float) RawFrame._readNumber(reader, 1.0);
+            } else {
+                reader.skipValue();
+            }
+        }
+    }
+
+    private void _readColor(JSONReader reader) {
+        if (reader.next() == JSONReader.NULL) {
+            return;
+        }
+
+        this.hasColor = true;
+        if (reader.getToken() != JSONReader.BEGIN_OBJECT) {
+            reader.skipValue();
+            return;
+        }
+
+        while (reader.next() == JSONReader.NAME) {
+            if (reader.isString(DataParser.ALPHA_MULTIPLIER)) {
+                this._alphaMultiplier = (float) RawFrame._readNumber(reader, 100.0);
+            } else if (reader.isString(DataParser.RED_MULTIPLIER)) {
+                this._redMultiplier = (float) RawFrame._readNumber(reader, 100.0);
+            } else if (reader.isString(DataParser.GREEN_MULTIPLIER)) {
+                this._greenMultiplier = (float) RawFrame._readNumber(reader, 100.0);
+            } else if (reader.isString(DataParser.BLUE_MULTIPLIER)) {
+                this._blueMultiplier = (float) RawFrame._readNumber(reader, 100.0);
+            } else if (reader.isString(DataParser.ALPHA_OFFSET)) {
+                this._alphaOffset = (int) RawFrame._readNumber(reader, 0.0);
+            } else if (reader.isString(DataParser.RED_OFFSET)) {
+                this._redOffset = (int) RawFrame._readNumber(reader, 0.0);
+            } else if (reader.isString(DataParser.GREEN_OFFSET)) {
+                this._greenOffset = (int) RawFrame._readNumber(reader, 0.0);
+            } else if (reader.isString(DataParser.BLUE_OFFSET)) {
+                this._blueOffset = (int) RawFrame._readNumber(reader, 0.0);
+            } else {
+                reader.skipValue();
+            }
+        }
+    }
+
+    private static double _readNumber(JSONReader reader, double defaultValue) {
+        reader.next();
+        return RawFrame._getNumber(reader, defaultValue);
+    }
+
+    /**
+     * 与 {@link com.dragonbones.util.Dynamic#castDouble(Object, double)} 相同的转换规则。
+     */
+    private static double _getNumber(JSONReader reader, double defaultValue) {
+        switch (reader.getToken()) {
+            case JSONReader.NUMBER:
+                return reader.getDouble();
+
+            case JSONReader.TRUE:
+                return 1.0;
+
+            case JSONReader.FALSE:
+                return 0.0;
+
+            case JSONReader.STRING:
+                try {
+                    return Double.parseDouble(reader.getString());
+                } catch (NumberFormatException e) {
+                    return defaultValue;
+                }
+
+            case JSONReader.BEGIN_OBJECT:
+            case JSONReader.BEGIN_ARRAY:
+                reader.skipValue();
+                return defaultValue;
+
+            default:
+                return defaultValue;
+        }
+    }
+
+    @Nullable
+    private static FloatArray _readFloatArray(JSONReader reader, FloatArray buffer) {
+        if (reader.next() != JSONReader.BEGIN_ARRAY) {
+            if (reader.getToken() == JSONReader.BEGIN_OBJECT) {
+                reader.skipValue();
+            }
+
+            return null;
+        }
+
+        buffer.clear();
+        while (reader.next() != JSONReader.END_ARRAY) {
+            buffer.push((float) RawFrame._getNumber(reader, 0.0));
+        }
+
+        return buffer;
+    }
+
+    @Nullable
+    private static IntArray _readIntArray(JSONReader reader, IntArray buffer) {
+        if (reader.next() != JSONReader.BEGIN_ARRAY) {
+            if (reader.getToken() == JSONReader.BEGIN_OBJECT) {
+                reader.skipValue();
+            }
+
+            return null;
+        }
+
+        buffer.clear();
+        while (reader.next() != JSONReader.END_ARRAY) {
+            buffer.push((int) RawFrame._getNumber(reader, 0.0));
+        }
+
+        return buffer;
+    }
+
+    /**
+     * @see ObjectDataParser#_parseTransform(Object, Transform, float)
+     */
+    public void getTransform(Transform transform) {
+        transform.x = this._x;
+        transform.y = this._y;
+
+        if (this._hasRotate || this._hasSkew) {
+            transform.rotation = Transform.normalizeRadian(this._rotate * Transform.DEG_RAD);
+            transform.skew = Transform.normalizeRadian(this._skew * Transform.DEG_RAD);
+        } else if (this._hasSkewX || this._hasSkewY) {
+            transform.rotation = Transform.normalizeRadian(this._skewY * Transform.DEG_RAD);
+            transform.skew = Transform.normalizeRadian(this._skewX * Transform.DEG_RAD) - transform.rotation;
+        }
+
+        transform.scaleX = this._scaleX;
+        transform.scaleY = this._scaleY;
+    }
+
+    /**
+     * @see ObjectDataParser#_parseColorTransform(Object, ColorTransform)
+     */
+    public void getColorTransform(ColorTransform color) {
+        color.alphaMultiplier = this._alphaMultiplier * 0.01f;
+        color.redMultiplier = this._redMultiplier * 0.01f;
+        color.greenMultiplier = this._greenMultiplier * 0.01f;
+        color.blueMultiplier = this._blueMultiplier * 0.01f;
+        color.alphaOffset = this._alphaOffset;
+        color.redOffset = this._redOffset;
+        color.greenOffset = this._greenOffset;
+        color.blueOffset = this._blueOffset;
+    }
+}
@@ -69,6 +69,10 @@ final public class Array<T> extends ArrayBase<T> {
 
     @Override
     public void setLength(int length) {
+        if (length < this.length) { // Removed elements must not reappear when the length grows again.
+            Arrays.fill(data, length, this.length, null);
+        }
+
         this.length = length;
         ensureCapacity(length);
     }
@@ -33,7 +33,10 @@ public class Dynamic {
     }
 
     static public IntArray getIntArray(Object rawData, String key) {
-        Object obj = get(rawData, key);
+        return castIntArray(get(rawData, key));
+    }
+
+    static public IntArray castIntArray(Object obj) {
         if (obj instanceof IntArray) {
             return (IntArray) obj;
         } else if (obj instanceof Iterable) {
@@ -63,6 +63,15 @@ public class FloatArray extends NumberArray<Float> {
         data[pos] = value;
     }
 
+    public void append(FloatArray values) {
+        int pos = getLength();
+        int count = values.getLength();
+        setLength(pos + count);
+        for (int i = 0; i < count; i++) {
+            data[pos + i] = values.get(i);
+        }
+    }
+
     @Override
     public int getLength() {
         return length;
@@ -63,6 +63,15 @@ public class IntArray extends NumberArray<Integer> {
         data[pos] = value;
     }
 
+    public void append(IntArray values) {
+        int pos = getLength();
+        int count = values.getLength();
+        setLength(pos + count);
+        for (int i = 0; i < count; i++) {
+            data[pos + i] = values.get(i);
+        }
+    }
+
     @Override
     public int getLength() {
         return length;
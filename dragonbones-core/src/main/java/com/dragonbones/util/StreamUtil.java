@@ -8,7 +8,7 @@ import java.nio.charset.Charset;
 
 public class StreamUtil {
     static public byte[] readAll(InputStream s) {
-        byte[] temp = new byte[1024];
+        byte[] temp = new byte[64 * 1024];
         ByteArrayOutputStream os = new ByteArrayOutputStream();
         try {
             while (true) {
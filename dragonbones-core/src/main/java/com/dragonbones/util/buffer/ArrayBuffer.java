@@ -1,21 +1,64 @@
 package com.dragonbones.util.buffer;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 public class ArrayBuffer {
     public ByteBuffer data;
 
     public ArrayBuffer(byte[] data) {
-        this.data = ByteBuffer.wrap(data).order(ByteOrder.nativeOrder());
+        this(ByteBuffer.wrap(data));
     }
 
     public ArrayBuffer(int length) {
-        this.data = ByteBuffer.allocate(length).order(ByteOrder.nativeOrder());
+        this(ByteBuffer.allocate(length));
+    }
+
+    /**
+     * 使用已有的缓冲区，例如直接缓冲区或文件映射缓冲区。 (DBBin 数据是小端字节序)
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public ArrayBuffer(ByteBuffer data) {
+        this.data = data.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * 将文件以只读方式映射到内存，数据不复制到堆中，多个进程可以共享系统的页面缓存。
+     * 第一次修改数据时 (例如精简关键帧) 才将数据复制到堆中，修改不会写回文件。
+     *
+     * @param path 文件路径，例如 DBBin 文件。
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public static ArrayBuffer map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new ArrayBuffer(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public int getByteLength() {
+        return data.limit();
+    }
+
+    private void _ensureWritable() {
+        if (data.isReadOnly()) {
+            ByteBuffer source = data.duplicate();
+            source.clear();
+            ByteBuffer copy = ByteBuffer.allocate(source.remaining());
+            copy.put(source);
+            copy.clear();
+            data = copy.order(ByteOrder.LITTLE_ENDIAN);
+        }
     }
 
     public int getU8(int i) {
-        return data.get(i);
+        return data.get(i) & 0xFF;
     }
 
     public int getU32(int i) {
@@ -35,22 +78,49 @@ public class ArrayBuffer {
     }
 
     public void setS16(int i, int v) {
+        _ensureWritable();
         data.putShort(i, (short) v);
     }
 
     public void setF32(int i, float value) {
+        _ensureWritable();
         data.putFloat(i, value);
     }
 
     public void setU16(int i, int value) {
+        _ensureWritable();
         data.putChar(i, (char)value);
     }
 
-    public byte[] getBytes(int i, int count) {
-        byte[] bytes = new byte[count];
+    public int[] getS16Array(int i, int count) {
+        int[] values = new int[count];
+        for (int n = 0; n < count; n++) {
+            values[n] = data.getShort(i + n * 2);
+        }
+        return values;
+    }
+
+    public int[] getU16Array(int i, int count) {
+        int[] values = new int[count];
         for (int n = 0; n < count; n++) {
-            bytes[n] = (byte) getU8(i + n);
+            values[n] = data.getChar(i + n * 2);
         }
+        return values;
+    }
+
+    public float[] getF32Array(int i, int count) {
+        float[] values = new float[count];
+        ByteBuffer view = data.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        view.position(i);
+        view.asFloatBuffer().get(values);
+        return values;
+    }
+
+    public byte[] getBytes(int i, int count) {
+        byte[] bytes = new byte[count];
+        ByteBuffer view = data.duplicate(); // Keep the shared position untouched.
+        view.position(i);
+        view.get(bytes, 0, count);
         return bytes;
     }
 }
@@ -14,7 +14,16 @@ public class Float32Array extends FloatArray {
         this.buffer = buffer;
         this.offset = offset;
         this.count = count;
-        this.byteOffset = offset * BYTES_PER_ELEMENT;
+        this.byteOffset = offset; // Byte offset, same as the typed arrays in JavaScript.
+    }
+
+    @Override
+    public int getLength() {
+        return count;
+    }
+
+    @Override
+    public void setLength(int length) {
     }
 
     public float get(int index) {
@@ -24,4 +33,11 @@ public class Float32Array extends FloatArray {
     public void set(int index, float value) {
         buffer.setF32(byteOffset + index * BYTES_PER_ELEMENT, value);
     }
+
+    /**
+     * 复制为普通数组。
+     */
+    public FloatArray copy() {
+        return new FloatArray(buffer.getF32Array(byteOffset, count));
+    }
 }
@@ -14,7 +14,16 @@ public class Int16Array extends ShortArray implements ArrayBufferView {
         this.buffer = buffer;
         this.offset = offset;
         this.count = count;
-        this.byteOffset = offset * BYTES_PER_ELEMENT;
+        this.byteOffset = offset; // Byte offset, same as the typed arrays in JavaScript.
+    }
+
+    @Override
+    public int getLength() {
+        return count;
+    }
+
+    @Override
+    public void setLength(int length) {
     }
 
     public int get(int index) {
@@ -25,4 +34,11 @@ public class Int16Array extends ShortArray implements ArrayBufferView {
     public void set(int i, int v) {
         buffer.setS16(byteOffset + i * BYTES_PER_ELEMENT, v);
     }
+
+    /**
+     * 复制为普通数组。
+     */
+    public ShortArray copy() {
+        return new ShortArray(buffer.getS16Array(byteOffset, count));
+    }
 }
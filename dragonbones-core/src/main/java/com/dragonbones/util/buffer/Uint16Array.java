@@ -14,7 +14,7 @@ public class Uint16Array extends CharArray implements ArrayBufferView {
         this.buffer = buffer;
         this.offset = offset;
         this.count = count;
-        this.byteOffset = offset * BYTES_PER_ELEMENT;
+        this.byteOffset = offset; // Byte offset, same as the typed arrays in JavaScript.
     }
 
     @Override
@@ -34,4 +34,11 @@ public class Uint16Array extends CharArray implements ArrayBufferView {
     public void set(int index, int value) {
         buffer.setU16(byteOffset + index * BYTES_PER_ELEMENT, value);
     }
+
+    /**
+     * 复制为普通数组。
+     */
+    public CharArray copy() {
+        return new CharArray(buffer.getU16Array(byteOffset, count));
+    }
 }
@@ -14,7 +14,16 @@ public class Uint32Array extends IntArray implements ArrayBufferView {
         this.buffer = buffer;
         this.offset = offset;
         this.count = count;
-        this.byteOffset = offset * BYTES_PER_ELEMENT;
+        this.byteOffset = offset; // Byte offset, same as the typed arrays in JavaScript.
+    }
+
+    @Override
+    public int getLength() {
+        return count;
+    }
+
+    @Override
+    public void setLength(int length) {
     }
 
     public int get(int index) {
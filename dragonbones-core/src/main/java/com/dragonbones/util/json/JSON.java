@@ -1,14 +1,80 @@
 package com.dragonbones.util.json;
 
 import com.dragonbones.util.Array;
+import com.dragonbones.util.ArrayBase;
 import com.dragonbones.util.StrReader;
 
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 public class JSON {
     static public Object parse(String json) {
-        return parse(new StrReader(json));
+        return parse(new JSONReader(json));
+    }
+
+    static public Object parse(char[] json) {
+        return parse(new JSONReader(json));
+    }
+
+    /**
+     * @param json UTF-8 编码的数据。
+     */
+    static public Object parse(byte[] json) {
+        return parse(new JSONReader(json));
+    }
+
+    static public Object parse(JSONReader reader) {
+        Object value = parseValue(reader, reader.next());
+        if (reader.next() != JSONReader.END_DOCUMENT) {
+            throw new StrReader.ParseException("Unexpected content at " + reader.getOffset());
+        }
+
+        return value;
+    }
+
+    /**
+     * 读取以指定标记开始的值。
+     */
+    static public Object parseValue(JSONReader reader, int token) {
+        switch (token) {
+            case JSONReader.BEGIN_OBJECT: {
+                HashMap<String, Object> out = new HashMap<>();
+                while ((token = reader.next()) == JSONReader.NAME) {
+                    String key = reader.getString();
+                    out.put(key, parseValue(reader, reader.next()));
+                }
+
+                return out;
+            }
+
+            case JSONReader.BEGIN_ARRAY: {
+                Array<Object> out = new Array<>();
+                while ((token = reader.next()) != JSONReader.END_ARRAY) {
+                    out.push(parseValue(reader, token));
+                }
+
+                return out;
+            }
+
+            case JSONReader.STRING:
+                return reader.getString();
+
+            case JSONReader.NUMBER:
+                return reader.getDouble();
+
+            case JSONReader.TRUE:
+                return true;
+
+            case JSONReader.FALSE:
+                return false;
+
+            case JSONReader.NULL:
+                return null;
+
+            default:
+                throw new StrReader.ParseException("Unexpected token at " + reader.getOffset());
+        }
     }
 
     static public Object parse(StrReader s) {
@@ -195,4 +261,110 @@ public class JSON {
         s.skipSpaces();
         return null;
     }
+
+    /**
+     * 将解析得到的数据对象 (Map、ArrayBase、Iterable、String、Number、Boolean 或 null) 写为 JSON 字符串。
+     */
+    static public String stringify(Object value) {
+        StringBuilder sb = new StringBuilder();
+        stringify(sb, value);
+        return sb.toString();
+    }
+
+    static public void stringify(StringBuilder sb, Object value) {
+        if (value == null) {
+            sb.append("null");
+        } else if (value instanceof String) {
+            stringifyString(sb, (String) value);
+        } else if (value instanceof Boolean) {
+            sb.append(value);
+        } else if (value instanceof Float) {
+            stringifyNumber(sb, (Float) value, Float.toString((Float) value));
+        } else if (value instanceof Double) {
+            stringifyNumber(sb, (Double) value, Double.toString((Double) value));
+        } else if (value instanceof Number) {
+            sb.append(((Number) value).longValue());
+        } else if (value instanceof Map) {
+            sb.append('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (!first) {
+                    sb.append(',');
+                }
+
+                first = false;
+                stringifyString(sb, Objects.toString(entry.getKey()));
+                sb.append(':');
+                stringify(sb, entry.getValue());
+            }
+            sb.append('}');
+        } else if (value instanceof ArrayBase) {
+            ArrayBase<?> array = (ArrayBase<?>) value;
+            sb.append('[');
+            for (int i = 0, l = array.size(); i < l; ++i) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+
+                stringify(sb, array.getObject(i));
+            }
+            sb.append(']');
+        } else if (value instanceof Iterable) {
+            sb.append('[');
+            boolean first = true;
+            for (Object item : (Iterable<?>) value) {
+                if (!first) {
+                    sb.append(',');
+                }
+
+                first = false;
+                stringify(sb, item);
+            }
+            sb.append(']');
+        } else {
+            throw new IllegalArgumentException("Unsupported JSON value " + value.getClass().getName());
+        }
+    }
+
+    static private void stringifyNumber(StringBuilder sb, double value, String text) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            sb.append("null");
+        } else if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            sb.append((long) value);
+        } else {
+            sb.append(text);
+        }
+    }
+
+    static private void stringifyString(StringBuilder sb, String value) {
+        sb.append('"');
+        for (int i = 0, l = value.length(); i < l; ++i) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                    break;
+            }
+        }
+        sb.append('"');
+    }
 }
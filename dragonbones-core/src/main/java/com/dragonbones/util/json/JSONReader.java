@@ -0,0 +1,673 @@
+package com.dragonbones.util.json;
+
+import com.dragonbones.util.StrReader;
+
+/**
+ * 拉取式 JSON 读取器，直接读取 char[] 或 UTF-8 编码的 byte[]，不构建中间对象。
+ * 数字在原数据中直接解码为基本类型，名称和短字符串通过缓存重用。
+ *
+ * @version DragonBones 5.1
+ * @language zh_CN
+ * @see JSON#parse(byte[])
+ */
+public class JSONReader {
+    public static final int END_DOCUMENT = 0;
+    public static final int BEGIN_OBJECT = 1;
+    public static final int END_OBJECT = 2;
+    public static final int BEGIN_ARRAY = 3;
+    public static final int END_ARRAY = 4;
+    public static final int NAME = 5;
+    public static final int STRING = 6;
+    public static final int NUMBER = 7;
+    public static final int TRUE = 8;
+    public static final int FALSE = 9;
+    public static final int NULL = 10;
+
+    private static final int STATE_VALUE = 0;
+    private static final int STATE_FIRST_NAME = 1; // After '{'.
+    private static final int STATE_FIRST_VALUE = 2; // After '['.
+    private static final int STATE_AFTER_VALUE = 3;
+    private static final int STATE_END = 4;
+
+    private static final int MAX_CACHED_LENGTH = 32;
+    private static final double[] POW10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final char[] _chars;
+    private final byte[] _bytes;
+    private final int _end;
+    private int _offset;
+    private int _state = STATE_VALUE;
+    private boolean[] _containers = new boolean[16]; // true is object.
+    private int _depth = 0;
+    private int _token = -1;
+    private int _tokenStart = 0;
+    private int _tokenEnd = 0;
+    private boolean _tokenEscaped = false; // String contains escapes or non ASCII bytes.
+    private char[] _buffer = new char[64];
+    private final String[] _strings = new String[256];
+
+    public JSONReader(String json) {
+        this(json.toCharArray());
+    }
+
+    public JSONReader(char[] data) {
+        this(data, 0, data.length);
+    }
+
+    public JSONReader(char[] data, int offset, int length) {
+        this._chars = data;
+        this._bytes = null;
+        this._offset = offset;
+        this._end = offset + length;
+
+        if (this._offset < this._end && this._chars[this._offset] == '\uFEFF') {
+            this._offset++;
+        }
+    }
+
+    /**
+     * @param data UTF-8 编码的数据。
+     */
+    public JSONReader(byte[] data) {
+        this(data, 0, data.length);
+    }
+
+    /**
+     * @param data UTF-8 编码的数据。
+     */
+    public JSONReader(byte[] data, int offset, int length) {
+        this._chars = null;
+        this._bytes = data;
+        this._offset = offset;
+        this._end = offset + length;
+
+        if (
+                this._offset + 3 <= this._end &&
+                        (data[this._offset] & 0xFF) == 0xEF &&
+                        (data[this._offset + 1] & 0xFF) == 0xBB &&
+                        (data[this._offset + 2] & 0xFF) == 0xBF
+                ) {
+            this._offset += 3;
+        }
+    }
+
+    private JSONReader(JSONReader source) {
+        this._chars = source._chars;
+        this._bytes = source._bytes;
+        this._offset = source._offset;
+        this._end = source._end;
+    }
+
+    /**
+     * 创建读取相同数据的新读取器，两个读取器可以在不同的线程中分别读取。
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see #seek(int)
+     */
+    public JSONReader fork() {
+        return new JSONReader(this);
+    }
+
+    private int _at(int index) {
+        return this._chars != null ? this._chars[index] : this._bytes[index] & 0xFF;
+    }
+
+    private StrReader.ParseException _error(String message) {
+        return new StrReader.ParseException(message + " at " + this._offset);
+    }
+
+    private int _skipSpaces() {
+        while (this._offset < this._end) {
+            int c = this._at(this._offset);
+            if (c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+                this._offset++;
+            } else {
+                return c;
+            }
+        }
+
+        return -1;
+    }
+
+    private void _push(boolean isObject) {
+        if (this._depth == this._containers.length) {
+            boolean[] containers = new boolean[this._depth * 2];
+            System.arraycopy(this._containers, 0, containers, 0, this._depth);
+            this._containers = containers;
+        }
+
+        this._containers[this._depth++] = isObject;
+    }
+
+    private int _pop(boolean isObject) {
+        if (this._depth == 0 || this._containers[this._depth - 1] != isObject) {
+            throw this._error("Unexpected " + (isObject ? '}' : ']'));
+        }
+
+        this._depth--;
+        this._offset++;
+        this._state = this._depth > 0 ? STATE_AFTER_VALUE : STATE_END;
+        return isObject ? END_OBJECT : END_ARRAY;
+    }
+
+    private void _expectLiteral(String literal) {
+        int l = literal.length();
+        if (this._offset + l > this._end) {
+            throw this._error("Expected " + literal);
+        }
+
+        for (int i = 0; i < l; ++i) {
+            if (this._at(this._offset + i) != literal.charAt(i)) {
+                throw this._error("Expected " + literal);
+            }
+        }
+
+        this._offset += l;
+    }
+
+    private void _readString() {
+        int offset = ++this._offset; // Skip '"'.
+        boolean escaped = false;
+        while (offset < this._end) {
+            int c = this._at(offset);
+            if (c == '"') {
+                this._tokenStart = this._offset;
+                this._tokenEnd = offset;
+                this._tokenEscaped = escaped;
+                this._offset = offset + 1;
+                return;
+            }
+
+            if (c == '\\') {
+                escaped = true;
+                offset += 2;
+            } else {
+                if (c >= 0x80) { // Non ASCII UTF-8 bytes.
+                    escaped = true;
+                }
+
+                offset++;
+            }
+        }
+
+        throw this._error("Unterminated string");
+    }
+
+    private void _readNumber() {
+        int offset = this._offset;
+        while (offset < this._end) {
+            int c = this._at(offset);
+            if ((c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E') {
+                offset++;
+            } else {
+                break;
+            }
+        }
+
+        this._tokenStart = this._offset;
+        this._tokenEnd = offset;
+        this._offset = offset;
+    }
+
+    private int _readValue(int c) {
+        switch (c) {
+            case '{':
+                this._offset++;
+                this._push(true);
+                this._state = STATE_FIRST_NAME;
+                return BEGIN_OBJECT;
+
+            case '[':
+                this._offset++;
+                this._push(false);
+                this._state = STATE_FIRST_VALUE;
+                return BEGIN_ARRAY;
+
+            case '"':
+                this._readString();
+                this._state = this._depth > 0 ? STATE_AFTER_VALUE : STATE_END;
+                return STRING;
+
+            case 't':
+                this._expectLiteral("true");
+                this._state = this._depth > 0 ? STATE_AFTER_VALUE : STATE_END;
+                return TRUE;
+
+            case 'f':
+                this._expectLiteral("false");
+                this._state = this._depth > 0 ? STATE_AFTER_VALUE : STATE_END;
+                return FALSE;
+
+            case 'n':
+                this._expectLiteral("null");
+                this._state = this._depth > 0 ? STATE_AFTER_VALUE : STATE_END;
+                return NULL;
+
+            default:
+                if ((c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.') {
+                    this._readNumber();
+                    this._state = this._depth > 0 ? STATE_AFTER_VALUE : STATE_END;
+                    return NUMBER;
+                }
+
+                throw this._error(c < 0 ? "Unexpected end" : "Unexpected character " + (char) c);
+        }
+    }
+
+    private int _readName(int c) {
+        if (c != '"') {
+            throw this._error("Expected name");
+        }
+
+        this._readString();
+        if (this._skipSpaces() != ':') {
+            throw this._error("Expected :");
+        }
+
+        this._offset++;
+        this._state = STATE_VALUE;
+        return NAME;
+    }
+
+    /**
+     * 读取下一个标记。
+     *
+     * @return 标记类型，例如 {@link #BEGIN_OBJECT}、{@link #NAME}、{@link #NUMBER}，读取完成时返回 {@link #END_DOCUMENT}。
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public int next() {
+        int c = this._skipSpaces();
+        switch (this._state) {
+            case STATE_VALUE:
+                this._token = this._readValue(c);
+                break;
+
+            case STATE_FIRST_NAME:
+                this._token = c == '}' ? this._pop(true) : this._readName(c);
+                break;
+
+            case STATE_FIRST_VALUE:
+                this._token = c == ']' ? this._pop(false) : this._readValue(c);
+                break;
+
+            case STATE_AFTER_VALUE:
+                if (c == ',') {
+                    this._offset++;
+                    if (this._containers[this._depth - 1]) {
+                        this._token = this._readName(this._skipSpaces());
+                    } else {
+                        this._token = this._readValue(this._skipSpaces());
+                    }
+                } else if (c == '}' || c == ']') {
+                    this._token = this._pop(c == '}');
+                } else {
+                    throw this._error(c < 0 ? "Unexpected end" : "Expected , or close");
+                }
+                break;
+
+            case STATE_END:
+            default:
+                if (c >= 0) {
+                    throw this._error("Unexpected character " + (char) c);
+                }
+
+                this._token = END_DOCUMENT;
+                break;
+        }
+
+        return this._token;
+    }
+
+    /**
+     * 跳过当前值。 (当前标记是 {@link #BEGIN_OBJECT} 或 {@link #BEGIN_ARRAY} 时跳过到对应的结束标记，是 {@link #NAME} 时跳过名称对应的值)
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public void skipValue() {
+        if (this._token == NAME) {
+            this.next();
+        }
+
+        if (this._token == BEGIN_OBJECT || this._token == BEGIN_ARRAY) {
+            int depth = this._depth - 1;
+            while (this._depth > depth) {
+                if (this.next() == END_DOCUMENT) {
+                    throw this._error("Unexpected end");
+                }
+            }
+        }
+    }
+
+    /**
+     * 当前标记类型。
+     */
+    public int getToken() {
+        return this._token;
+    }
+
+    /**
+     * 当前嵌套深度。
+     */
+    public int getDepth() {
+        return this._depth;
+    }
+
+    /**
+     * 当前读取位置。
+     */
+    public int getOffset() {
+        return this._offset;
+    }
+
+    /**
+     * 移动到指定的读取位置，并从该位置读取一个独立的值。 (位置通常是之前读取名称后的 {@link #getOffset()})
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public void seek(int offset) {
+        if (offset < 0 || offset > this._end) {
+            throw new IndexOutOfBoundsException("Offset " + offset);
+        }
+
+        this._offset = offset;
+        this._state = STATE_VALUE;
+        this._depth = 0;
+        this._token = -1;
+    }
+
+    /**
+     * 当前名称或字符串是否与指定字符串相同。 (不创建字符串)
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public boolean isString(String value) {
+        if (this._tokenEscaped) {
+            return value.equals(this.getString());
+        }
+
+        int length = this._tokenEnd - this._tokenStart;
+        if (value.length() != length) {
+            return false;
+        }
+
+        for (int i = 0; i < length; ++i) {
+            if (this._at(this._tokenStart + i) != value.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private int _decodeString() {
+        int length = 0;
+        for (int i = this._tokenStart, l = this._tokenEnd; i < l; ) {
+            if (length + 2 > this._buffer.length) {
+                char[] buffer = new char[this._buffer.length * 2];
+                System.arraycopy(this._buffer, 0, buffer, 0, length);
+                this._buffer = buffer;
+            }
+
+            int c = this._at(i++);
+            if (c == '\\') {
+                c = this._at(i++);
+                switch (c) {
+                    case 'n':
+                        c = '\n';
+                        break;
+                    case 'r':
+                        c = '\r';
+                        break;
+                    case 't':
+                        c = '\t';
+                        break;
+                    case 'b':
+                        c = '\b';
+                        break;
+                    case 'f':
+                        c = '\f';
+                        break;
+                    case '"':
+                    case '\\':
+                    case '/':
+                        break;
+                    case 'u':
+                        if (i + 4 > l) {
+                            throw this._error("Invalid escape");
+                        }
+
+                        c = 0;
+                        for (int j = 0; j < 4; ++j) {
+                            int digit = Character.digit(this._at(i++), 16);
+                            if (digit < 0) {
+                                throw this._error("Invalid escape");
+                            }
+
+                            c = (c << 4) | digit;
+                        }
+                        break;
+                    default:
+                        throw this._error("Invalid escape " + (char) c);
+                }
+            } else if (c >= 0x80 && this._bytes != null) { // UTF-8.
+                int count;
+                if (c >= 0xF0) {
+                    c &= 0x07;
+                    count = 3;
+                } else if (c >= 0xE0) {
+                    c &= 0x0F;
+                    count = 2;
+                } else {
+                    c &= 0x1F;
+                    count = 1;
+                }
+
+                for (int j = 0; j < count && i < l; ++j) {
+                    c = (c << 6) | (this._at(i++) & 0x3F);
+                }
+
+                if (c >= 0x10000) { // Surrogate pair.
+                    c -= 0x10000;
+                    this._buffer[length++] = (char) (0xD800 + (c >> 10));
+                    c = 0xDC00 + (c & 0x3FF);
+                }
+            }
+
+            this._buffer[length++] = (char) c;
+        }
+
+        return length;
+    }
+
+    /**
+     * 当前名称或字符串。 (较短的字符串会被缓存重用)
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public String getString() {
+        char[] chars;
+        int start;
+        int length;
+        if (this._tokenEscaped) {
+            chars = this._buffer;
+            start = 0;
+            length = this._decodeString();
+        } else if (this._chars != null) {
+            chars = this._chars;
+            start = this._tokenStart;
+            length = this._tokenEnd - this._tokenStart;
+        } else {
+            length = this._tokenEnd - this._tokenStart;
+            if (length > this._buffer.length) {
+                this._buffer = new char[Math.max(length, this._buffer.length * 2)];
+            }
+
+            chars = this._buffer;
+            start = 0;
+            for (int i = 0; i < length; ++i) {
+                chars[i] = (char) this._bytes[this._tokenStart + i];
+            }
+        }
+
+        if (length > MAX_CACHED_LENGTH) {
+            return new String(chars, start, length);
+        }
+
+        int hash = 0;
+        for (int i = start, l = start + length; i < l; ++i) {
+            hash = 31 * hash + chars[i];
+        }
+
+        int index = (hash ^ (hash >>> 8)) & (this._strings.length - 1);
+        String value = this._strings[index];
+        if (value != null && value.length() == length) {
+            boolean isSame = true;
+            for (int i = 0; i < length; ++i) {
+                if (value.charAt(i) != chars[start + i]) {
+                    isSame = false;
+                    break;
+                }
+            }
+
+            if (isSame) {
+                return value;
+            }
+        }
+
+        value = new String(chars, start, length);
+        this._strings[index] = value;
+        return value;
+    }
+
+    /**
+     * 当前数字。 (有效数字不超过 15 位且指数较小时直接解码，否则使用 {@link Double#parseDouble(String)})
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public double getDouble() {
+        int i = this._tokenStart;
+        int l = this._tokenEnd;
+        boolean isNegative = false;
+        if (i < l) {
+            int c = this._at(i);
+            if (c == '-' || c == '+') {
+                isNegative = c == '-';
+                i++;
+            }
+        }
+
+        long mantissa = 0L;
+        int digitCount = 0;
+        int exponent = 0;
+        boolean hasDigit = false;
+        boolean isExact = true;
+        for (; i < l; ++i) { // Integer part.
+            int c = this._at(i);
+            if (c < '0' || c > '9') {
+                break;
+            }
+
+            hasDigit = true;
+            if (mantissa != 0L || c != '0') {
+                mantissa = mantissa * 10L + (c - '0');
+                digitCount++;
+            }
+        }
+
+        if (i < l && this._at(i) == '.') { // Fraction part.
+            for (i++; i < l; ++i) {
+                int c = this._at(i);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+
+                hasDigit = true;
+                if (mantissa != 0L || c != '0') {
+                    mantissa = mantissa * 10L + (c - '0');
+                    digitCount++;
+                }
+
+                exponent--;
+            }
+        }
+
+        if (i < l && (this._at(i) == 'e' || this._at(i) == 'E')) { // Exponent part.
+            i++;
+            boolean isNegativeExponent = false;
+            if (i < l && (this._at(i) == '-' || this._at(i) == '+')) {
+                isNegativeExponent = this._at(i) == '-';
+                i++;
+            }
+
+            int value = 0;
+            boolean hasExponentDigit = false;
+            for (; i < l; ++i) {
+                int c = this._at(i);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+
+                hasExponentDigit = true;
+                if (value < 10000) {
+                    value = value * 10 + (c - '0');
+                }
+            }
+
+            isExact = hasExponentDigit;
+            exponent += isNegativeExponent ? -value : value;
+        }
+
+        if (!hasDigit || i != l) {
+            isExact = false;
+        }
+
+        if (isExact && digitCount <= 15 && exponent >= -22 && exponent <= 22) {
+            double value = (double) mantissa;
+            if (exponent < 0) {
+                value /= POW10[-exponent];
+            } else if (exponent > 0) {
+                value *= POW10[exponent];
+            }
+
+            return isNegative ? -value : value;
+        }
+
+        if (isExact && mantissa == 0L && digitCount == 0) {
+            return isNegative ? -0.0 : 0.0;
+        }
+
+        // Rare long or malformed numbers.
+        char[] chars = new char[this._tokenEnd - this._tokenStart];
+        for (int j = 0; j < chars.length; ++j) {
+            chars[j] = (char) this._at(this._tokenStart + j);
+        }
+
+        try {
+            return Double.parseDouble(new String(chars));
+        } catch (NumberFormatException e) {
+            throw this._error("Invalid number " + new String(chars));
+        }
+    }
+
+    public float getFloat() {
+        return (float) this.getDouble();
+    }
+
+    public int getInt() {
+        return (int) this.getDouble();
+    }
+
+    public boolean getBoolean() {
+        return this._token == TRUE;
+    }
+}
@@ -0,0 +1,435 @@
+package com.dragonbones.animation;
+
+import com.dragonbones.armature.Armature;
+import com.dragonbones.armature.Bone;
+import com.dragonbones.armature.Slot;
+import com.dragonbones.core.AnimationFadeOutMode;
+import com.dragonbones.core.TimelineType;
+import com.dragonbones.factory.TestFactory;
+import com.dragonbones.model.AnimationConfig;
+import com.dragonbones.model.AnimationData;
+import com.dragonbones.model.ArmatureData;
+import com.dragonbones.model.BoneData;
+import com.dragonbones.model.SlotData;
+import com.dragonbones.model.TimelineBindingData;
+import com.dragonbones.model.TimelineData;
+import com.dragonbones.util.Array;
+import com.dragonbones.util.StreamUtil;
+import com.dragonbones.util.json.JSON;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class AnimationStateTest {
+    private static void assertBoneMask(Armature armature, AnimationState animationState) {
+        for (Bone bone : armature.getBones()) {
+            assertEquals(bone.name, animationState.containsBoneMask(bone.name), animationState._containsBoneMask(bone));
+        }
+    }
+
+    private static Array<Object> rawArray(double... values) {
+        Array<Object> rawArray = new Array<>();
+        for (double value : values) {
+            rawArray.push(value);
+        }
+
+        return rawArray;
+    }
+
+    /**
+     * Dragon data, head slot switches between the image and a mesh with display index, color and ffd frames in walk.
+     */
+    @SuppressWarnings("unchecked")
+    private static TestFactory createMeshDragon() {
+        Map<String, Object> rawData = (Map<String, Object>) JSON.parse(StreamUtil.getResourceBytes("Dragon/Dragon_ske.json"));
+        Map<String, Object> rawArmature = (Map<String, Object>) ((Array<Object>) rawData.get("armature")).get(0);
+        for (Object rawSkinSlot : (Array<Object>) ((Map<String, Object>) ((Array<Object>) rawArmature.get("skin")).get(0)).get("slot")) {
+            if (!"head".equals(((Map<String, Object>) rawSkinSlot).get("name"))) {
+                continue;
+            }
+
+            Map<String, Object> rawMesh = new HashMap<>();
+            rawMesh.put("type", "mesh");
+            rawMesh.put("name", "headMesh");
+            rawMesh.put("path", "parts/head");
+            rawMesh.put("vertices", rawArray(-10.0, -10.0, 10.0, -10.0, 10.0, 10.0, -10.0, 10.0));
+            rawMesh.put("uvs", rawArray(0.0, 0.0, 1.0, 0.0, 1.0, 1.0, 0.0, 1.0));
+            rawMesh.put("triangles", rawArray(0.0, 1.0, 2.0, 0.0, 2.0, 3.0));
+            ((Array<Object>) ((Map<String, Object>) rawSkinSlot).get("display")).push(rawMesh);
+        }
+
+        for (Object rawAnimation : (Array<Object>) rawArmature.get("animation")) {
+            if (!"walk".equals(((Map<String, Object>) rawAnimation).get("name"))) {
+                continue;
+            }
+
+            for (Object rawTimeline : (Array<Object>) ((Map<String, Object>) rawAnimation).get("slot")) {
+                if (!"head".equals(((Map<String, Object>) rawTimeline).get("name"))) {
+                    continue;
+                }
+
+                Array<Object> rawFrames = (Array<Object>) ((Map<String, Object>) rawTimeline).get("frame");
+                for (int i = 0; i < rawFrames.size(); ++i) { // Mesh, image, mesh.
+                    Map<String, Object> rawFrame = (Map<String, Object>) rawFrames.get(i);
+                    Map<String, Object> rawColor = new HashMap<>();
+                    rawColor.put("aM", i == 1 ? 20.0 : 100.0);
+                    rawFrame.put("color", rawColor);
+                    rawFrame.put("displayIndex", i == 1 ? 0.0 : 1.0);
+                }
+            }
+
+            Array<Object> rawFrames = new Array<>();
+            for (int i = 0; i < 3; ++i) {
+                Map<String, Object> rawFrame = new HashMap<>();
+                rawFrame.put("duration", i < 2 ? 10.0 : 0.0);
+                rawFrame.put("vertices", i == 1 ? rawArray(5.0, 5.0, -5.0, 5.0, -5.0, -5.0, 5.0, -5.0) : rawArray(0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0));
+                if (i < 2) {
+                    rawFrame.put("tweenEasing", 0.0);
+                }
+
+                rawFrames.push(rawFrame);
+            }
+
+            Map<String, Object> rawFFDTimeline = new HashMap<>();
+            rawFFDTimeline.put("name", "headMesh");
+            rawFFDTimeline.put("slot", "head");
+            rawFFDTimeline.put("frame", rawFrames);
+            ((Map<String, Object>) rawAnimation).put("ffd", rawArray());
+            ((Array<Object>) ((Map<String, Object>) rawAnimation).get("ffd")).push(rawFFDTimeline);
+        }
+
+        TestFactory factory = new TestFactory();
+        factory.parseDragonBonesData(rawData);
+        factory.parseTextureAtlasData(JSON.parse(StreamUtil.getResourceBytes("Dragon/Dragon_tex.json")), null);
+        return factory;
+    }
+
+    @Test
+    public void boneMask() {
+        TestFactory factory = TestFactory.createDragon();
+        Armature armature = factory.buildArmature("Dragon");
+        AnimationState animationState = armature.getAnimation().fadeIn("walk", 0f, -1, 0, null, AnimationFadeOutMode.SameLayerAndGroup);
+        assertBoneMask(armature, animationState);
+
+        animationState.addBoneMask("head", false);
+        assertBoneMask(armature, animationState);
+        assertEquals(false, animationState._containsBoneMask(armature.getBone("eyeL")));
+
+        animationState.addBoneMask("armUpperL", true);
+        assertBoneMask(armature, animationState);
+        assertEquals(true, animationState._containsBoneMask(armature.getBone("handL")));
+
+        animationState.removeBoneMask("armL", true);
+        assertBoneMask(armature, animationState);
+        assertEquals(false, animationState._containsBoneMask(armature.getBone("handL")));
+
+        animationState.addBoneMask("body", true);
+        assertBoneMask(armature, animationState);
+
+        animationState.removeBoneMask("head", true);
+        assertBoneMask(armature, animationState);
+        assertEquals(false, animationState._containsBoneMask(armature.getBone("hair")));
+
+        animationState.removeAllBoneMask();
+        assertBoneMask(armature, animationState);
+    }
+
+    @Test
+    public void timelineBinding() {
+        TestFactory factory = TestFactory.createDragon();
+        ArmatureData armatureData = factory.getArmatureData("Dragon");
+        for (String animationName : armatureData.animationNames) {
+            AnimationData animationData = armatureData.getAnimation(animationName);
+            TimelineBindingData timelineBinding = animationData.getTimelineBinding(armatureData);
+            assertSame(timelineBinding, animationData.getTimelineBinding(armatureData));
+
+            for (BoneData boneData : armatureData.sortedBones) {
+                assertSame(animationData.getBoneTimelines(boneData.name), timelineBinding.getBoneTimelines(boneData));
+            }
+
+            for (SlotData slotData : armatureData.sortedSlots) {
+                assertSame(animationData.getSlotTimeline(slotData.name), timelineBinding.getSlotTimelines(slotData));
+            }
+        }
+    }
+
+    @Test
+    public void updateTimelines() {
+        TestFactory factory = TestFactory.createDragon();
+        Armature masked = factory.buildArmature("Dragon");
+        Armature unmasked = factory.buildArmature("Dragon");
+        AnimationState animationState = masked.getAnimation().play("walk", -1);
+        unmasked.getAnimation().play("walk", -1);
+
+        animationState.addBoneMask("head", false);
+        for (int i = 0; i < 10; ++i) {
+            masked.advanceTime(1f / 60f);
+            unmasked.advanceTime(1f / 60f);
+        }
+
+        animationState.addBoneMask("armUpperL", true);
+        for (int i = 0; i < 10; ++i) {
+            masked.advanceTime(1f / 60f);
+            unmasked.advanceTime(1f / 60f);
+        }
+
+        animationState.removeAllBoneMask(); // Rebind all timelines.
+        masked.advanceTime(1f / 60f);
+        unmasked.advanceTime(1f / 60f);
+
+        for (Bone bone : unmasked.getBones()) {
+            Bone maskedBone = masked.getBone(bone.name);
+            assertEquals(bone.name, bone.global.x, maskedBone.global.x, 1e-4f);
+            assertEquals(bone.name, bone.global.y, maskedBone.global.y, 1e-4f);
+            assertEquals(bone.name, bone.global.rotation, maskedBone.global.rotation, 1e-4f);
+        }
+
+        for (Slot slot : unmasked.getSlots()) {
+            assertEquals(slot.name, slot.getDisplayIndex(), masked.getSlot(slot.name).getDisplayIndex());
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void staticDisplayControl() {
+        Map<String, Object> rawData = (Map<String, Object>) JSON.parse(StreamUtil.getResourceBytes("Dragon/Dragon_ske.json"));
+        Map<String, Object> rawArmature = (Map<String, Object>) ((Array<Object>) rawData.get("armature")).get(0);
+        for (Object rawAnimation : (Array<Object>) rawArmature.get("animation")) {
+            if (!"walk".equals(((Map<String, Object>) rawAnimation).get("name"))) {
+                continue;
+            }
+
+            for (Object rawTimeline : (Array<Object>) ((Map<String, Object>) rawAnimation).get("slot")) {
+                for (Object rawFrame : (Array<Object>) ((Map<String, Object>) rawTimeline).get("frame")) { // Same color in all frames.
+                    Map<String, Object> rawColor = new HashMap<>();
+                    rawColor.put("aM", 50.0);
+                    ((Map<String, Object>) rawFrame).put("color", rawColor);
+                }
+            }
+        }
+
+        TestFactory factory = new TestFactory();
+        factory.parseDragonBonesData(rawData);
+        Armature armature = factory.buildArmature("Dragon");
+        AnimationData animationData = factory.getArmatureData("Dragon").getAnimation("walk");
+        for (Slot slot : armature.getSlots()) { // Not controlled by the animation.
+            slot.displayController = "other";
+        }
+
+        armature.getAnimation().play("walk", -1);
+        for (int i = 0; i < 10; ++i) {
+            armature.advanceTime(1f / 60f);
+        }
+
+        int staticCount = 0;
+        for (Slot slot : armature.getSlots()) {
+            assertEquals(slot.name, 1f, slot._colorTransform.alphaMultiplier, 0f);
+            slot.displayController = "walk";
+        }
+
+        armature.advanceTime(1f / 60f);
+
+        for (Slot slot : armature.getSlots()) {
+            Array<TimelineData> timelines = animationData.getSlotTimeline(slot.name);
+            if (timelines == null) {
+                continue;
+            }
+
+            for (TimelineData timeline : timelines) {
+                if (timeline.type == TimelineType.SlotColor && timeline.isStatic) {
+                    assertEquals(slot.name, 0.5f, slot._colorTransform.alphaMultiplier, 0f);
+                    staticCount++;
+                }
+            }
+        }
+
+        assertTrue(staticCount > 0);
+    }
+
+    @Test
+    public void compactFrameIndices() {
+        TestFactory factory = TestFactory.createDragon();
+        TestFactory compactFactory = TestFactory.createDragon();
+        assertFalse(factory.getDragonBonesData("Dragon").isCompactFrameIndices());
+        compactFactory.getDragonBonesData("Dragon").setCompactFrameIndices(true); // Key frames are searched.
+        Armature armature = factory.buildArmature("Dragon");
+        Armature compactArmature = compactFactory.buildArmature("Dragon");
+        Random random = new Random(1);
+
+        for (String animationName : armature.armatureData.animationNames) {
+            float duration = armature.armatureData.getAnimation(animationName).duration;
+            for (int i = 0; i < 200; ++i) {
+                float time = i < 100 ? i * duration / 100f : random.nextFloat() * duration; // Forward, then seek.
+                armature.getAnimation().gotoAndStopByTime(animationName, time);
+                compactArmature.getAnimation().gotoAndStopByTime(animationName, time);
+                armature.advanceTime(0f);
+                compactArmature.advanceTime(0f);
+
+                for (Bone bone : armature.getBones()) {
+                    Bone compactBone = compactArmature.getBone(bone.name);
+                    String message = animationName + " " + time + " " + bone.name;
+                    assertEquals(message, bone.animationPose.x, compactBone.animationPose.x, 0f);
+                    assertEquals(message, bone.animationPose.y, compactBone.animationPose.y, 0f);
+                    assertEquals(message, bone.animationPose.rotation, compactBone.animationPose.rotation, 0f);
+                    assertEquals(message, bone.animationPose.scaleX, compactBone.animationPose.scaleX, 0f);
+                }
+
+                for (Slot slot : armature.getSlots()) {
+                    Slot compactSlot = compactArmature.getSlot(slot.name);
+                    assertEquals(slot.name, slot.getDisplayIndex(), compactSlot.getDisplayIndex());
+                    assertEquals(slot.name, slot._colorTransform.alphaMultiplier, compactSlot._colorTransform.alphaMultiplier, 0f);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void groupId() {
+        assertEquals(0, AnimationConfig.getGroupId(null));
+        assertEquals(0, AnimationConfig.getGroupId(""));
+
+        TestFactory factory = TestFactory.createDragon();
+        Armature armature = factory.buildArmature("Dragon");
+        AnimationConfig animationConfig = armature.getAnimation().getAnimationConfig();
+        animationConfig.animation = "walk";
+        animationConfig.group = "upper";
+        animationConfig.fadeOutMode = AnimationFadeOutMode.SameGroup;
+        AnimationState upperState = armature.getAnimation().playConfig(animationConfig);
+        assertEquals(AnimationConfig.getGroupId("upper"), upperState.groupId);
+        assertEquals(-1, animationConfig.groupId); // Not written back.
+
+        animationConfig.animation = "jump";
+        animationConfig.group = "lower"; // Reused config, another group.
+        AnimationState lowerState = armature.getAnimation().playConfig(animationConfig);
+        assertEquals(AnimationConfig.getGroupId("lower"), lowerState.groupId);
+        assertFalse(upperState.isFadeOut());
+    }
+
+    @Test
+    public void retargetTimelines() {
+        TestFactory factory = TestFactory.createDragon();
+        Armature armature = factory.buildArmature("Dragon");
+        Armature expectedArmature = factory.buildArmature("Dragon");
+        armature.getAnimation().play("walk", -1);
+        for (int i = 0; i < 10; ++i) {
+            armature.advanceTime(1f / 60f);
+        }
+
+        armature.getAnimation().fadeIn("stand", 0f, -1, 0, null, AnimationFadeOutMode.SameLayerAndGroup); // Timelines taken from walk.
+        expectedArmature.getAnimation().fadeIn("stand", 0f, -1, 0, null, AnimationFadeOutMode.SameLayerAndGroup);
+        for (int i = 0; i < 10; ++i) {
+            armature.advanceTime(1f / 60f);
+            expectedArmature.advanceTime(1f / 60f);
+
+            for (Bone bone : expectedArmature.getBones()) {
+                Bone eachBone = armature.getBone(bone.name);
+                assertEquals(bone.name, bone.global.x, eachBone.global.x, 0f);
+                assertEquals(bone.name, bone.global.y, eachBone.global.y, 0f);
+                assertEquals(bone.name, bone.global.rotation, eachBone.global.rotation, 0f);
+            }
+
+            for (Slot slot : expectedArmature.getSlots()) {
+                assertEquals(slot.name, slot.getDisplayIndex(), armature.getSlot(slot.name).getDisplayIndex());
+            }
+        }
+
+        assertEquals(1, armature.getAnimation().getStates().size());
+    }
+
+    private static void assertRendered(String message, TestFactory.TestSlot expected, TestFactory.TestSlot actual) {
+        assertEquals(message, expected.renderedDisplay == expected.getMeshDisplay(), actual.renderedDisplay == actual.getMeshDisplay());
+        assertEquals(message, expected.renderedAlpha, actual.renderedAlpha, 0f);
+        if (actual.renderedDisplay == actual.getMeshDisplay()) {
+            assertArrayEquals(message, expected.renderedVertices, actual.renderedVertices, 0f);
+        }
+    }
+
+    @Test
+    public void renderEnabled() {
+        TestFactory factory = createMeshDragon();
+        Armature armature = factory.buildArmature("Dragon");
+        Armature expectedArmature = factory.buildArmature("Dragon"); // Always rendered.
+        TestFactory.TestSlot slot = (TestFactory.TestSlot) armature.getSlot("head");
+        TestFactory.TestSlot expectedSlot = (TestFactory.TestSlot) expectedArmature.getSlot("head");
+        for (TestFactory.TestSlot eachSlot : new TestFactory.TestSlot[]{slot, expectedSlot}) {
+            Array<Object> displayList = new Array<>();
+            displayList.push(eachSlot.getRawDisplay());
+            displayList.push(eachSlot.getMeshDisplay());
+            eachSlot.setDisplayList(displayList);
+        }
+
+        armature.getAnimation().play("walk", -1);
+        expectedArmature.getAnimation().play("walk", -1);
+        armature.advanceTime(1f / 60f);
+        expectedArmature.advanceTime(1f / 60f);
+        assertSame(slot.getMeshDisplay(), slot.renderedDisplay);
+        assertRendered("visible", expectedSlot, slot);
+
+        // Display index, color and mesh changed by the animation are not rendered while hidden.
+        armature.setRenderEnabled(false);
+        for (int i = 0; i < 30; ++i) { // Image frame.
+            armature.advanceTime(1f / 60f);
+            expectedArmature.advanceTime(1f / 60f);
+        }
+
+        assertEquals(0, slot.getDisplayIndex());
+        assertSame(slot.getMeshDisplay(), slot.renderedDisplay);
+        assertSame(expectedSlot.getRawDisplay(), expectedSlot.renderedDisplay);
+        assertTrue(slot.renderedAlpha > expectedSlot.renderedAlpha);
+        assertEquals(expectedArmature.getBone("head").global.x, armature.getBone("head").global.x, 0f); // Bones are updated.
+
+        armature.setRenderEnabled(true);
+        armature.advanceTime(1f / 60f);
+        expectedArmature.advanceTime(1f / 60f);
+        assertSame(slot.getRawDisplay(), slot.renderedDisplay);
+        assertRendered("image", expectedSlot, slot);
+
+        armature.setRenderEnabled(false);
+        for (int i = 0; i < 25; ++i) { // Back to the mesh frame, vertices changed.
+            armature.advanceTime(1f / 60f);
+            expectedArmature.advanceTime(1f / 60f);
+        }
+
+        assertEquals(1, slot.getDisplayIndex());
+        assertSame(slot.getRawDisplay(), slot.renderedDisplay);
+
+        armature.setRenderEnabled(true);
+        armature.advanceTime(1f / 60f);
+        expectedArmature.advanceTime(1f / 60f);
+        assertSame(slot.getMeshDisplay(), slot.renderedDisplay);
+        assertTrue(slot.renderedVertices.length > 0 && slot.renderedVertices[0] != 0f);
+        assertRendered("mesh", expectedSlot, slot);
+    }
+
+    @Test
+    public void childRenderEnabled() {
+        TestFactory factory = TestFactory.createDragon();
+        Armature armature = factory.buildArmature("Dragon");
+        Armature childArmature = factory.buildArmature("Dragon");
+        Armature lateChildArmature = factory.buildArmature("Dragon");
+        Array<Object> displayList = new Array<>();
+        displayList.push(childArmature);
+        armature.getSlot("body").setDisplayList(displayList);
+        assertSame(childArmature, armature.getSlot("body").getChildArmature());
+
+        armature.setRenderEnabled(false);
+        assertFalse(childArmature.getRenderEnabled());
+
+        displayList = new Array<>(); // Added while hidden.
+        displayList.push(lateChildArmature);
+        armature.getSlot("head").setDisplayList(displayList);
+        assertFalse(lateChildArmature.getRenderEnabled());
+
+        armature.setRenderEnabled(true);
+        assertTrue(childArmature.getRenderEnabled());
+        assertTrue(lateChildArmature.getRenderEnabled());
+    }
+}
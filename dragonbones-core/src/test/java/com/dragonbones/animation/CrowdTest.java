@@ -0,0 +1,100 @@
+package com.dragonbones.animation;
+
+import com.dragonbones.armature.Armature;
+import com.dragonbones.armature.Bone;
+import com.dragonbones.core.AnimationFadeOutMode;
+import com.dragonbones.factory.TestFactory;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CrowdTest {
+    @Test
+    public void restore() {
+        TestFactory factory = TestFactory.createDragon();
+        WorldClock clock = new WorldClock();
+        Armature armatureA = factory.buildArmature("Dragon");
+        Armature armatureB = factory.buildArmature("Dragon");
+        clock.add(armatureA);
+
+        Crowd crowd = new Crowd(24f);
+        crowd.add(armatureA);
+        crowd.add(armatureB);
+        assertEquals(0f, armatureA.getCacheFrameRate(), 0f); // Shared armature data is not changed.
+        assertFalse(clock.contains(armatureA)); // Advanced by the crowd only.
+        assertNull(armatureA.getClock());
+
+        crowd.remove(armatureA);
+        assertTrue(clock.contains(armatureA));
+        assertSame(clock, armatureA.getClock());
+
+        crowd.remove(armatureB);
+        assertNull(armatureB.getClock());
+
+        clock.remove(armatureA);
+        crowd.add(armatureA);
+        crowd.add(armatureB);
+        crowd.clear();
+        assertEquals(0, crowd.getArmatures().size());
+    }
+
+    @Test
+    public void sharedPose() {
+        TestFactory factory = TestFactory.createDragon();
+        Crowd crowd = new Crowd(24f);
+        Armature armatureA = factory.buildArmature("Dragon");
+        Armature armatureB = factory.buildArmature("Dragon");
+        Armature armatureC = factory.buildArmature("Dragon");
+        Armature reference = factory.buildArmature("Dragon");
+        crowd.add(armatureA);
+        crowd.add(armatureB);
+        crowd.add(armatureC);
+
+        Bone rootB = null;
+        for (Bone bone : armatureB.getBones()) {
+            if (bone.getParent() == null) {
+                rootB = bone;
+                break;
+            }
+        }
+
+        rootB.offset.x = 10f; // Overrides of the instance are kept.
+        rootB.invalidUpdate();
+
+        for (int i = 0; i < 20; ++i) {
+            if (i == 0) {
+                crowd.play(armatureA, "walk", 0f);
+                crowd.play(armatureB, "walk", 0f);
+                crowd.play(armatureC, "walk", 0.5f);
+            }
+
+            crowd.advanceTime(1f / 60f);
+            assertEquals(2, crowd.getGroupCount());
+
+            // Pose is evaluated at the quantized time of the group.
+            AnimationState animationState = armatureA.getAnimation().getLastAnimationState();
+            float time = (float) Math.floor(animationState._actionTimeline.currentTime * 24f) / 24f;
+            reference.getAnimation().gotoAndStopByTime("walk", time);
+            reference.advanceTime(0f);
+            for (Bone bone : reference.getBones()) {
+                Bone boneA = armatureA.getBone(bone.name);
+                Bone boneB = armatureB.getBone(bone.name);
+                String message = i + " " + bone.name;
+                assertEquals(message, bone.animationPose.x, boneA.animationPose.x, 0.0001f);
+                assertEquals(message, bone.animationPose.rotation, boneA.animationPose.rotation, 0.0001f);
+                assertEquals(message, boneA.animationPose.x, boneB.animationPose.x, 0f);
+                assertEquals(message, boneA.animationPose.scaleX, boneB.animationPose.scaleX, 0f);
+            }
+
+            assertEquals(armatureA.getBone(rootB.name).global.x + 10f, rootB.global.x, 0.0001f);
+        }
+
+        armatureB.getAnimation().fadeIn("stand", 0.2f, -1, 0, null, AnimationFadeOutMode.SameLayerAndGroup); // Fading instances are evaluated alone.
+        crowd.advanceTime(1f / 60f);
+        assertEquals(3, crowd.getGroupCount());
+    }
+}
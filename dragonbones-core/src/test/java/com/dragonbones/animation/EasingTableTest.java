@@ -0,0 +1,34 @@
+package com.dragonbones.animation;
+
+import com.dragonbones.core.TweenType;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class EasingTableTest {
+    @Test
+    public void tolerance() {
+        TweenType[] tweenTypes = {TweenType.QuadIn, TweenType.QuadOut, TweenType.QuadInOut};
+        float[] easings = {-1f, -0.5f, 0f, 0.3f, 1f, 2f};
+        for (TweenType tweenType : tweenTypes) {
+            for (float easing : easings) {
+                for (int i = 0; i <= 10000; ++i) {
+                    float progress = i / 10000f;
+                    float exact = (EasingTable.getExactValue(tweenType, progress) - progress) * easing + progress;
+                    float value = EasingTable.getValue(tweenType, progress, easing);
+                    assertEquals(tweenType + " " + easing + " " + progress, exact, value, 1e-5f * Math.max(1f, Math.abs(easing)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void exactCurve() {
+        assertEquals(0.25f, EasingTable.getExactValue(TweenType.QuadIn, 0.5f), 0f);
+        assertEquals(0.75f, EasingTable.getExactValue(TweenType.QuadOut, 0.5f), 0f);
+        assertEquals(0.5f, EasingTable.getExactValue(TweenType.QuadInOut, 0.5f), 1e-7f);
+        assertEquals(0.4f, EasingTable.getValue(TweenType.Line, 0.4f, 1f), 0f);
+        assertEquals(1f, EasingTable.getValue(TweenType.QuadIn, 1f, 1f), 0f);
+        assertEquals(0f, EasingTable.getValue(TweenType.QuadOut, 0f, 1f), 0f);
+    }
+}
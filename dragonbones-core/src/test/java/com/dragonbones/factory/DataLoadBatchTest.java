@@ -0,0 +1,66 @@
+package com.dragonbones.factory;
+
+import com.dragonbones.util.Array;
+import com.dragonbones.util.StreamUtil;
+import com.dragonbones.util.json.JSON;
+import org.junit.Test;
+
+import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class DataLoadBatchTest {
+    @Test
+    public void loadAsync() throws InterruptedException {
+        TestFactory factory = new TestFactory();
+        Array<Thread> threads = new Array<>();
+        Executor executor = command -> {
+            Thread thread = new Thread(command);
+            threads.push(thread);
+            thread.start();
+        };
+
+        CompletableFuture<DataLoadBatch> future = factory.createLoadBatch()
+                .addDragonBonesData(JSON.parse(StreamUtil.getResourceBytes("Dragon/Dragon_ske.json")), "good", 1f)
+                .addDragonBonesData(Paths.get("missing_ske.json"), "bad", 1f)
+                .loadAsync(executor);
+        Thread[] completeThread = new Thread[1];
+        future.whenComplete((value, error) -> completeThread[0] = Thread.currentThread());
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Parsed, but not added before advance time.
+        assertEquals(2, threads.size());
+        assertFalse(future.isDone());
+        assertNull(factory.getDragonBonesData("good"));
+
+        factory.getDragonBones().advanceTime(0f);
+        assertSame(Thread.currentThread(), completeThread[0]); // Added in the advance time thread.
+        assertNotNull(factory.getDragonBonesData("good"));
+        assertNull(factory.getDragonBonesData("bad"));
+        assertTrue(future.isCompletedExceptionally());
+    }
+
+    @Test
+    public void loadAsyncWithoutDragonBones() {
+        TestFactory factory = new TestFactory();
+        factory._dragonBones = null;
+        DataLoadBatch batch = factory.createLoadBatch().addDragonBonesData(JSON.parse(StreamUtil.getResourceBytes("Dragon/Dragon_ske.json")), "good", 1f);
+        try {
+            batch.loadAsync(command -> fail("Parsed without a DragonBones instance."));
+            fail();
+        } catch (IllegalStateException e) {
+            assertNull(factory.getDragonBonesData("good"));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.dragonbones.factory;
+
+import com.dragonbones.armature.Armature;
+import com.dragonbones.geom.Matrix;
+import com.dragonbones.geom.Transform;
+import com.dragonbones.model.ArmatureData;
+import com.dragonbones.model.FrameCacheData;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class FrameCacheBakeTaskTest {
+    private static void assertFrameCache(String animationName, FrameCacheData expected, FrameCacheData actual) {
+        Matrix expectedMatrix = new Matrix(), actualMatrix = new Matrix();
+        Transform expectedTransform = new Transform(), actualTransform = new Transform();
+        for (int i = 0; i < expected.frameCount; ++i) {
+            assertEquals(animationName + " " + i, expected.isCached(i), actual.isCached(i));
+            for (int entry = 0, l = expected.boneCount + expected.slotCount; entry < l; ++entry) {
+                int expectedIndex = expected.getFrameIndex(i, entry);
+                int actualIndex = actual.getFrameIndex(i, entry);
+                assertEquals(animationName + " " + i + " " + entry, expectedIndex < 0, actualIndex < 0);
+                if (expectedIndex < 0) {
+                    continue;
+                }
+
+                expected.getCacheFrame(expectedMatrix, expectedTransform, expectedIndex);
+                actual.getCacheFrame(actualMatrix, actualTransform, actualIndex);
+                assertEquals(expectedMatrix.a, actualMatrix.a, 0f);
+                assertEquals(expectedMatrix.b, actualMatrix.b, 0f);
+                assertEquals(expectedMatrix.tx, actualMatrix.tx, 0f);
+                assertEquals(expectedMatrix.ty, actualMatrix.ty, 0f);
+                assertEquals(expectedTransform.rotation, actualTransform.rotation, 0f);
+            }
+        }
+    }
+
+    @Test
+    public void bake() {
+        TestFactory bakeFactory = TestFactory.createDragon();
+        ArrayList<Runnable> pending = new ArrayList<>();
+        FrameCacheBakeTask task = bakeFactory.bakeFrameCache("Dragon", null, 24f, 0f, pending::add);
+
+        // Caches are created on the calling thread, the task only fills them.
+        ArmatureData bakedArmatureData = bakeFactory.getArmatureData("Dragon");
+        assertEquals(24f, bakedArmatureData.cacheFrameRate, 0f);
+        Map<String, FrameCacheData> frameCaches = new HashMap<>();
+        for (String animationName : bakedArmatureData.animationNames) {
+            FrameCacheData frameCache = bakedArmatureData.getAnimation(animationName).frameCache;
+            assertNotNull(frameCache);
+            assertFalse(frameCache.isCached(0));
+            frameCaches.put(animationName, frameCache);
+        }
+
+        assertFalse(task.isComplete());
+        pending.get(0).run();
+        assertTrue(task.isComplete());
+        assertNull(task.getError());
+        assertEquals(task.getFrameCount(), task.getBakedFrameCount());
+
+        // Cache written while playing, an armature reused for all animations.
+        TestFactory playFactory = TestFactory.createDragon();
+        ArmatureData armatureData = playFactory.getArmatureData("Dragon");
+        Armature armature = playFactory.buildArmature("Dragon");
+        armature.setCacheFrameRate(24f);
+        for (String animationName : armatureData.animationNames) {
+            armature.getAnimation().play(animationName, 1);
+            for (int i = 0; i < 600; ++i) {
+                armature.advanceTime(1f / 240f);
+            }
+        }
+
+        for (String animationName : armatureData.animationNames) {
+            assertSame(frameCaches.get(animationName), bakedArmatureData.getAnimation(animationName).frameCache);
+            assertFrameCache(animationName, armatureData.getAnimation(animationName).frameCache, bakedArmatureData.getAnimation(animationName).frameCache);
+        }
+    }
+}
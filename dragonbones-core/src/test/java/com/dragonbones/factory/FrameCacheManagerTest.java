@@ -0,0 +1,146 @@
+package com.dragonbones.factory;
+
+import com.dragonbones.animation.AnimationState;
+import com.dragonbones.armature.Armature;
+import com.dragonbones.core.AnimationFadeOutMode;
+import com.dragonbones.model.AnimationData;
+import com.dragonbones.model.ArmatureData;
+import com.dragonbones.model.BlendPoseCacheData;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class FrameCacheManagerTest {
+    private static Armature play(TestFactory factory, String animationName) {
+        Armature armature = factory.buildArmature("Dragon");
+        armature.setCacheFrameRate(24);
+        armature.getAnimation().play(animationName, -1);
+        for (int i = 0; i < 60; ++i) {
+            armature.advanceTime(1f / 24f);
+        }
+
+        return armature;
+    }
+
+    private static Armature blend(TestFactory factory) {
+        Armature armature = factory.buildArmature("Dragon");
+        armature.setCacheFrameRate(24);
+        armature.getAnimation().fadeIn("walk", 0f, -1, 0, null, AnimationFadeOutMode.SameLayerAndGroup);
+        AnimationState animationState = armature.getAnimation().fadeIn("jump", 0f, -1, 1, "upper", AnimationFadeOutMode.SameLayerAndGroup);
+        animationState.weight = 0.5f;
+        for (int i = 0; i < 60; ++i) {
+            armature.advanceTime(1f / 24f);
+        }
+
+        return armature;
+    }
+
+    private static int getEmptyCacheMemorySize(AnimationData animationData) {
+        return animationData.frameCache.createEmpty().getMemorySize();
+    }
+
+    private static int getCacheMemorySize(ArmatureData armatureData) {
+        int memorySize = 0;
+        for (String animationName : armatureData.animationNames) {
+            memorySize += armatureData.getAnimation(animationName).getCacheMemorySize();
+        }
+
+        return memorySize;
+    }
+
+    @Test
+    public void evict() {
+        TestFactory factory = TestFactory.createDragon();
+        FrameCacheManager frameCacheManager = factory.getFrameCacheManager();
+        ArmatureData armatureData = factory.getArmatureData("Dragon");
+        AnimationData stand = armatureData.getAnimation("stand");
+        AnimationData walk = armatureData.getAnimation("walk");
+        AnimationData jump = armatureData.getAnimation("jump");
+        AnimationData fall = armatureData.getAnimation("fall");
+
+        play(factory, "stand");
+        play(factory, "walk");
+        play(factory, "jump");
+        Armature fallArmature = play(factory, "fall");
+
+        frameCacheManager.update();
+        int memorySize = frameCacheManager.getMemorySize();
+        assertEquals(stand.getCacheMemorySize() + walk.getCacheMemorySize() + jump.getCacheMemorySize() + fall.getCacheMemorySize(), memorySize);
+        assertEquals(0, frameCacheManager.getEvictedCount());
+
+        fallArmature.advanceTime(1f / 24f); // In use since the last check.
+
+        // Room for every cache except the frames of the two least recently used animations.
+        int memoryBudget = memorySize
+                - (stand.getCacheMemorySize() - getEmptyCacheMemorySize(stand))
+                - (walk.getCacheMemorySize() - getEmptyCacheMemorySize(walk));
+        frameCacheManager.setMemoryBudget(memoryBudget);
+        frameCacheManager.update();
+
+        assertTrue(frameCacheManager.getMemorySize() <= memoryBudget);
+        assertEquals(2, frameCacheManager.getEvictedCount());
+        assertEquals(0, stand.frameCache.getFrameArrayCount());
+        assertEquals(0, walk.frameCache.getFrameArrayCount());
+        assertTrue(jump.frameCache.getFrameArrayCount() > 0);
+        assertTrue(fall.frameCache.getFrameArrayCount() > 0);
+
+        // Evicted animations are cached again when played.
+        play(factory, "stand");
+        assertTrue(stand.frameCache.getFrameArrayCount() > 0);
+        assertEquals(24f, stand.frameCache.frameRate, 0f);
+    }
+
+    @Test
+    public void keepCachesInUse() {
+        TestFactory factory = TestFactory.createDragon();
+        FrameCacheManager frameCacheManager = factory.getFrameCacheManager();
+        AnimationData walk = factory.getArmatureData("Dragon").getAnimation("walk");
+
+        Armature armature = play(factory, "walk");
+        frameCacheManager.update();
+
+        armature.advanceTime(1f / 24f);
+        frameCacheManager.setMemoryBudget(1);
+        frameCacheManager.update();
+
+        assertEquals(0, frameCacheManager.getEvictedCount());
+        assertTrue(walk.frameCache.getFrameArrayCount() > 0);
+
+        frameCacheManager.update(); // Not used since the last check.
+
+        assertEquals(1, frameCacheManager.getEvictedCount());
+        assertEquals(0, walk.frameCache.getFrameArrayCount());
+    }
+
+    @Test
+    public void blendPoses() {
+        TestFactory factory = TestFactory.createDragon();
+        FrameCacheManager frameCacheManager = factory.getFrameCacheManager();
+        ArmatureData armatureData = factory.getArmatureData("Dragon");
+
+        Armature armature = blend(factory);
+        BlendPoseCacheData blendPoseCache = armatureData.getBlendPoseCache();
+        int poseCount = blendPoseCache.getPoseCount();
+        assertTrue(poseCount > 0);
+
+        blend(factory); // Same blend, poses are shared.
+        assertSame(blendPoseCache, armatureData.getBlendPoseCache());
+        assertEquals(poseCount, blendPoseCache.getPoseCount());
+
+        frameCacheManager.update();
+        assertTrue(armatureData.getBlendPoseCacheMemorySize() > 0);
+        assertEquals(getCacheMemorySize(armatureData) + armatureData.getBlendPoseCacheMemorySize(), frameCacheManager.getMemorySize());
+
+        frameCacheManager.setMemoryBudget(1);
+        frameCacheManager.update(); // Not used since the last check.
+        assertTrue(frameCacheManager.getEvictedCount() > 0);
+        assertEquals(0, armatureData.getBlendPoseCacheMemorySize());
+
+        armature.advanceTime(1f / 24f); // Cached again.
+        assertNotSame(blendPoseCache, armatureData.getBlendPoseCache());
+        assertEquals(1, armatureData.getBlendPoseCache().getPoseCount());
+    }
+}
@@ -0,0 +1,174 @@
+package com.dragonbones.factory;
+
+import com.dragonbones.animation.Animation;
+import com.dragonbones.armature.Armature;
+import com.dragonbones.armature.IArmatureProxy;
+import com.dragonbones.armature.Slot;
+import com.dragonbones.core.BaseObject;
+import com.dragonbones.core.DragonBones;
+import com.dragonbones.event.EventObject;
+import com.dragonbones.event.EventStringType;
+import com.dragonbones.model.DisplayData;
+import com.dragonbones.model.SlotData;
+import com.dragonbones.model.TextureAtlasData;
+import com.dragonbones.model.TextureData;
+import com.dragonbones.util.Array;
+import com.dragonbones.util.StreamUtil;
+import com.dragonbones.util.json.JSON;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Consumer;
+
+/**
+ * Factory without a display engine, for tests of the runtime.
+ */
+public class TestFactory extends BaseFactory {
+    public static class TestSlot extends Slot {
+        public int transformUpdateCount = 0;
+        /**
+         * Last rendered display, color and mesh vertices.
+         */
+        @Nullable
+        public Object renderedDisplay = null;
+        public float renderedAlpha = 1f;
+        public float[] renderedVertices = new float[0];
+
+        @Override
+        protected void _onClear() {
+            super._onClear();
+
+            this.transformUpdateCount = 0;
+            this.renderedDisplay = null;
+            this.renderedAlpha = 1f;
+            this.renderedVertices = new float[0];
+        }
+
+        protected void _initDisplay(Object value) {
+        }
+
+        protected void _disposeDisplay(Object value) {
+        }
+
+        protected void _onUpdateDisplay() {
+            this.renderedDisplay = this._display;
+        }
+
+        protected void _addDisplay() {
+        }
+
+        protected void _replaceDisplay(Object value) {
+        }
+
+        protected void _removeDisplay() {
+        }
+
+        protected void _updateZOrder() {
+        }
+
+        public void _updateVisible() {
+        }
+
+        protected void _updateBlendMode() {
+        }
+
+        protected void _updateColor() {
+            this.renderedAlpha = this._colorTransform.alphaMultiplier;
+        }
+
+        protected void _updateFrame() {
+        }
+
+        protected void _updateMesh() {
+            this.renderedVertices = new float[this._ffdVertices.size()];
+            for (int i = 0; i < this.renderedVertices.length; ++i) {
+                this.renderedVertices[i] = this._ffdVertices.get(i);
+            }
+        }
+
+        protected void _updateTransform(boolean isSkinnedMesh) {
+            this.transformUpdateCount++;
+        }
+    }
+
+    public static class TestTextureData extends TextureData {
+    }
+
+    public static class TestTextureAtlasData extends TextureAtlasData {
+        public TextureData createTexture() {
+            return BaseObject.borrowObject(TestTextureData.class);
+        }
+    }
+
+    public static class TestArmatureProxy implements IArmatureProxy {
+        private Armature _armature;
+
+        public void init(Armature armature) {
+            this._armature = armature;
+        }
+
+        public void clear() {
+            this._armature = null;
+        }
+
+        public void dispose(boolean disposeProxy) {
+        }
+
+        public void debugUpdate(boolean isEnabled) {
+        }
+
+        public Armature getArmature() {
+            return this._armature;
+        }
+
+        public Animation getAnimation() {
+            return this._armature.getAnimation();
+        }
+
+        public void _dispatchEvent(EventStringType type, EventObject eventObject) {
+        }
+
+        public boolean hasEvent(EventStringType type) {
+            return false;
+        }
+
+        public void addEvent(EventStringType type, Consumer<Object> listener, Object target) {
+        }
+
+        public void removeEvent(EventStringType type, Consumer<Object> listener, Object target) {
+        }
+    }
+
+    public TestFactory() {
+        this._dragonBones = new DragonBones(new TestArmatureProxy());
+    }
+
+    /**
+     * Factory with the Dragon test data.
+     */
+    public static TestFactory createDragon() {
+        TestFactory factory = new TestFactory();
+        factory.parseDragonBonesData(JSON.parse(StreamUtil.getResourceBytes("Dragon/Dragon_ske.json")));
+        factory.parseTextureAtlasData(JSON.parse(StreamUtil.getResourceBytes("Dragon/Dragon_tex.json")), null);
+        return factory;
+    }
+
+    public DragonBones getDragonBones() {
+        return this._dragonBones;
+    }
+
+    protected TextureAtlasData _buildTextureAtlasData(@Nullable TextureAtlasData textureAtlasData, Object textureAtlas) {
+        return textureAtlasData != null ? textureAtlasData : BaseObject.borrowObject(TestTextureAtlasData.class);
+    }
+
+    protected Armature _buildArmature(BuildArmaturePackage dataPackage) {
+        Armature armature = BaseObject.borrowObject(Armature.class);
+        armature.init(dataPackage.armature, new TestArmatureProxy(), new Object(), this._dragonBones);
+        return armature;
+    }
+
+    protected Slot _buildSlot(BuildArmaturePackage dataPackage, SlotData slotData, Array<DisplayData> displays, Armature armature) {
+        TestSlot slot = BaseObject.borrowObject(TestSlot.class);
+        slot.init(slotData, displays, new Object(), new Object());
+        return slot;
+    }
+}
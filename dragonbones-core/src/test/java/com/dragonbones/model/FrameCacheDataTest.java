@@ -0,0 +1,114 @@
+package com.dragonbones.model;
+
+import com.dragonbones.geom.Matrix;
+import com.dragonbones.geom.Transform;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class FrameCacheDataTest {
+    private static FrameCacheData createFrameCache(int frameCount, int entryCount) {
+        FrameCacheData frameCache = new FrameCacheData(24f, frameCount, entryCount - 1, 1);
+        Random random = new Random(1);
+        Matrix matrix = new Matrix();
+        Transform transform = new Transform();
+        for (int i = 0; i < frameCount; ++i) {
+            if (i % 3 == 2) { // Not cached.
+                continue;
+            }
+
+            for (int entry = 0; entry < entryCount; ++entry) {
+                transform.x = random.nextFloat() * 400f - 200f;
+                transform.y = random.nextFloat() * 400f - 200f;
+                transform.rotation = random.nextFloat() * 6f - 3f;
+                transform.skew = random.nextFloat() * 0.2f;
+                transform.scaleX = random.nextFloat() * 2f;
+                transform.scaleY = random.nextFloat() * 2f;
+                transform.toMatrix(matrix);
+
+                frameCache.setFrameIndex(i, entry, frameCache.setCacheFrame(i, entry, matrix, transform));
+            }
+
+            frameCache.setCached(i);
+        }
+
+        return frameCache;
+    }
+
+    @Test
+    public void quantize() {
+        float errorBound = 0.01f;
+        FrameCacheData frameCache = createFrameCache(30, 6);
+        FrameCacheData quantizedFrameCache = frameCache.quantize(errorBound);
+        assertNotNull(quantizedFrameCache);
+        assertTrue(quantizedFrameCache.isQuantized());
+        assertTrue(quantizedFrameCache.getMemorySize() < frameCache.getMemorySize());
+        assertNull(quantizedFrameCache.quantize(errorBound));
+
+        Matrix matrix = new Matrix(), quantizedMatrix = new Matrix();
+        Transform transform = new Transform(), quantizedTransform = new Transform();
+        for (int i = 0; i < frameCache.frameCount; ++i) {
+            assertEquals(frameCache.isCached(i), quantizedFrameCache.isCached(i));
+            for (int entry = 0; entry < 6; ++entry) {
+                int index = frameCache.getFrameIndex(i, entry);
+                int quantizedIndex = quantizedFrameCache.getFrameIndex(i, entry);
+                assertEquals(index < 0, quantizedIndex < 0);
+                if (index < 0) {
+                    continue;
+                }
+
+                frameCache.getCacheFrame(matrix, transform, index);
+                quantizedFrameCache.getCacheFrame(quantizedMatrix, quantizedTransform, quantizedIndex);
+                assertEquals(matrix.a, quantizedMatrix.a, errorBound);
+                assertEquals(matrix.b, quantizedMatrix.b, errorBound);
+                assertEquals(matrix.c, quantizedMatrix.c, errorBound);
+                assertEquals(matrix.d, quantizedMatrix.d, errorBound);
+                assertEquals(matrix.tx, quantizedMatrix.tx, errorBound);
+                assertEquals(matrix.ty, quantizedMatrix.ty, errorBound);
+                assertEquals(transform.rotation, quantizedTransform.rotation, errorBound);
+                assertEquals(transform.skew, quantizedTransform.skew, errorBound);
+                assertEquals(transform.scaleX, quantizedTransform.scaleX, errorBound);
+                assertEquals(transform.scaleY, quantizedTransform.scaleY, errorBound);
+            }
+        }
+    }
+
+    @Test
+    public void quantizeOutOfBound() {
+        FrameCacheData frameCache = createFrameCache(30, 6);
+        assertNull(frameCache.quantize(1e-6f)); // Coordinate range 400 / 65535 > 1e-6.
+    }
+
+    @Test
+    public void claim() {
+        FrameCacheData frameCache = new FrameCacheData(24f, 4, 2, 1);
+        Matrix matrix = new Matrix();
+        Transform transform = new Transform();
+        matrix.tx = 10f;
+
+        int index = frameCache.setCacheFrame(1, 0, matrix, transform);
+        assertTrue(index >= 0);
+        assertTrue(frameCache.getFrameIndex(1, 0) < 0); // Not published yet.
+        assertEquals(-1, frameCache.setCacheFrame(1, 0, matrix, transform)); // Claimed by the first writer.
+
+        int otherIndex = frameCache.setCacheFrame(0, 0, matrix, transform);
+        assertTrue(frameCache.setFrameIndex(0, 0, otherIndex));
+        assertFalse(frameCache.setFrameIndex(1, 0, otherIndex)); // Data of another frame, being written.
+
+        assertTrue(frameCache.setFrameIndex(1, 0, index));
+        assertEquals(index, frameCache.getFrameIndex(1, 0));
+        assertEquals(-1, frameCache.setCacheFrame(1, 0, matrix, transform)); // Published.
+        assertTrue(frameCache.setFrameIndex(1, 0, otherIndex)); // Already published, not replaced.
+        assertEquals(index, frameCache.getFrameIndex(1, 0));
+
+        Matrix result = new Matrix();
+        frameCache.getCacheFrame(result, new Transform(), index);
+        assertEquals(10f, result.tx, 0f);
+    }
+}
@@ -1,12 +1,51 @@
 package com.dragonbones.parser;
 
+import com.dragonbones.factory.TestFactory;
+import com.dragonbones.model.AnimationData;
+import com.dragonbones.model.ArmatureData;
 import com.dragonbones.model.DragonBonesData;
+import com.dragonbones.util.FloatArray;
+import com.dragonbones.util.IntArray;
 import com.dragonbones.util.StreamUtil;
+import com.dragonbones.util.buffer.ArrayBuffer;
+import com.dragonbones.util.json.JSON;
+import com.dragonbones.util.json.JSONReader;
 import org.junit.Test;
 
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 public class DataParserTest {
+    private static void assertArray(String name, IntArray expected, IntArray actual) {
+        assertEquals(name, expected.size(), actual.size());
+        for (int i = 0, l = expected.size(); i < l; ++i) {
+            assertEquals(name + " " + i, expected.get(i), actual.get(i));
+        }
+    }
+
+    private static void assertArray(String name, FloatArray expected, FloatArray actual) {
+        assertEquals(name, expected.size(), actual.size());
+        for (int i = 0, l = expected.size(); i < l; ++i) {
+            assertEquals(name + " " + i, expected.get(i), actual.get(i), 0f);
+        }
+    }
+
+    private static void assertSameArrays(DragonBonesData expected, DragonBonesData actual) {
+        assertArray("intArray", expected.intArray, actual.intArray);
+        assertArray("floatArray", expected.floatArray, actual.floatArray);
+        assertArray("frameIntArray", expected.frameIntArray, actual.frameIntArray);
+        assertArray("frameFloatArray", expected.frameFloatArray, actual.frameFloatArray);
+        assertArray("frameArray", expected.frameArray, actual.frameArray);
+        assertArray("timelineArray", expected.timelineArray, actual.timelineArray);
+        assertArray("frameIndices", expected.frameIndices, actual.frameIndices);
+    }
+
     @Test
     public void name() throws Exception {
         DragonBonesData data = DataParser.parseDragonBonesDataJson(
@@ -14,4 +53,168 @@ public class DataParserTest {
         );
         System.out.println(data);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void reader() throws Exception {
+        String json = StreamUtil.getResourceString("Dragon/Dragon_ske.json", StandardCharsets.UTF_8);
+        DragonBonesData data = new ObjectDataParser().parseDragonBonesData(JSON.parse(json), 1f);
+        DragonBonesData readerData = new ObjectDataParser().parseDragonBonesData(new JSONReader(json), 1f);
+        assertSameArrays(data, readerData);
+
+        ArmatureData armature = data.getArmature("Dragon");
+        ArmatureData readerArmature = readerData.getArmature("Dragon");
+        for (String animationName : armature.animationNames) {
+            AnimationData animation = armature.getAnimation(animationName);
+            AnimationData readerAnimation = readerArmature.getAnimation(animationName);
+            assertEquals(animationName, animation.frameOffset, readerAnimation.frameOffset);
+            assertEquals(animationName, animation.frameIntOffset, readerAnimation.frameIntOffset);
+            assertEquals(animationName, animation.frameFloatOffset, readerAnimation.frameFloatOffset);
+        }
+    }
+
+    @Test
+    public void binary() throws Exception {
+        ArrayBuffer buffer = ArrayBuffer.map(Paths.get(ClassLoader.getSystemResource("Dragon/Dragon_ske.dbbin").toURI()));
+        DragonBonesData data = DataParser.parseDragonBonesDataBinary(buffer);
+        assertNotNull(data);
+        assertNotNull(data.getArmature("Dragon"));
+    }
+
+    @Test
+    public void binaryCopy() throws Exception {
+        ArrayBuffer buffer = ArrayBuffer.map(Paths.get(ClassLoader.getSystemResource("Dragon/Dragon_ske.dbbin").toURI()));
+        DragonBonesData view = new BinaryDataParser().parseDragonBonesData(buffer, 1f);
+        BinaryDataParser parser = new BinaryDataParser();
+        parser.setCopyArrays(true);
+        DragonBonesData copy = parser.parseDragonBonesData(buffer, 1f);
+        assertEquals(view.frameFloatArray.size(), copy.frameFloatArray.size());
+        for (int i = 0, l = view.frameFloatArray.size(); i < l; ++i) {
+            assertEquals(view.frameFloatArray.get(i), copy.frameFloatArray.get(i), 0f);
+        }
+
+        assertEquals(view.timelineArray.size(), copy.timelineArray.size());
+        for (int i = 0, l = view.timelineArray.size(); i < l; ++i) {
+            assertEquals(view.timelineArray.get(i), copy.timelineArray.get(i));
+        }
+    }
+
+    @Test
+    public void parallelAnimations() throws Exception {
+        String json = StreamUtil.getResourceString("Dragon/Dragon_ske.json", StandardCharsets.UTF_8);
+        DragonBonesData data = new ObjectDataParser().parseDragonBonesData(JSON.parse(json), 1f);
+        ObjectDataParser parser = new ObjectDataParser();
+        parser.setAnimationExecutor(ForkJoinPool.commonPool());
+        DragonBonesData parallel = parser.parseDragonBonesData(JSON.parse(json), 1f);
+
+        ArmatureData armature = data.getArmature("Dragon");
+        ArmatureData parallelArmature = parallel.getArmature("Dragon");
+        assertEquals(armature.animationNames.size(), parallelArmature.animationNames.size());
+        for (int i = 0, l = armature.animationNames.size(); i < l; ++i) {
+            assertEquals(armature.animationNames.get(i), parallelArmature.animationNames.get(i));
+        }
+
+        assertSameArrays(data, parallel);
+    }
+
+    @Test
+    public void lazyAnimations() throws Exception {
+        String json = StreamUtil.getResourceString("Dragon/Dragon_ske.json", StandardCharsets.UTF_8);
+        DragonBonesData data = new ObjectDataParser().parseDragonBonesData(JSON.parse(json), 1f);
+        ObjectDataParser parser = new ObjectDataParser();
+        parser.setLazyAnimationParsing(true);
+        DragonBonesData lazy = parser.parseDragonBonesData(JSON.parse(json), 1f);
+        AnimationData animation = lazy.getArmature("Dragon").getAnimation("walk");
+        assertFalse(animation.isLoaded());
+        assertEquals(data.getArmature("Dragon").getAnimation("walk").frameCount, animation.frameCount);
+        assertEquals(0, lazy.frameArray.size());
+
+        animation.preload();
+        assertTrue(animation.isLoaded());
+        assertEquals(data.getArmature("Dragon").getAnimation("walk").boneTimelines.size(), animation.boneTimelines.size());
+
+        Throwable[] error = new Throwable[1]; // Bound to the thread of the first lazy animation.
+        Thread thread = new Thread(() -> {
+            try {
+                lazy.getArmature("Dragon").getAnimation("stand").preload();
+            } catch (Throwable e) {
+                error[0] = e;
+            }
+        });
+        thread.start();
+        thread.join();
+        assertTrue(error[0] instanceof IllegalStateException);
+
+        lazy.preloadAnimations();
+        assertEquals(data.frameFloatArray.size(), lazy.frameFloatArray.size());
+        assertEquals(data.frameArray.size(), lazy.frameArray.size());
+        assertEquals("intArray", data.intArray.size(), lazy.intArray.size());
+    }
+
+    @Test
+    public void lazyKeyFrameReducer() throws Exception {
+        String json = StreamUtil.getResourceString("Dragon/Dragon_ske.json", StandardCharsets.UTF_8);
+        ObjectDataParser parser = new ObjectDataParser();
+        parser.setKeyFrameTolerance(0.01f);
+        parser.parseDragonBonesData(JSON.parse(json), 1f);
+        KeyFrameReducer keyFrameReducer = parser.getKeyFrameReducer();
+
+        ObjectDataParser lazyParser = new ObjectDataParser();
+        lazyParser.setKeyFrameTolerance(0.01f);
+        lazyParser.setLazyAnimationParsing(true);
+        DragonBonesData lazy = lazyParser.parseDragonBonesData(JSON.parse(json), 1f);
+        KeyFrameReducer lazyKeyFrameReducer = lazyParser.getKeyFrameReducer();
+        assertEquals(0, lazyKeyFrameReducer.getKeyFrameCount());
+
+        lazy.preloadAnimations();
+        assertEquals(keyFrameReducer.getKeyFrameCount(), lazyKeyFrameReducer.getKeyFrameCount());
+        assertEquals(keyFrameReducer.getReducedKeyFrameCount(), lazyKeyFrameReducer.getReducedKeyFrameCount());
+    }
+
+    @Test
+    public void parseOptions() throws Exception {
+        String json = StreamUtil.getResourceString("Dragon/Dragon_ske.json", StandardCharsets.UTF_8);
+        ObjectDataParser parser = new ObjectDataParser();
+        parser.setLazyAnimationParsing(true);
+        DataParseTask task = parser.createParseTask(JSON.parse(json), 1f);
+        task.step(0L);
+        parser.setLazyAnimationParsing(false); // Applies to the next parse.
+        assertTrue(task.step(Long.MAX_VALUE));
+
+        DragonBonesData lazy = task.getDragonBonesData();
+        assertNotNull(lazy);
+        assertFalse(lazy.getArmature("Dragon").getAnimation("walk").isLoaded());
+
+        DragonBonesData data = parser.parseDragonBonesData(JSON.parse(json), 1f);
+        assertTrue(data.getArmature("Dragon").getAnimation("walk").isLoaded());
+
+        TestFactory factory = new TestFactory(); // Task parsers copy the options of the factory parser.
+        ((ObjectDataParser) factory.getDataParser()).setLazyAnimationParsing(true);
+        assertTrue(factory.createParseTask(JSON.parse(json), null, 1f).step(Long.MAX_VALUE));
+        assertFalse(factory.getDragonBonesData("Dragon").getArmature("Dragon").getAnimation("walk").isLoaded());
+    }
+
+    @Test
+    public void incrementalParse() throws Exception {
+        String json = StreamUtil.getResourceString("Dragon/Dragon_ske.json", StandardCharsets.UTF_8);
+        DragonBonesData data = new ObjectDataParser().parseDragonBonesData(JSON.parse(json), 1f);
+        DataParseTask task = new ObjectDataParser().createParseTask(JSON.parse(json), 1f);
+        int steps = 0;
+        float progress = 0f;
+        while (!task.step(0L)) {
+            assertTrue(task.getProgress() >= progress);
+            assertEquals(null, task.getDragonBonesData());
+            progress = task.getProgress();
+            steps++;
+        }
+
+        assertEquals(task.getUnitCount(), steps + 1);
+        assertEquals(1f, task.getProgress(), 0f);
+
+        DragonBonesData incremental = task.getDragonBonesData();
+        assertNotNull(incremental);
+        assertEquals(data.getArmature("Dragon").animationNames.size(), incremental.getArmature("Dragon").animationNames.size());
+        assertEquals(data.frameFloatArray.size(), incremental.frameFloatArray.size());
+        assertEquals(data.frameArray.size(), incremental.frameArray.size());
+        assertEquals(data.timelineArray.size(), incremental.timelineArray.size());
+    }
+}
@@ -0,0 +1,132 @@
+package com.dragonbones.parser;
+
+import com.dragonbones.armature.Armature;
+import com.dragonbones.armature.Bone;
+import com.dragonbones.armature.Slot;
+import com.dragonbones.core.BinaryOffset;
+import com.dragonbones.factory.TestFactory;
+import com.dragonbones.model.AnimationData;
+import com.dragonbones.model.ArmatureData;
+import com.dragonbones.model.DragonBonesData;
+import com.dragonbones.model.TimelineData;
+import com.dragonbones.util.Array;
+import com.dragonbones.util.StreamUtil;
+import com.dragonbones.util.json.JSON;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class KeyFrameReducerTest {
+    private static final float TOLERANCE = 0.01f;
+
+    private static TestFactory createFactory(KeyFrameReducer keyFrameReducer) {
+        TestFactory factory = new TestFactory();
+        DragonBonesData data = factory.parseDragonBonesData(JSON.parse(StreamUtil.getResourceBytes("Dragon/Dragon_ske.json")));
+        if (keyFrameReducer != null) {
+            keyFrameReducer.reduce(data);
+        }
+
+        return factory;
+    }
+
+    private static float getAngleDifference(float a, float b) {
+        float difference = (a - b) % (float) (Math.PI * 2.0);
+        if (difference > Math.PI) {
+            difference -= Math.PI * 2.0;
+        } else if (difference < -Math.PI) {
+            difference += Math.PI * 2.0;
+        }
+
+        return Math.abs(difference);
+    }
+
+    private static void assertFrameIndices(DragonBonesData data, AnimationData animationData, TimelineData timelineData) {
+        int keyFrameCount = data.timelineArray.get(timelineData.offset + BinaryOffset.TimelineKeyFrameCount.v);
+        if (keyFrameCount <= 1) {
+            assertTrue(timelineData.frameIndicesOffset < 0);
+            return;
+        }
+
+        int keyFrameIndex = 0;
+        for (int i = 0; i <= animationData.frameCount; ++i) {
+            while (keyFrameIndex + 1 < keyFrameCount) { // Last key frame at or before the frame.
+                int frameOffset = animationData.frameOffset + data.timelineArray.get(timelineData.offset + BinaryOffset.TimelineFrameOffset.v + keyFrameIndex + 1);
+                if (data.frameArray.get(frameOffset + BinaryOffset.FramePosition.v) > i) {
+                    break;
+                }
+
+                keyFrameIndex++;
+            }
+
+            assertEquals(animationData.name + " " + i, keyFrameIndex, data.frameIndices.get(timelineData.frameIndicesOffset + i));
+        }
+    }
+
+    @Test
+    public void keyFrameCount() {
+        KeyFrameReducer keyFrameReducer = new KeyFrameReducer(TOLERANCE);
+        createFactory(keyFrameReducer);
+
+        assertEquals(402, keyFrameReducer.getKeyFrameCount());
+        assertEquals(248, keyFrameReducer.getReducedKeyFrameCount());
+        assertEquals(23912, keyFrameReducer.getByteCount());
+        assertEquals(17636, keyFrameReducer.getReducedByteCount());
+    }
+
+    @Test
+    public void frameIndices() {
+        TestFactory factory = createFactory(new KeyFrameReducer(TOLERANCE));
+        DragonBonesData data = factory.getDragonBonesData("Dragon");
+        ArmatureData armatureData = data.getArmature("Dragon");
+        for (String animationName : armatureData.animationNames) {
+            AnimationData animationData = armatureData.getAnimation(animationName);
+            for (Array<TimelineData> timelines : animationData.boneTimelines.values()) {
+                for (TimelineData timelineData : timelines) {
+                    assertFrameIndices(data, animationData, timelineData);
+                }
+            }
+
+            for (Array<TimelineData> timelines : animationData.slotTimelines.values()) {
+                for (TimelineData timelineData : timelines) {
+                    assertFrameIndices(data, animationData, timelineData);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void samePose() {
+        TestFactory factory = createFactory(null);
+        TestFactory reducedFactory = createFactory(new KeyFrameReducer(TOLERANCE));
+        Armature armature = factory.buildArmature("Dragon");
+        Armature reducedArmature = reducedFactory.buildArmature("Dragon");
+
+        for (String animationName : armature.armatureData.animationNames) {
+            float duration = armature.armatureData.getAnimation(animationName).duration;
+            for (float time = 0f; time < duration; time += 1f / 240f) {
+                armature.getAnimation().gotoAndStopByTime(animationName, time);
+                reducedArmature.getAnimation().gotoAndStopByTime(animationName, time);
+                armature.advanceTime(0f);
+                reducedArmature.advanceTime(0f);
+
+                for (Bone bone : armature.getBones()) { // Local pose is sampled from the timelines.
+                    Bone reducedBone = reducedArmature.getBone(bone.name);
+                    String message = animationName + " " + time + " " + bone.name;
+                    assertEquals(message, bone.animationPose.x, reducedBone.animationPose.x, TOLERANCE);
+                    assertEquals(message, bone.animationPose.y, reducedBone.animationPose.y, TOLERANCE);
+                    assertTrue(message, getAngleDifference(bone.animationPose.rotation, reducedBone.animationPose.rotation) <= TOLERANCE);
+                    assertTrue(message, getAngleDifference(bone.animationPose.skew, reducedBone.animationPose.skew) <= TOLERANCE);
+                    assertEquals(message, bone.animationPose.scaleX, reducedBone.animationPose.scaleX, TOLERANCE);
+                    assertEquals(message, bone.animationPose.scaleY, reducedBone.animationPose.scaleY, TOLERANCE);
+                }
+
+                for (Slot slot : armature.getSlots()) {
+                    Slot reducedSlot = reducedArmature.getSlot(slot.name);
+                    assertEquals(slot.getDisplayIndex(), reducedSlot.getDisplayIndex());
+                    assertEquals(slot._colorTransform.alphaMultiplier, reducedSlot._colorTransform.alphaMultiplier, TOLERANCE);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.dragonbones.util.json;
+
+import com.dragonbones.util.StreamUtil;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class JSONReaderTest {
+    @Test
+    public void tokens() throws Exception {
+        JSONReader reader = new JSONReader("{\"a\":[1,-2.5e1,true,null],\"b\":\"\\u00e9\"}".getBytes(StandardCharsets.UTF_8));
+        assertEquals(JSONReader.BEGIN_OBJECT, reader.next());
+        assertEquals(JSONReader.NAME, reader.next());
+        assertTrue(reader.isString("a"));
+        assertEquals(JSONReader.BEGIN_ARRAY, reader.next());
+        assertEquals(JSONReader.NUMBER, reader.next());
+        assertEquals(1, reader.getInt());
+        assertEquals(JSONReader.NUMBER, reader.next());
+        assertEquals(-25.0, reader.getDouble(), 0.0);
+        assertEquals(JSONReader.TRUE, reader.next());
+        assertEquals(JSONReader.NULL, reader.next());
+        assertEquals(JSONReader.END_ARRAY, reader.next());
+        assertEquals(JSONReader.NAME, reader.next());
+        assertEquals("b", reader.getString());
+        assertEquals(JSONReader.STRING, reader.next());
+        assertEquals("\u00e9", reader.getString());
+        assertEquals(JSONReader.END_OBJECT, reader.next());
+        assertEquals(JSONReader.END_DOCUMENT, reader.next());
+    }
+
+    @Test
+    public void skipValue() throws Exception {
+        JSONReader reader = new JSONReader("{\"a\":{\"b\":[1,[2]]},\"c\":3}");
+        reader.next();
+        reader.next();
+        reader.skipValue();
+        assertEquals(JSONReader.NAME, reader.next());
+        assertTrue(reader.isString("c"));
+    }
+
+    @Test
+    public void seek() throws Exception {
+        JSONReader reader = new JSONReader("{\"a\": [1, 2], \"b\": 3}");
+        reader.next();
+        reader.next();
+        int offset = reader.getOffset();
+        reader.skipValue();
+        assertEquals(JSONReader.NAME, reader.next());
+        reader.seek(offset);
+        assertEquals(JSONReader.BEGIN_ARRAY, reader.next());
+        assertEquals(JSONReader.NUMBER, reader.next());
+        assertEquals(1, reader.getInt());
+        assertEquals(JSONReader.NUMBER, reader.next());
+        assertEquals(JSONReader.END_ARRAY, reader.next());
+    }
+
+    @Test
+    public void bytes() throws Exception {
+        JSON.parse(StreamUtil.getResourceBytes("NewDragon/NewDragon.json"));
+        JSON.parse(StreamUtil.getResourceBytes("Dragon/Dragon_ske.json"));
+    }
+}
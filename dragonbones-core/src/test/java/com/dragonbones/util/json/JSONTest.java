@@ -5,6 +5,8 @@ import org.junit.Test;
 
 import java.nio.charset.StandardCharsets;
 
+import static org.junit.Assert.assertEquals;
+
 public class JSONTest {
     @Test
     public void name() throws Exception {
@@ -28,4 +30,16 @@ public class JSONTest {
         JSON.parse(StreamUtil.getResourceString("NewDragon/NewDragon.json", StandardCharsets.UTF_8));
         //System.out.println();
     }
+
+    @Test
+    public void stringify() throws Exception {
+        assertEquals("[true,false,null]", JSON.stringify(JSON.parse("[true,false,null]")));
+        assertEquals("[1,-2.5,0.1,\"a\\\"b\\n\"]", JSON.stringify(JSON.parse("[1, -2.5, 0.1, \"a\\\"b\\n\"]")));
+        assertEquals("{\"a\":[[]]}", JSON.stringify(JSON.parse("{ \"a\" : [ [ ] ] }")));
+        assertEquals(0.1f, ((Number) JSON.parse(JSON.stringify(0.1f))).floatValue(), 0f);
+
+        String json = StreamUtil.getResourceString("Dragon/Dragon_ske.json", StandardCharsets.UTF_8);
+        String text = JSON.stringify(JSON.parse(json));
+        assertEquals(text, JSON.stringify(JSON.parse(text)));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,451 @@
+package com.dragonbones.tools;
+
+import com.dragonbones.model.*;
+import com.dragonbones.parser.ObjectDataParser;
+import com.dragonbones.util.*;
+import com.dragonbones.util.json.JSON;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.dragonbones.util.Dynamic.*;
+
+/**
+ * 将 JSON 格式的龙骨数据转换为 BinaryDataParser 可以解析的二进制数据 (DBBin)。
+ * 使用 ObjectDataParser 解析数据，头信息保留原始数据中的骨骼、插槽和皮肤等结构，网格、多边形包围盒和动画替换为二进制数组中的偏移。
+ * 转换时可以指定精简关键帧允许的最大误差，不使用延迟解析。
+ *
+ * @version DragonBones 5.1
+ * @language zh_CN
+ * @see DBBinVerifier
+ */
+public class DBBinConverter {
+    private static final byte[] TAG = new byte[]{'D', 'B', 'D', 'T', 0, 0, 0, 1};
+
+    private static final String ARMATURE = "armature";
+    private static final String BONE = "bone";
+    private static final String SLOT = "slot";
+    private static final String SKIN = "skin";
+    private static final String DISPLAY = "display";
+    private static final String ANIMATION = "animation";
+    private static final String ACTIONS = "actions";
+    private static final String ACTION = "action";
+    private static final String Z_ORDER = "zOrder";
+    private static final String NAME = "name";
+    private static final String TYPE = "type";
+    private static final String SHARE = "share";
+    private static final String OFFSET = "offset";
+    private static final String COUNT = "count";
+    private static final String DURATION = "duration";
+    private static final String PLAY_TIMES = "playTimes";
+    private static final String FADE_IN_TIME = "fadeInTime";
+    private static final String SCALE = "scale";
+    private static final String INTS = "ints";
+    private static final String FLOATS = "floats";
+    private static final String STRINGS = "strings";
+    private static final String DEFAULT_NAME = "default";
+    private static final String[] MESH_KEYS = new String[]{
+            "vertices", "uvs", "triangles", "weights", "slotPose", "bonePose", "edges", "userEdges"
+    };
+
+    private DBBinConverter() {
+    }
+
+    /**
+     * 转换 JSON 格式的龙骨数据。
+     *
+     * @param rawData JSON 数据对象。 (不会被修改)
+     * @returns 二进制数据。
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public static byte[] convert(Object rawData) {
+        return DBBinConverter.convert(rawData, 0f);
+    }
+
+    /**
+     * 转换 JSON 格式的龙骨数据并精简关键帧。
+     *
+     * @param rawData           JSON 数据对象。 (不会被修改)
+     * @param keyFrameTolerance 精简关键帧允许的最大误差。 (0 表示不精简)
+     * @returns 二进制数据。
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see ObjectDataParser#setKeyFrameTolerance(float)
+     */
+    public static byte[] convert(Object rawData, float keyFrameTolerance) {
+        DragonBonesData data = DBBinConverter.parse(rawData, keyFrameTolerance);
+        try {
+            Map<String, Object> header = DBBinConverter._castMap(DBBinConverter._copy(rawData));
+            if (in(header, ARMATURE)) {
+                Array<Object> rawArmatures = getArray(header, ARMATURE);
+                for (Object rawArmature : rawArmatures) {
+                    ArmatureData armature = data.getArmature(getString(rawArmature, NAME, ""));
+                    if (armature != null) {
+                        DBBinConverter._convertArmature(DBBinConverter._castMap(rawArmature), armature);
+                    }
+                }
+            }
+
+            Object[] arrays = new Object[]{
+                    data.intArray, data.floatArray, data.frameIntArray, data.frameFloatArray, data.frameArray, data.timelineArray
+            };
+            IntArray offsets = new IntArray();
+            int byteLength = 0;
+            for (Object array : arrays) {
+                int arrayByteLength = DBBinConverter._getByteLength(array);
+                offsets.push(byteLength);
+                offsets.push(arrayByteLength);
+                byteLength += DBBinConverter._align(arrayByteLength);
+            }
+
+            header.put(OFFSET, offsets);
+
+            byte[] headerBytes = JSON.stringify(header).getBytes(StandardCharsets.UTF_8);
+            int headerLength = DBBinConverter._align(TAG.length + 4 + headerBytes.length) - TAG.length - 4; // Align arrays.
+            ByteBuffer buffer = ByteBuffer.allocate(TAG.length + 4 + headerLength + byteLength).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.put(TAG);
+            buffer.putInt(headerLength);
+            buffer.put(headerBytes);
+            for (int i = headerBytes.length; i < headerLength; ++i) {
+                buffer.put((byte) ' ');
+            }
+
+            int binaryOffset = buffer.position();
+            for (int i = 0; i < arrays.length; ++i) {
+                buffer.position(binaryOffset + offsets.get(i * 2));
+                DBBinConverter._writeArray(buffer, arrays[i]);
+            }
+
+            return buffer.array();
+        } finally {
+            data.returnToPool();
+        }
+    }
+
+    /**
+     * 转换 JSON 格式的龙骨数据文件。
+     *
+     * @param input  JSON 文件。
+     * @param output 二进制数据文件。
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public static void convert(Path input, Path output) throws IOException {
+        Files.write(output, DBBinConverter.convert(JSON.parse(Files.readAllBytes(input))));
+    }
+
+    /**
+     * 使用与转换时相同的设置解析 JSON 格式的龙骨数据。
+     *
+     * @private
+     */
+    static DragonBonesData parse(Object rawData, float keyFrameTolerance) {
+        ObjectDataParser parser = new ObjectDataParser(); // Not lazy, timelines must be written to the arrays.
+        parser.setKeyFrameTolerance(keyFrameTolerance);
+        DragonBonesData data = parser.parseDragonBonesData(rawData, 1f);
+        if (data == null) {
+            throw new IllegalArgumentException("Nonsupport data version.");
+        }
+
+        return data;
+    }
+
+    private static void _convertArmature(Map<String, Object> rawArmature, ArmatureData armature) {
+        if (in(rawArmature, BONE)) { // Binary weights index bones in sorted order.
+            Map<String, Object> rawBones = new HashMap<>();
+            for (Object rawBone : getArray(rawArmature, BONE)) {
+                rawBones.put(getString(rawBone, NAME, ""), rawBone);
+            }
+
+            Array<Object> sortedBones = new Array<>();
+            for (BoneData bone : armature.sortedBones) {
+                sortedBones.push(rawBones.get(bone.name));
+            }
+
+            rawArmature.put(BONE, sortedBones);
+        }
+
+        if (in(rawArmature, SKIN)) {
+            for (Object rawSkin : getArray(rawArmature, SKIN)) {
+                String skinName = getString(rawSkin, NAME, DEFAULT_NAME);
+                SkinData skin = armature.getSkin(skinName.length() > 0 ? skinName : DEFAULT_NAME);
+                if (skin == null || !in(rawSkin, SLOT)) {
+                    continue;
+                }
+
+                for (Object rawSlot : getArray(rawSkin, SLOT)) {
+                    Array<DisplayData> displays = skin.getDisplays(getString(rawSlot, NAME, ""));
+                    if (displays == null || !in(rawSlot, DISPLAY)) {
+                        continue;
+                    }
+
+                    Array<Object> rawDisplays = getArray(rawSlot, DISPLAY);
+                    for (int i = 0, l = Math.min(rawDisplays.size(), displays.size()); i < l; ++i) {
+                        DBBinConverter._convertDisplay(DBBinConverter._castMap(rawDisplays.get(i)), displays.get(i));
+                    }
+                }
+            }
+        }
+
+        if (in(rawArmature, ANIMATION)) {
+            Array<Object> rawAnimations = getArray(rawArmature, ANIMATION);
+            for (int i = 0, l = rawAnimations.size(); i < l; ++i) {
+                String animationName = getString(rawAnimations.get(i), NAME, DEFAULT_NAME);
+                AnimationData animation = armature.getAnimation(animationName.length() > 0 ? animationName : DEFAULT_NAME);
+                if (animation != null) {
+                    rawAnimations.set(i, DBBinConverter._convertAnimation(animation));
+                }
+            }
+        }
+
+        // Timeline actions are appended to the armature actions, the raw actions are parsed after them.
+        rawArmature.remove(ACTIONS);
+        if (armature.actions.size() > 0) {
+            Array<Object> rawActions = new Array<>();
+            for (ActionData action : armature.actions) {
+                rawActions.push(DBBinConverter._convertAction(action));
+            }
+
+            rawArmature.put(ACTIONS, rawActions);
+        }
+    }
+
+    private static void _convertDisplay(Map<String, Object> rawDisplay, @Nullable DisplayData display) {
+        if (display instanceof MeshDisplayData) {
+            if (!in(rawDisplay, SHARE)) {
+                for (String key : MESH_KEYS) {
+                    rawDisplay.remove(key);
+                }
+
+                rawDisplay.put(OFFSET, ((MeshDisplayData) display).offset);
+            }
+        } else if (display instanceof BoundingBoxDisplayData) {
+            BoundingBoxData boundingBox = ((BoundingBoxDisplayData) display).boundingBox;
+            if (boundingBox instanceof PolygonBoundingBoxData) {
+                PolygonBoundingBoxData polygonBoundingBox = (PolygonBoundingBoxData) boundingBox;
+                rawDisplay.remove(MESH_KEYS[0]);
+                rawDisplay.put(OFFSET, polygonBoundingBox.offset);
+                rawDisplay.put(COUNT, polygonBoundingBox.count);
+            }
+        }
+    }
+
+    private static Map<String, Object> _convertAnimation(AnimationData animation) {
+        Map<String, Object> rawAnimation = new HashMap<>();
+        rawAnimation.put(NAME, animation.name);
+        rawAnimation.put(DURATION, animation.frameCount);
+        rawAnimation.put(PLAY_TIMES, animation.playTimes);
+        rawAnimation.put(FADE_IN_TIME, animation.fadeInTime);
+        rawAnimation.put(SCALE, animation.scale);
+
+        IntArray offsets = new IntArray();
+        offsets.push(animation.frameIntOffset);
+        offsets.push(animation.frameFloatOffset);
+        offsets.push(animation.frameOffset);
+        rawAnimation.put(OFFSET, offsets);
+
+        if (animation.actionTimeline != null) {
+            rawAnimation.put(ACTION, animation.actionTimeline.offset);
+        }
+
+        if (animation.zOrderTimeline != null) {
+            rawAnimation.put(Z_ORDER, animation.zOrderTimeline.offset);
+        }
+
+        if (animation.boneTimelines.size() > 0) {
+            rawAnimation.put(BONE, DBBinConverter._convertTimelines(animation.boneTimelines));
+        }
+
+        if (animation.slotTimelines.size() > 0) {
+            rawAnimation.put(SLOT, DBBinConverter._convertTimelines(animation.slotTimelines));
+        }
+
+        return rawAnimation;
+    }
+
+    private static Map<String, Object> _convertTimelines(Map<String, Array<TimelineData>> timelines) {
+        Map<String, Object> rawTimelines = new HashMap<>();
+        for (Map.Entry<String, Array<TimelineData>> entry : timelines.entrySet()) {
+            IntArray rawTimeline = new IntArray();
+            for (TimelineData timeline : entry.getValue()) {
+                rawTimeline.push(timeline.type.v);
+                rawTimeline.push(timeline.offset);
+            }
+
+            rawTimelines.put(entry.getKey(), rawTimeline);
+        }
+
+        return rawTimelines;
+    }
+
+    private static Map<String, Object> _convertAction(ActionData action) {
+        Map<String, Object> rawAction = new HashMap<>();
+        rawAction.put(TYPE, action.type.name().toLowerCase());
+        rawAction.put(NAME, action.name);
+
+        if (action.bone != null) {
+            rawAction.put(BONE, action.bone.name);
+        }
+
+        if (action.slot != null) {
+            rawAction.put(SLOT, action.slot.name);
+        }
+
+        if (action.data != null) {
+            if (action.data.ints.size() > 0) {
+                rawAction.put(INTS, action.data.ints);
+            }
+
+            if (action.data.floats.size() > 0) {
+                rawAction.put(FLOATS, action.data.floats);
+            }
+
+            if (action.data.strings.size() > 0) {
+                rawAction.put(STRINGS, action.data.strings);
+            }
+        }
+
+        return rawAction;
+    }
+
+    private static Object _copy(Object value) {
+        if (value instanceof Map) {
+            Map<String, Object> map = new HashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                map.put(Objects.toString(entry.getKey()), DBBinConverter._copy(entry.getValue()));
+            }
+
+            return map;
+        }
+
+        if (value instanceof ArrayBase) {
+            ArrayBase<?> array = (ArrayBase<?>) value;
+            Array<Object> copy = new Array<>();
+            for (int i = 0, l = array.size(); i < l; ++i) {
+                copy.push(DBBinConverter._copy(array.getObject(i)));
+            }
+
+            return copy;
+        }
+
+        if (value instanceof List) {
+            Array<Object> copy = new Array<>();
+            for (Object item : (List<?>) value) {
+                copy.push(DBBinConverter._copy(item));
+            }
+
+            return copy;
+        }
+
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> _castMap(Object value) {
+        return (Map<String, Object>) value;
+    }
+
+    private static int _getByteLength(@Nullable Object array) {
+        if (array instanceof FloatArray) {
+            return ((FloatArray) array).size() * 4;
+        }
+
+        if (array instanceof ArrayBase) {
+            return ((ArrayBase<?>) array).size() * 2;
+        }
+
+        return 0;
+    }
+
+    private static void _writeArray(ByteBuffer buffer, @Nullable Object array) {
+        if (array instanceof FloatArray) {
+            FloatArray floatArray = (FloatArray) array;
+            for (int i = 0, l = floatArray.size(); i < l; ++i) {
+                buffer.putFloat(floatArray.get(i));
+            }
+        } else if (array instanceof ShortArray) {
+            ShortArray shortArray = (ShortArray) array;
+            for (int i = 0, l = shortArray.size(); i < l; ++i) {
+                int value = shortArray.get(i);
+                if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) { // Offsets of large data.
+                    throw new IllegalArgumentException("Data is too large for binary format, value " + value + " out of Int16 range.");
+                }
+
+                buffer.putShort((short) value);
+            }
+        } else if (array instanceof CharArray) {
+            CharArray charArray = (CharArray) array;
+            for (int i = 0, l = charArray.size(); i < l; ++i) {
+                int value = charArray.get(i);
+                if (value < Character.MIN_VALUE || value > Character.MAX_VALUE) {
+                    throw new IllegalArgumentException("Data is too large for binary format, value " + value + " out of Uint16 range.");
+                }
+
+                buffer.putChar((char) value);
+            }
+        }
+    }
+
+    private static int _align(int byteLength) {
+        return (byteLength + 3) & ~3;
+    }
+
+    /**
+     * 转换命令行中的 JSON 文件，输出到同一目录中的 .dbbin 文件。 (-verify 转换后比较解析的数据，转换失败或有差异时返回 1)
+     */
+    public static void main(String[] args) throws IOException {
+        boolean verify = false;
+        int failedCount = 0;
+        int fileCount = 0;
+        for (String arg : args) {
+            if (Objects.equals(arg, "-verify")) {
+                verify = true;
+                continue;
+            }
+
+            Path input = Paths.get(arg);
+            String fileName = input.getFileName().toString();
+            Path output = input.resolveSibling((fileName.endsWith(".json") ? fileName.substring(0, fileName.length() - 5) : fileName) + ".dbbin");
+            fileCount++;
+            try {
+                DBBinConverter.convert(input, output);
+            } catch (IllegalArgumentException e) {
+                System.out.println(input + " " + e.getMessage());
+                failedCount++;
+                continue;
+            }
+
+            System.out.println(input + " -> " + output);
+
+            if (verify) {
+                List<String> differences = DBBinVerifier.verify(input, output);
+                for (String difference : differences) {
+                    System.out.println("    " + difference);
+                }
+
+                if (differences.size() > 0) {
+                    failedCount++;
+                }
+            }
+        }
+
+        if (fileCount == 0) {
+            System.out.println("Usage: DBBinConverter [-verify] <name_ske.json>...");
+        }
+
+        if (failedCount > 0) {
+            System.exit(1);
+        }
+    }
+}
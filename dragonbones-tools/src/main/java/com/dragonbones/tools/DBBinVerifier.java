@@ -0,0 +1,377 @@
+package com.dragonbones.tools;
+
+import com.dragonbones.geom.ColorTransform;
+import com.dragonbones.geom.Transform;
+import com.dragonbones.model.*;
+import com.dragonbones.parser.BinaryDataParser;
+import com.dragonbones.util.Array;
+import com.dragonbones.util.ArrayBase;
+import com.dragonbones.util.json.JSON;
+import com.dragonbones.util.buffer.ArrayBuffer;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+
+/**
+ * 比较 JSON 数据和转换得到的二进制数据解析出的龙骨数据，包括骨架结构、显示对象、动作、动画、时间轴、帧索引和所有数据数组。
+ *
+ * @version DragonBones 5.1
+ * @language zh_CN
+ * @see DBBinConverter
+ */
+public class DBBinVerifier {
+    private final List<String> _differences = new ArrayList<>();
+
+    private DBBinVerifier() {
+    }
+
+    /**
+     * 比较 JSON 数据和二进制数据。
+     *
+     * @param rawData JSON 数据对象。
+     * @param binary  二进制数据。
+     * @returns 差异描述，没有差异时为空。
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public static List<String> verify(Object rawData, byte[] binary) {
+        return DBBinVerifier.verify(rawData, binary, 0f);
+    }
+
+    /**
+     * 比较 JSON 数据和使用指定误差精简关键帧后转换得到的二进制数据。
+     *
+     * @param rawData           JSON 数据对象。
+     * @param binary            二进制数据。
+     * @param keyFrameTolerance 转换时精简关键帧允许的最大误差。
+     * @returns 差异描述，没有差异时为空。
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see DBBinConverter#convert(Object, float)
+     */
+    public static List<String> verify(Object rawData, byte[] binary, float keyFrameTolerance) {
+        DragonBonesData expected = DBBinConverter.parse(rawData, keyFrameTolerance);
+        DragonBonesData actual = null;
+        try {
+            actual = new BinaryDataParser().parseDragonBonesData(new ArrayBuffer(binary), 1f);
+            if (actual == null) {
+                List<String> differences = new ArrayList<>();
+                differences.add("Nonsupport binary data.");
+                return differences;
+            }
+
+            return DBBinVerifier.compare(expected, actual);
+        } finally {
+            expected.returnToPool();
+            if (actual != null) {
+                actual.returnToPool();
+            }
+        }
+    }
+
+    /**
+     * 比较 JSON 文件和二进制数据文件。
+     *
+     * @version DragonBones 5.1
+     * @language zh_CN
+     * @see #verify(Object, byte[])
+     */
+    public static List<String> verify(Path json, Path binary) throws IOException {
+        return DBBinVerifier.verify(JSON.parse(Files.readAllBytes(json)), Files.readAllBytes(binary));
+    }
+
+    /**
+     * 比较两个龙骨数据。
+     *
+     * @returns 差异描述，没有差异时为空。
+     * @version DragonBones 5.1
+     * @language zh_CN
+     */
+    public static List<String> compare(DragonBonesData expected, DragonBonesData actual) {
+        DBBinVerifier verifier = new DBBinVerifier();
+        verifier._compareData(expected, actual);
+        return verifier._differences;
+    }
+
+    private boolean _check(String path, @Nullable Object expected, @Nullable Object actual) {
+        if (Objects.equals(expected, actual)) {
+            return true;
+        }
+
+        this._differences.add(path + ": expected " + expected + " but was " + actual);
+        return false;
+    }
+
+    private void _checkArray(String path, @Nullable ArrayBase<?> expected, @Nullable ArrayBase<?> actual) {
+        int expectedLength = expected != null ? expected.size() : 0;
+        int actualLength = actual != null ? actual.size() : 0;
+        if (!this._check(path + ".length", expectedLength, actualLength)) {
+            return;
+        }
+
+        for (int i = 0; i < expectedLength; ++i) {
+            if (!this._check(path + "[" + i + "]", expected.getObject(i), actual.getObject(i))) {
+                return; // First difference only.
+            }
+        }
+    }
+
+    @Nullable
+    private static String _getName(@Nullable BoneData value) {
+        return value != null ? value.name : null;
+    }
+
+    @Nullable
+    private static String _getName(@Nullable SlotData value) {
+        return value != null ? value.name : null;
+    }
+
+    private void _compareData(DragonBonesData expected, DragonBonesData actual) {
+        this._check("name", expected.name, actual.name);
+        this._check("frameRate", expected.frameRate, actual.frameRate);
+        this._checkArray("armatureNames", expected.armatureNames, actual.armatureNames);
+
+        this._checkArray("intArray", expected.intArray, actual.intArray);
+        this._checkArray("floatArray", expected.floatArray, actual.floatArray);
+        this._checkArray("frameIntArray", expected.frameIntArray, actual.frameIntArray);
+        this._checkArray("frameFloatArray", expected.frameFloatArray, actual.frameFloatArray);
+        this._checkArray("frameArray", expected.frameArray, actual.frameArray);
+        this._checkArray("timelineArray", expected.timelineArray, actual.timelineArray);
+
+        for (String armatureName : expected.armatureNames) {
+            ArmatureData actualArmature = actual.getArmature(armatureName);
+            if (this._check("armature " + armatureName, true, actualArmature != null)) {
+                this._compareArmature("armature " + armatureName, expected.getArmature(armatureName), actualArmature);
+            }
+        }
+    }
+
+    private void _compareArmature(String path, ArmatureData expected, ArmatureData actual) {
+        this._check(path + ".type", expected.type, actual.type);
+        this._check(path + ".frameRate", expected.frameRate, actual.frameRate);
+        this._check(path + ".scale", expected.scale, actual.scale);
+        this._check(path + ".aabb", expected.aabb.x + "," + expected.aabb.y + "," + expected.aabb.width + "," + expected.aabb.height, actual.aabb.x + "," + actual.aabb.y + "," + actual.aabb.width + "," + actual.aabb.height);
+        if (this._check(path + ".canvas", expected.canvas != null, actual.canvas != null) && expected.canvas != null) {
+            CanvasData a = expected.canvas, b = actual.canvas;
+            this._check(path + ".canvas", a.hasBackground + "," + a.color + "," + a.x + "," + a.y + "," + a.width + "," + a.height, b.hasBackground + "," + b.color + "," + b.x + "," + b.y + "," + b.width + "," + b.height);
+        }
+
+        if (this._check(path + ".sortedBones.length", expected.sortedBones.size(), actual.sortedBones.size())) {
+            for (int i = 0, l = expected.sortedBones.size(); i < l; ++i) {
+                this._compareBone(path + ".sortedBones[" + i + "]", expected.sortedBones.get(i), actual.sortedBones.get(i));
+            }
+        }
+
+        if (this._check(path + ".sortedSlots.length", expected.sortedSlots.size(), actual.sortedSlots.size())) {
+            for (int i = 0, l = expected.sortedSlots.size(); i < l; ++i) {
+                this._compareSlot(path + ".sortedSlots[" + i + "]", expected.sortedSlots.get(i), actual.sortedSlots.get(i));
+            }
+        }
+
+        this._check(path + ".skins", new TreeSet<>(expected.skins.keySet()), new TreeSet<>(actual.skins.keySet()));
+        for (Map.Entry<String, SkinData> entry : expected.skins.entrySet()) {
+            SkinData actualSkin = actual.getSkin(entry.getKey());
+            if (actualSkin != null) {
+                this._compareSkin(path + ".skin " + entry.getKey(), entry.getValue(), actualSkin);
+            }
+        }
+
+        this._check(path + ".defaultSkin", expected.defaultSkin != null ? expected.defaultSkin.name : null, actual.defaultSkin != null ? actual.defaultSkin.name : null);
+        this._compareActions(path + ".defaultActions", expected.defaultActions, actual.defaultActions);
+        this._compareActions(path + ".actions", expected.actions, actual.actions);
+
+        this._checkArray(path + ".animationNames", expected.animationNames, actual.animationNames);
+        this._check(path + ".defaultAnimation", expected.defaultAnimation != null ? expected.defaultAnimation.name : null, actual.defaultAnimation != null ? actual.defaultAnimation.name : null);
+        for (String animationName : expected.animationNames) {
+            AnimationData actualAnimation = actual.getAnimation(animationName);
+            if (actualAnimation != null) {
+                this._compareAnimation(path + ".animation " + animationName, expected.getAnimation(animationName), actualAnimation);
+            }
+        }
+    }
+
+    private void _compareTransform(String path, Transform expected, Transform actual) {
+        this._check(path, expected.toString(), actual.toString());
+    }
+
+    private void _compareBone(String path, BoneData expected, BoneData actual) {
+        this._check(path + ".name", expected.name, actual.name);
+        this._check(path + ".parent", DBBinVerifier._getName(expected.parent), DBBinVerifier._getName(actual.parent));
+        this._check(path + ".length", expected.length, actual.length);
+        this._check(path + ".inherit", "" + expected.inheritTranslation + expected.inheritRotation + expected.inheritScale + expected.inheritReflection, "" + actual.inheritTranslation + actual.inheritRotation + actual.inheritScale + actual.inheritReflection);
+        this._compareTransform(path + ".transform", expected.transform, actual.transform);
+
+        if (this._check(path + ".constraints.length", expected.constraints.size(), actual.constraints.size())) {
+            for (int i = 0, l = expected.constraints.size(); i < l; ++i) {
+                ConstraintData a = expected.constraints.get(i), b = actual.constraints.get(i);
+                String constraintPath = path + ".constraints[" + i + "]";
+                this._check(constraintPath + ".target", DBBinVerifier._getName(a.target), DBBinVerifier._getName(b.target));
+                this._check(constraintPath + ".bone", DBBinVerifier._getName(a.bone), DBBinVerifier._getName(b.bone));
+                this._check(constraintPath + ".root", DBBinVerifier._getName(a.root), DBBinVerifier._getName(b.root));
+                if (a instanceof IKConstraintData && b instanceof IKConstraintData) {
+                    IKConstraintData ikA = (IKConstraintData) a, ikB = (IKConstraintData) b;
+                    this._check(constraintPath + ".ik", ikA.bendPositive + "," + ikA.scaleEnabled + "," + ikA.weight, ikB.bendPositive + "," + ikB.scaleEnabled + "," + ikB.weight);
+                } else {
+                    this._check(constraintPath + ".class", a.getClass(), b.getClass());
+                }
+            }
+        }
+    }
+
+    private static String _toString(@Nullable ColorTransform value) {
+        if (value == null) {
+            return null;
+        }
+
+        return value.alphaMultiplier + "," + value.redMultiplier + "," + value.greenMultiplier + "," + value.blueMultiplier + "," +
+                value.alphaOffset + "," + value.redOffset + "," + value.greenOffset + "," + value.blueOffset;
+    }
+
+    private void _compareSlot(String path, SlotData expected, SlotData actual) {
+        this._check(path + ".name", expected.name, actual.name);
+        this._check(path + ".parent", DBBinVerifier._getName(expected.parent), DBBinVerifier._getName(actual.parent));
+        this._check(path + ".displayIndex", expected.displayIndex, actual.displayIndex);
+        this._check(path + ".zOrder", expected.zOrder, actual.zOrder);
+        this._check(path + ".blendMode", expected.blendMode, actual.blendMode);
+        this._check(path + ".color", DBBinVerifier._toString(expected.color), DBBinVerifier._toString(actual.color));
+    }
+
+    private void _compareSkin(String path, SkinData expected, SkinData actual) {
+        this._check(path + ".slots", new TreeSet<>(expected.displays.keySet()), new TreeSet<>(actual.displays.keySet()));
+        for (Map.Entry<String, Array<DisplayData>> entry : expected.displays.entrySet()) {
+            Array<DisplayData> actualDisplays = actual.getDisplays(entry.getKey());
+            String displaysPath = path + ".slot " + entry.getKey();
+            if (actualDisplays != null && this._check(displaysPath + ".length", entry.getValue().size(), actualDisplays.size())) {
+                for (int i = 0, l = actualDisplays.size(); i < l; ++i) {
+                    this._compareDisplay(displaysPath + "[" + i + "]", entry.getValue().get(i), actualDisplays.get(i));
+                }
+            }
+        }
+    }
+
+    private void _compareDisplay(String path, @Nullable DisplayData expected, @Nullable DisplayData actual) {
+        if (!this._check(path + ".class", expected != null ? expected.getClass() : null, actual != null ? actual.getClass() : null) || expected == null) {
+            return;
+        }
+
+        this._check(path + ".type", expected.type, actual.type);
+        this._check(path + ".name", expected.name, actual.name);
+        this._check(path + ".path", expected.path, actual.path);
+        this._compareTransform(path + ".transform", expected.transform, actual.transform);
+
+        if (expected instanceof ImageDisplayData) {
+            ImageDisplayData a = (ImageDisplayData) expected, b = (ImageDisplayData) actual;
+            this._check(path + ".pivot", a.pivot.x + "," + a.pivot.y, b.pivot.x + "," + b.pivot.y);
+        }
+
+        if (expected instanceof MeshDisplayData) {
+            MeshDisplayData a = (MeshDisplayData) expected, b = (MeshDisplayData) actual;
+            this._check(path + ".inheritAnimation", a.inheritAnimation, b.inheritAnimation);
+            this._check(path + ".offset", a.offset, b.offset);
+            this._compareWeight(path + ".weight", a.weight, b.weight);
+        } else if (expected instanceof ArmatureDisplayData) {
+            ArmatureDisplayData a = (ArmatureDisplayData) expected, b = (ArmatureDisplayData) actual;
+            this._check(path + ".inheritAnimation", a.inheritAnimation, b.inheritAnimation);
+            this._compareActions(path + ".actions", a.actions, b.actions);
+        } else if (expected instanceof BoundingBoxDisplayData) {
+            BoundingBoxData a = ((BoundingBoxDisplayData) expected).boundingBox, b = ((BoundingBoxDisplayData) actual).boundingBox;
+            if (this._check(path + ".boundingBox", a.getClass(), b.getClass())) {
+                this._check(path + ".boundingBox", a.type + "," + a.color + "," + a.width + "," + a.height, b.type + "," + b.color + "," + b.width + "," + b.height);
+                if (a instanceof PolygonBoundingBoxData) {
+                    PolygonBoundingBoxData polygonA = (PolygonBoundingBoxData) a, polygonB = (PolygonBoundingBoxData) b;
+                    this._check(path + ".boundingBox.vertices", polygonA.offset + "," + polygonA.count + "," + polygonA.x + "," + polygonA.y, polygonB.offset + "," + polygonB.count + "," + polygonB.x + "," + polygonB.y);
+                    this._compareWeight(path + ".boundingBox.weight", polygonA.weight, polygonB.weight);
+                }
+            }
+        }
+    }
+
+    private void _compareWeight(String path, @Nullable WeightData expected, @Nullable WeightData actual) {
+        if (!this._check(path, expected != null, actual != null) || expected == null) {
+            return;
+        }
+
+        this._check(path + ".count", expected.count, actual.count);
+        this._check(path + ".offset", expected.offset, actual.offset);
+        if (this._check(path + ".bones.length", expected.bones.size(), actual.bones.size())) {
+            for (int i = 0, l = expected.bones.size(); i < l; ++i) {
+                this._check(path + ".bones[" + i + "]", DBBinVerifier._getName(expected.bones.get(i)), DBBinVerifier._getName(actual.bones.get(i)));
+            }
+        }
+    }
+
+    private void _compareActions(String path, Array<ActionData> expected, Array<ActionData> actual) {
+        if (!this._check(path + ".length", expected.size(), actual.size())) {
+            return;
+        }
+
+        for (int i = 0, l = expected.size(); i < l; ++i) {
+            ActionData a = expected.get(i), b = actual.get(i);
+            String actionPath = path + "[" + i + "]";
+            this._check(actionPath + ".type", a.type, b.type);
+            this._check(actionPath + ".name", a.name, b.name);
+            this._check(actionPath + ".bone", DBBinVerifier._getName(a.bone), DBBinVerifier._getName(b.bone));
+            this._check(actionPath + ".slot", DBBinVerifier._getName(a.slot), DBBinVerifier._getName(b.slot));
+            if (this._check(actionPath + ".data", a.data != null, b.data != null) && a.data != null) {
+                this._checkArray(actionPath + ".data.ints", a.data.ints, b.data.ints);
+                this._checkArray(actionPath + ".data.floats", a.data.floats, b.data.floats);
+                this._checkArray(actionPath + ".data.strings", a.data.strings, b.data.strings);
+            }
+        }
+    }
+
+    private void _compareAnimation(String path, AnimationData expected, AnimationData actual) {
+        this._check(path + ".frameCount", expected.frameCount, actual.frameCount);
+        this._check(path + ".playTimes", expected.playTimes, actual.playTimes);
+        this._check(path + ".duration", expected.duration, actual.duration);
+        this._check(path + ".scale", expected.scale, actual.scale);
+        this._check(path + ".fadeInTime", expected.fadeInTime, actual.fadeInTime);
+        this._check(path + ".offsets", expected.frameIntOffset + "," + expected.frameFloatOffset + "," + expected.frameOffset, actual.frameIntOffset + "," + actual.frameFloatOffset + "," + actual.frameOffset);
+
+        this._compareTimeline(path + ".actionTimeline", expected, expected.actionTimeline, actual, actual.actionTimeline);
+        this._compareTimeline(path + ".zOrderTimeline", expected, expected.zOrderTimeline, actual, actual.zOrderTimeline);
+        this._compareTimelines(path + ".bone", expected, expected.boneTimelines, actual, actual.boneTimelines);
+        this._compareTimelines(path + ".slot", expected, expected.slotTimelines, actual, actual.slotTimelines);
+    }
+
+    private void _compareTimelines(String path, AnimationData expectedAnimation, Map<String, Array<TimelineData>> expected, AnimationData actualAnimation, Map<String, Array<TimelineData>> actual) {
+        this._check(path + " names", new TreeSet<>(expected.keySet()), new TreeSet<>(actual.keySet()));
+        for (Map.Entry<String, Array<TimelineData>> entry : expected.entrySet()) {
+            Array<TimelineData> actualTimelines = actual.get(entry.getKey());
+            String timelinesPath = path + " " + entry.getKey();
+            if (actualTimelines != null && this._check(timelinesPath + ".length", entry.getValue().size(), actualTimelines.size())) {
+                for (int i = 0, l = actualTimelines.size(); i < l; ++i) {
+                    this._compareTimeline(timelinesPath + "[" + i + "]", expectedAnimation, entry.getValue().get(i), actualAnimation, actualTimelines.get(i));
+                }
+            }
+        }
+    }
+
+    private void _compareTimeline(String path, AnimationData expectedAnimation, @Nullable TimelineData expected, AnimationData actualAnimation, @Nullable TimelineData actual) {
+        if (!this._check(path, expected != null, actual != null) || expected == null) {
+            return;
+        }
+
+        this._check(path + ".type", expected.type, actual.type);
+        this._check(path + ".offset", expected.offset, actual.offset);
+        this._check(path + ".isStatic", expected.isStatic, actual.isStatic);
+        if (!this._check(path + ".frameIndices", expected.frameIndicesOffset >= 0, actual.frameIndicesOffset >= 0) || expected.frameIndicesOffset < 0) {
+            return;
+        }
+
+        for (int i = 0, l = expectedAnimation.frameCount + 1; i < l; ++i) { // Frame indices are written in a different order.
+            int expectedIndex = expectedAnimation.parent.parent.frameIndices.get(expected.frameIndicesOffset + i);
+            int actualIndex = actualAnimation.parent.parent.frameIndices.get(actual.frameIndicesOffset + i);
+            if (!this._check(path + ".frameIndices[" + i + "]", expectedIndex, actualIndex)) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.dragonbones.tools;
+
+import com.dragonbones.model.DragonBonesData;
+import com.dragonbones.parser.DataParser;
+import com.dragonbones.util.StreamUtil;
+import com.dragonbones.util.buffer.ArrayBuffer;
+import com.dragonbones.util.json.JSON;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+public class DBBinConverterTest {
+    @Test
+    public void convert() throws Exception {
+        Object rawData = JSON.parse(StreamUtil.getResourceBytes("Dragon/Dragon_ske.json"));
+        byte[] binary = DBBinConverter.convert(rawData);
+
+        DragonBonesData data = DataParser.parseDragonBonesDataBinary(new ArrayBuffer(binary));
+        assertNotNull(data);
+        assertNotNull(data.getArmature("Dragon"));
+
+        List<String> differences = DBBinVerifier.verify(rawData, binary);
+        assertEquals(differences.toString(), 0, differences.size());
+    }
+}